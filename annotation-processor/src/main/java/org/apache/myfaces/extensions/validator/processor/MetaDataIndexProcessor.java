@@ -0,0 +1,344 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.myfaces.extensions.validator.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Creates META-INF/extval/meta-data-index.properties at build-time.
+ * The index lists the locations (getters, fields and getters of interfaces) of all annotations with
+ * {@link RetentionPolicy#RUNTIME} per property of the compiled classes. At runtime ExtVal just inspects the
+ * locations listed in the index (instead of scanning the whole class hierarchy via reflection) and skips
+ * properties without annotations completely.
+ * <p/>
+ * The format has to be in sync with org.apache.myfaces.extensions.validator.core.metadata.MetaDataIndex
+ *
+ * @since r7
+ */
+@SupportedAnnotationTypes("*")
+public class MetaDataIndexProcessor extends AbstractProcessor
+{
+    static final String INDEX_RESOURCE = "META-INF/extval/meta-data-index.properties";
+
+    //used by Properties#store and Properties#load
+    private static final String INDEX_ENCODING = "ISO-8859-1";
+
+    private static final String FIELD = "FIELD";
+    private static final String GETTER = "GETTER";
+    private static final String INTERFACE_GETTER = "INTERFACE_GETTER";
+
+    private final List<TypeElement> indexedTypes = new ArrayList<TypeElement>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion()
+    {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv)
+    {
+        if (roundEnv.processingOver())
+        {
+            writeIndex();
+        }
+        else
+        {
+            collectTypes(ElementFilter.typesIn(roundEnv.getRootElements()));
+        }
+
+        //never claim annotations
+        return false;
+    }
+
+    private void collectTypes(Iterable<TypeElement> types)
+    {
+        for (TypeElement typeElement : types)
+        {
+            if (typeElement.getKind() == ElementKind.CLASS)
+            {
+                this.indexedTypes.add(typeElement);
+            }
+
+            collectTypes(ElementFilter.typesIn(typeElement.getEnclosedElements()));
+        }
+    }
+
+    private void writeIndex()
+    {
+        if (this.indexedTypes.isEmpty())
+        {
+            return;
+        }
+
+        Properties index = new Properties();
+
+        for (TypeElement typeElement : this.indexedTypes)
+        {
+            addIndexEntries(typeElement, index);
+        }
+
+        try
+        {
+            FileObject indexFile = processingEnv.getFiler()
+                    .createResource(StandardLocation.CLASS_OUTPUT, "", INDEX_RESOURCE);
+
+            OutputStream outputStream = indexFile.openOutputStream();
+
+            try
+            {
+                storeIndex(index, outputStream);
+            }
+            finally
+            {
+                outputStream.close();
+            }
+        }
+        catch (IOException e)
+        {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                    "failed to create " + INDEX_RESOURCE + ": " + e.getMessage());
+        }
+    }
+
+    /*
+     * Properties#store adds the current date and uses the (random) order of the hash-table
+     * -> the entries are sorted and the date is removed, so every build creates the same index
+     */
+    private void storeIndex(Properties index, OutputStream outputStream) throws IOException
+    {
+        ByteArrayOutputStream storedIndex = new ByteArrayOutputStream();
+        index.store(storedIndex, null);
+
+        List<String> entries = new ArrayList<String>();
+        for (String line : storedIndex.toString(INDEX_ENCODING).split("\r?\n"))
+        {
+            if (line.length() > 0 && !line.startsWith("#"))
+            {
+                entries.add(line);
+            }
+        }
+        Collections.sort(entries);
+
+        Writer writer = new OutputStreamWriter(outputStream, INDEX_ENCODING);
+        writer.write("#generated by " + getClass().getName() + "\n");
+        for (String entry : entries)
+        {
+            writer.write(entry);
+            writer.write("\n");
+        }
+        writer.flush();
+    }
+
+    private void addIndexEntries(TypeElement entityType, Properties index)
+    {
+        //normalized property name -> locations
+        Map<String, Set<String>> locations = new TreeMap<String, Set<String>>();
+
+        TypeElement currentType = entityType;
+        while (currentType != null && !Object.class.getName().equals(currentType.getQualifiedName().toString()))
+        {
+            addGetterLocations(currentType, GETTER, locations);
+            addFieldLocations(currentType, locations);
+            addInterfaceLocations(currentType, locations);
+
+            currentType = toTypeElement(currentType.getSuperclass());
+        }
+
+        String className = getBinaryName(entityType);
+
+        StringBuilder properties = new StringBuilder();
+        for (Map.Entry<String, Set<String>> propertyEntry : locations.entrySet())
+        {
+            if (properties.length() > 0)
+            {
+                properties.append(",");
+            }
+            properties.append(propertyEntry.getKey());
+
+            index.setProperty(className + "#" + propertyEntry.getKey(), join(propertyEntry.getValue()));
+        }
+
+        index.setProperty(className, properties.toString());
+    }
+
+    private void addInterfaceLocations(TypeElement currentType, Map<String, Set<String>> locations)
+    {
+        TypeElement interfaceType;
+        for (TypeMirror interfaceMirror : currentType.getInterfaces())
+        {
+            interfaceType = toTypeElement(interfaceMirror);
+
+            if (interfaceType != null)
+            {
+                addGetterLocations(interfaceType, INTERFACE_GETTER, locations);
+                addInterfaceLocations(interfaceType, locations);
+            }
+        }
+    }
+
+    private void addGetterLocations(TypeElement currentType, String location, Map<String, Set<String>> locations)
+    {
+        String methodName;
+        String property;
+        for (ExecutableElement method : ElementFilter.methodsIn(currentType.getEnclosedElements()))
+        {
+            methodName = method.getSimpleName().toString();
+
+            if (!method.getParameters().isEmpty())
+            {
+                continue;
+            }
+
+            if (methodName.startsWith("get") && methodName.length() > 3)
+            {
+                property = methodName.substring(3);
+            }
+            else if (methodName.startsWith("is") && methodName.length() > 2)
+            {
+                property = methodName.substring(2);
+            }
+            else
+            {
+                continue;
+            }
+
+            addLocation(method, property, location, currentType, locations);
+        }
+    }
+
+    private void addFieldLocations(TypeElement currentType, Map<String, Set<String>> locations)
+    {
+        for (Element field : ElementFilter.fieldsIn(currentType.getEnclosedElements()))
+        {
+            if (!field.getModifiers().contains(Modifier.STATIC))
+            {
+                addLocation(field, field.getSimpleName().toString(), FIELD, currentType, locations);
+            }
+        }
+    }
+
+    private void addLocation(Element element,
+                             String property,
+                             String location,
+                             TypeElement declaringType,
+                             Map<String, Set<String>> locations)
+    {
+        String normalizedProperty = normalizePropertyName(property);
+        String declaringClassName = getBinaryName(declaringType);
+
+        for (AnnotationMirror annotationMirror : element.getAnnotationMirrors())
+        {
+            TypeElement annotationType = (TypeElement) annotationMirror.getAnnotationType().asElement();
+
+            if (!isAvailableAtRuntime(annotationType))
+            {
+                continue;
+            }
+
+            Set<String> propertyLocations = locations.get(normalizedProperty);
+
+            if (propertyLocations == null)
+            {
+                propertyLocations = new LinkedHashSet<String>();
+                locations.put(normalizedProperty, propertyLocations);
+            }
+
+            propertyLocations.add(location + ":" + declaringClassName + ":" + getBinaryName(annotationType));
+        }
+    }
+
+    private boolean isAvailableAtRuntime(TypeElement annotationType)
+    {
+        Retention retention = annotationType.getAnnotation(Retention.class);
+
+        return retention != null && RetentionPolicy.RUNTIME.equals(retention.value());
+    }
+
+    private TypeElement toTypeElement(TypeMirror typeMirror)
+    {
+        if (typeMirror.getKind() != TypeKind.DECLARED)
+        {
+            return null;
+        }
+        return (TypeElement) ((DeclaredType) typeMirror).asElement();
+    }
+
+    private String getBinaryName(TypeElement typeElement)
+    {
+        return processingEnv.getElementUtils().getBinaryName(typeElement).toString();
+    }
+
+    //has to be in sync with MetaDataIndex#normalizePropertyName
+    private String normalizePropertyName(String property)
+    {
+        if (property.startsWith("_"))
+        {
+            property = property.substring(1);
+        }
+        return property.toLowerCase(Locale.ENGLISH);
+    }
+
+    private String join(Set<String> values)
+    {
+        StringBuilder result = new StringBuilder();
+
+        for (String value : values)
+        {
+            if (result.length() > 0)
+            {
+                result.append(",");
+            }
+            result.append(value);
+        }
+        return result.toString();
+    }
+}
@@ -32,6 +32,8 @@ import java.lang.reflect.Method;
 import net.sf.cglib.proxy.MethodInterceptor;
 import net.sf.cglib.proxy.Enhancer;
 import net.sf.cglib.proxy.MethodProxy;
+import net.sf.cglib.proxy.Callback;
+import net.sf.cglib.proxy.NoOp;
 
 /**
  * @since 1.x.1
@@ -39,6 +41,16 @@ import net.sf.cglib.proxy.MethodProxy;
 @UsageInformation(UsageCategory.INTERNAL)
 public class ExtValGenericRenderKit extends ExtValRenderKit implements MethodInterceptor
 {
+    //the order has to be the same as the order of the callbacks
+    private static final SignatureCallbackFilter CALLBACK_FILTER = new SignatureCallbackFilter(
+            SignatureCallbackFilter.getMethod(RenderKit.class, "getRenderer", String.class, String.class),
+            SignatureCallbackFilter.getMethod(RenderKit.class, "addRenderer",
+                    String.class, String.class, Renderer.class),
+            SignatureCallbackFilter.getMethod(RenderKit.class, "getResponseStateManager"),
+            SignatureCallbackFilter.getMethod(RenderKit.class, "createResponseStream", OutputStream.class),
+            SignatureCallbackFilter.getMethod(RenderKit.class, "createResponseWriter",
+                    Writer.class, String.class, String.class));
+
     public static RenderKit newInstance(RenderKit renderKit)
     {
         Class currentClass = renderKit.getClass();
@@ -51,48 +63,65 @@ public class ExtValGenericRenderKit extends ExtValRenderKit implements MethodInt
 
         Enhancer enhancer = new Enhancer();
         enhancer.setSuperclass(renderKit.getClass());
-        enhancer.setCallback(new ExtValGenericRenderKit(renderKit));
+        enhancer.setCallbackFilter(CALLBACK_FILTER);
+        enhancer.setCallbacks(new ExtValGenericRenderKit(renderKit).createCallbacks());
         enhancer.setClassLoader(Thread.currentThread().getContextClassLoader());
 
         return (RenderKit) enhancer.create();
     }
 
-    public Object intercept(Object obj, Method method, Object[] args, MethodProxy proxy) throws Throwable
+    private Callback[] createCallbacks()
     {
-        if(method.getName().equals("getRenderer"))
-        {
-            return getRenderer((String)args[0], (String)args[1]);
-        }
-        else if(method.getName().equals("addRenderer"))
-        {
-            addRenderer((String)args[0], (String)args[1], (Renderer)args[2]);
-        }
-        else if(method.getName().equals("getResponseStateManager"))
-        {
-            return getResponseStateManager();
-        }
-        else if(method.getName().equals("createResponseStream"))
-        {
-            return createResponseStream((OutputStream)args[0]);
-        }
-        else if(method.getName().equals("createResponseWriter"))
-        {
-            return createResponseWriter((Writer)args[0], (String)args[1], (String)args[2]);
-        }
-        else
-        {
-            try
-            {
-                method.setAccessible(true);
-                return method.invoke(obj, args);
-            }
-            catch (Throwable t)
-            {
-                return proxy.invokeSuper(obj, args);
-            }
-        }
+        return new Callback[] {
+                new MethodInterceptor()
+                {
+                    public Object intercept(Object obj, Method method, Object[] args, MethodProxy proxy)
+                    {
+                        return getRenderer((String)args[0], (String)args[1]);
+                    }
+                },
+                new MethodInterceptor()
+                {
+                    public Object intercept(Object obj, Method method, Object[] args, MethodProxy proxy)
+                    {
+                        addRenderer((String)args[0], (String)args[1], (Renderer)args[2]);
+                        return null;
+                    }
+                },
+                new MethodInterceptor()
+                {
+                    public Object intercept(Object obj, Method method, Object[] args, MethodProxy proxy)
+                    {
+                        return getResponseStateManager();
+                    }
+                },
+                new MethodInterceptor()
+                {
+                    public Object intercept(Object obj, Method method, Object[] args, MethodProxy proxy)
+                    {
+                        return createResponseStream((OutputStream)args[0]);
+                    }
+                },
+                new MethodInterceptor()
+                {
+                    public Object intercept(Object obj, Method method, Object[] args, MethodProxy proxy)
+                    {
+                        return createResponseWriter((Writer)args[0], (String)args[1], (String)args[2]);
+                    }
+                },
+                //methods of java.lang.Object
+                NoOp.INSTANCE,
+                //all other methods
+                this
+        };
+    }
 
-        return null;
+    /**
+     * Delegates all methods which aren't handled by extval to the wrapped render-kit.
+     */
+    public Object intercept(Object obj, Method method, Object[] args, MethodProxy proxy) throws Throwable
+    {
+        return proxy.invoke(this.wrapped, args);
     }
 
     public ExtValGenericRenderKit(RenderKit wrapped)
@@ -26,12 +26,15 @@ import org.apache.myfaces.extensions.validator.util.ProxyUtils;
 import javax.faces.component.UIComponent;
 import javax.faces.context.FacesContext;
 import javax.faces.render.Renderer;
+import java.io.IOException;
 import java.lang.reflect.Method;
 import java.util.logging.Level;
 
 import net.sf.cglib.proxy.MethodInterceptor;
 import net.sf.cglib.proxy.Enhancer;
 import net.sf.cglib.proxy.MethodProxy;
+import net.sf.cglib.proxy.Callback;
+import net.sf.cglib.proxy.NoOp;
 
 /**
  * @since 1.x.1
@@ -39,6 +42,19 @@ import net.sf.cglib.proxy.MethodProxy;
 @UsageInformation(UsageCategory.INTERNAL)
 public final class ExtValGenericRendererWrapper extends ExtValRendererWrapper implements MethodInterceptor
 {
+    //the order has to be the same as the order of the callbacks
+    private static final SignatureCallbackFilter CALLBACK_FILTER = new SignatureCallbackFilter(
+            SignatureCallbackFilter.getMethod(Renderer.class, "getConvertedValue",
+                    FacesContext.class, UIComponent.class, Object.class),
+            SignatureCallbackFilter.getMethod(Renderer.class, "decode", FacesContext.class, UIComponent.class),
+            SignatureCallbackFilter.getMethod(Renderer.class, "encodeBegin", FacesContext.class, UIComponent.class),
+            SignatureCallbackFilter.getMethod(Renderer.class, "encodeChildren", FacesContext.class, UIComponent.class),
+            SignatureCallbackFilter.getMethod(Renderer.class, "encodeEnd", FacesContext.class, UIComponent.class),
+            SignatureCallbackFilter.getMethod(Renderer.class, "convertClientId", FacesContext.class, String.class),
+            SignatureCallbackFilter.getMethod(Renderer.class, "getRendersChildren"));
+
+    private Renderer renderer;
+
     public static Renderer newInstance(Renderer renderer)
     {
         Class currentClass = renderer.getClass();
@@ -51,64 +67,95 @@ public final class ExtValGenericRendererWrapper extends ExtValRendererWrapper im
 
         Enhancer enhancer = new Enhancer();
         enhancer.setSuperclass(renderer.getClass());
-        enhancer.setCallback(new ExtValGenericRendererWrapper(renderer));
+        enhancer.setCallbackFilter(CALLBACK_FILTER);
+        enhancer.setCallbacks(new ExtValGenericRendererWrapper(renderer).createCallbacks());
         enhancer.setClassLoader(Thread.currentThread().getContextClassLoader());
 
         return (Renderer) enhancer.create();
     }
 
+    private Callback[] createCallbacks()
+    {
+        return new Callback[] {
+                new MethodInterceptor()
+                {
+                    public Object intercept(Object obj, Method method, Object[] args, MethodProxy proxy)
+                    {
+                        return getConvertedValue((FacesContext)args[0], (UIComponent)args[1], args[2]);
+                    }
+                },
+                new MethodInterceptor()
+                {
+                    public Object intercept(Object obj, Method method, Object[] args, MethodProxy proxy)
+                    {
+                        decode((FacesContext)args[0], (UIComponent)args[1]);
+                        return null;
+                    }
+                },
+                new MethodInterceptor()
+                {
+                    public Object intercept(Object obj, Method method, Object[] args, MethodProxy proxy)
+                        throws IOException
+                    {
+                        encodeBegin((FacesContext)args[0], (UIComponent)args[1]);
+                        return null;
+                    }
+                },
+                new MethodInterceptor()
+                {
+                    public Object intercept(Object obj, Method method, Object[] args, MethodProxy proxy)
+                        throws IOException
+                    {
+                        encodeChildren((FacesContext)args[0], (UIComponent)args[1]);
+                        return null;
+                    }
+                },
+                new MethodInterceptor()
+                {
+                    public Object intercept(Object obj, Method method, Object[] args, MethodProxy proxy)
+                        throws IOException
+                    {
+                        encodeEnd((FacesContext)args[0], (UIComponent)args[1]);
+                        return null;
+                    }
+                },
+                new MethodInterceptor()
+                {
+                    public Object intercept(Object obj, Method method, Object[] args, MethodProxy proxy)
+                    {
+                        return convertClientId((FacesContext)args[0], (String)args[1]);
+                    }
+                },
+                new MethodInterceptor()
+                {
+                    public Object intercept(Object obj, Method method, Object[] args, MethodProxy proxy)
+                    {
+                        return getRendersChildren();
+                    }
+                },
+                //methods of java.lang.Object
+                NoOp.INSTANCE,
+                //all other methods
+                this
+        };
+    }
+
+    /**
+     * Delegates all methods which aren't handled by extval to the wrapped renderer.
+     */
     public Object intercept(Object obj, Method method, Object[] args, MethodProxy proxy) throws Throwable
     {
-        if (method.getName().equals("getConvertedValue") && args[1] instanceof UIComponent)
+        if (logger.isLoggable(Level.FINEST))
         {
-            return getConvertedValue((FacesContext)args[0], (UIComponent)args[1], args[2]);
+            logger.finest("method " + method.getName() + " called without rendering-interceptors");
         }
-        else if (method.getName().equals("decode") && args[1] instanceof UIComponent)
-        {
-            decode((FacesContext)args[0], (UIComponent)args[1]);
-        }
-        else if (method.getName().equals("encodeBegin") && args[1] instanceof UIComponent)
-        {
-            encodeBegin((FacesContext)args[0], (UIComponent)args[1]);
-        }
-        else if (method.getName().equals("encodeChildren") && args[1] instanceof UIComponent)
-        {
-            encodeChildren((FacesContext)args[0], (UIComponent)args[1]);
-        }
-        else if (method.getName().equals("encodeEnd") && args[1] instanceof UIComponent)
-        {
-            encodeEnd((FacesContext)args[0], (UIComponent)args[1]);
-        }
-        else if (method.getName().equals("convertClientId") && args[1] instanceof String)
-        {
-            return convertClientId((FacesContext)args[0], (String)args[1]);
-        }
-        else if (method.getName().equals("getRendersChildren"))
-        {
-            return getRendersChildren();
-        }
-        else
-        {
-            if (logger.isLoggable(Level.FINEST))
-            {
-                logger.finest("method " + method.getName() + " called without rendering-interceptors");
-            }
 
-            try
-            {
-                method.setAccessible(true);
-                return method.invoke(this.wrapped, args);
-            }
-            catch (Throwable t)
-            {
-                return proxy.invokeSuper(obj, args);
-            }
-        }
-        return null;
+        return proxy.invoke(this.renderer, args);
     }
 
     public ExtValGenericRendererWrapper(Renderer wrapped)
     {
         super(wrapped);
+        this.renderer = wrapped;
     }
 }
@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.myfaces.extensions.validator.generic.renderkit;
+
+import org.apache.myfaces.extensions.validator.internal.UsageInformation;
+import org.apache.myfaces.extensions.validator.internal.UsageCategory;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+
+import net.sf.cglib.proxy.CallbackFilter;
+
+/**
+ * Maps the intercepted methods to the callback with the same index.
+ * Methods of {@link Object} are mapped to the index after the intercepted methods and
+ * all other methods to the last index.<p/>
+ * It's evaluated once per generated proxy class. An instance has to be shared by all proxies of a type,
+ * because cglib uses it as part of the key for the cache of generated classes.
+ *
+ * @since r7
+ */
+@UsageInformation(UsageCategory.INTERNAL)
+class SignatureCallbackFilter implements CallbackFilter
+{
+    private final Method[] interceptedMethods;
+
+    SignatureCallbackFilter(Method... interceptedMethods)
+    {
+        this.interceptedMethods = interceptedMethods;
+    }
+
+    static Method getMethod(Class targetClass, String methodName, Class... parameterTypes)
+    {
+        try
+        {
+            return targetClass.getMethod(methodName, parameterTypes);
+        }
+        catch (NoSuchMethodException e)
+        {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public int accept(Method method)
+    {
+        for (int i = 0; i < this.interceptedMethods.length; i++)
+        {
+            if (this.interceptedMethods[i].getName().equals(method.getName()) &&
+                    Arrays.equals(this.interceptedMethods[i].getParameterTypes(), method.getParameterTypes()))
+            {
+                return i;
+            }
+        }
+
+        if (Object.class.equals(method.getDeclaringClass()))
+        {
+            return getObjectMethodCallbackIndex();
+        }
+        return getPassThroughCallbackIndex();
+    }
+
+    int getObjectMethodCallbackIndex()
+    {
+        return this.interceptedMethods.length;
+    }
+
+    int getPassThroughCallbackIndex()
+    {
+        return this.interceptedMethods.length + 1;
+    }
+}
@@ -20,6 +20,7 @@ package org.apache.myfaces.extensions.validator.core;
 
 import org.apache.myfaces.extensions.validator.core.proxy.ProxyHelper;
 import org.apache.myfaces.extensions.validator.core.proxy.DefaultProxyHelper;
+import org.apache.myfaces.extensions.validator.core.proxy.CachingProxyHelper;
 import org.apache.myfaces.extensions.validator.core.renderkit.ExtValRendererProxy;
 import org.apache.myfaces.extensions.validator.core.validation.ConstraintSource;
 import org.apache.myfaces.extensions.validator.core.validation.IgnoreConstraintSource;
@@ -47,6 +48,7 @@ public class DefaultExtValCoreConfiguration extends ExtValCoreConfiguration
 {
     private static final String GLOBAL_PROPERTY_MODE_INIT_REQUIRED = "mode:init:required";
     private static final String GLOBAL_PROPERTY_MODE_RESET_REQUIRED = "mode:reset:required";
+    private static final int DEFAULT_STORAGE_CACHE_MAX_SIZE = 1000;
 
     /**
      * {@inheritDoc}
@@ -141,7 +143,7 @@ public class DefaultExtValCoreConfiguration extends ExtValCoreConfiguration
     /**
      * {@inheritDoc}
      * Parameter taken from the Web.xml initialization parameter CUSTOM_META_DATA_EXTRACTION_INTERCEPTOR. When no
-     * value is specified, the {@link DefaultProxyHelper} is returned.
+     * value is specified, a {@link CachingProxyHelper} which wraps the {@link DefaultProxyHelper} is returned.
      */
     @ToDo(value = Priority.MEDIUM, description = "The tryToInstantiateClassForName can return a null value which isn't "
             + "handled correctly afterwards.  We should throw an exception like in rendererProxy method.")
@@ -154,7 +156,7 @@ public class DefaultExtValCoreConfiguration extends ExtValCoreConfiguration
             return (ProxyHelper) ClassUtils.tryToInstantiateClassForName(customProxyHelperClassName);
         }
 
-        return new DefaultProxyHelper();
+        return new CachingProxyHelper(new DefaultProxyHelper());
     }
 
     /**
@@ -495,6 +497,40 @@ public class DefaultExtValCoreConfiguration extends ExtValCoreConfiguration
         return !"false".equalsIgnoreCase(WebXmlParameter.VALIDATE_EMPTY_FIELDS);
     }
 
+    /**
+     * {@inheritDoc}
+     * Value taken from the Web.xml initialization parameter META_DATA_WARM_UP_TARGETS.
+     */
+    @Override
+    public String metaDataWarmUpTargets()
+    {
+        return WebXmlParameter.META_DATA_WARM_UP_TARGETS;
+    }
+
+    /**
+     * {@inheritDoc}
+     * Value taken from the Web.xml initialization parameter STORAGE_CACHE_MAX_SIZE (default: 1000).
+     */
+    @Override
+    public int storageCacheMaxSize()
+    {
+        String maxSize = WebXmlParameter.STORAGE_CACHE_MAX_SIZE;
+
+        if (maxSize == null || maxSize.trim().length() == 0)
+        {
+            return DEFAULT_STORAGE_CACHE_MAX_SIZE;
+        }
+
+        try
+        {
+            return Integer.parseInt(maxSize.trim());
+        }
+        catch (NumberFormatException e)
+        {
+            return DEFAULT_STORAGE_CACHE_MAX_SIZE;
+        }
+    }
+
     /**
      * {@inheritDoc}
      * Value taken from the Web.xml initialization parameter ACTIVATE_MARKUP_META_DATA.
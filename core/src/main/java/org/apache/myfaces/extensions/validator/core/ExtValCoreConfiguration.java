@@ -215,7 +215,8 @@ public abstract class ExtValCoreConfiguration implements ExtValModuleConfigurati
     
     /**
      * Defines the {@link ProxyHelper} that should be used by ExtVal.
-     * (Default implementation: {@link org.apache.myfaces.extensions.validator.core.proxy.DefaultProxyHelper}).
+     * (Default implementation: {@link org.apache.myfaces.extensions.validator.core.proxy.DefaultProxyHelper}
+     * wrapped by {@link org.apache.myfaces.extensions.validator.core.proxy.CachingProxyHelper}).
      * The method should never return null.
      *
      * @see org.apache.myfaces.extensions.validator.util.ProxyUtils#getProxyHelper()
@@ -602,6 +603,33 @@ public abstract class ExtValCoreConfiguration implements ExtValModuleConfigurati
      */
     public abstract boolean deactivateRequiredAttributeSupport();
 
+    /*
+     * warm-up
+     */
+
+    /**
+     * Comma separated list of fully qualified class names and package names (e.g. org.test.model.*)
+     * which should be scanned in the background after the first request was started. The meta-data of the properties
+     * found in those classes gets cached to avoid the initial extraction during the following requests.
+     *
+     * @return the classes and packages to scan, null to deactivate the warm-up (default)
+     * @since r7
+     */
+    public abstract String metaDataWarmUpTargets();
+
+    /*
+     * caching
+     */
+
+    /**
+     * Defines the max. number of classes for which a storage (e.g. the meta-data storage) caches information.
+     * If the limit gets exceeded, the information of the least recently used classes gets evicted.
+     *
+     * @return the max. number of cached classes per storage, a value less than 1 deactivates the limit
+     * @since r7
+     */
+    public abstract int storageCacheMaxSize();
+
     /*
      * supported spec parameters
      */
@@ -127,6 +127,29 @@ interface WebXmlParameter
     static final String ACTIVATE_MARKUP_META_DATA = WebXmlUtils
         .getInitParameter("ACTIVATE_MARKUP_META_DATA");
 
+    /*
+     * warm-up
+     */
+    /**
+     * Comma separated list of classes and packages (suffix: .*) which should be scanned in the background to fill
+     * the meta-data caches.
+     *
+     * @since r7
+     */
+    static final String META_DATA_WARM_UP_TARGETS = WebXmlUtils
+        .getInitParameter("META_DATA_WARM_UP_TARGETS");
+
+    /*
+     * caching
+     */
+    /**
+     * Max. number of classes per storage which caches information per class (default: 1000, 0 deactivates the limit)
+     *
+     * @since r7
+     */
+    static final String STORAGE_CACHE_MAX_SIZE = WebXmlUtils
+        .getInitParameter("STORAGE_CACHE_MAX_SIZE");
+
     /*
      * deactivate
      */
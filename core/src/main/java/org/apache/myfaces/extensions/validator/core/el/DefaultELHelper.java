@@ -25,7 +25,9 @@ import org.apache.myfaces.extensions.validator.internal.ToDo;
 import org.apache.myfaces.extensions.validator.internal.Priority;
 import org.apache.myfaces.extensions.validator.util.ReflectionUtils;
 import org.apache.myfaces.extensions.validator.util.ProxyUtils;
+import org.apache.myfaces.extensions.validator.util.ExtValUtils;
 import org.apache.myfaces.extensions.validator.core.property.PropertyDetails;
+import org.apache.myfaces.extensions.validator.core.storage.PropertyDetailsStorage;
 import org.apache.myfaces.extensions.validator.core.ExtValCoreConfiguration;
 import org.apache.myfaces.extensions.validator.ExtValInformation;
 
@@ -144,6 +146,28 @@ public class DefaultELHelper implements ELHelper
     }
 
     public PropertyDetails getPropertyDetailsOfValueBinding(UIComponent uiComponent)
+    {
+        //the property details are needed several times per component and request
+        PropertyDetailsStorage propertyDetailsStorage = getPropertyDetailsStorage();
+
+        PropertyDetails result = propertyDetailsStorage.getPropertyDetails(uiComponent);
+
+        if(result == null)
+        {
+            result = resolvePropertyDetailsOfValueBinding(uiComponent);
+            propertyDetailsStorage.storePropertyDetails(uiComponent, result);
+        }
+        return result;
+    }
+
+    /**
+     * Resolves the {@link PropertyDetails} of the value-binding of the given component without using the cache.
+     *
+     * @param uiComponent the component which hosts the value-binding
+     * @return the property details of the value-binding or null if they can't be resolved
+     * @since r7
+     */
+    protected PropertyDetails resolvePropertyDetailsOfValueBinding(UIComponent uiComponent)
     {
         if(DEACTIVATE_EL_RESOLVER)
         {
@@ -186,6 +210,11 @@ public class DefaultELHelper implements ELHelper
         return new PropertyDetails(elResolver.getPath(), elResolver.getBaseObject(), elResolver.getProperty());
     }
 
+    protected PropertyDetailsStorage getPropertyDetailsStorage()
+    {
+        return ExtValUtils.getStorage(PropertyDetailsStorage.class, PropertyDetailsStorage.class.getName());
+    }
+
     //keep in sync with DefaultELHelper#getPropertyDetailsOfValueBinding of branch!!!
     protected PropertyDetails getPropertyDetailsViaReflectionFallback(UIComponent uiComponent)
     {
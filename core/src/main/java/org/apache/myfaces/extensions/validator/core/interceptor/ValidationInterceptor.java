@@ -24,9 +24,14 @@ import org.apache.myfaces.extensions.validator.core.validation.strategy.Validati
 import org.apache.myfaces.extensions.validator.core.validation.SkipValidationEvaluator;
 import org.apache.myfaces.extensions.validator.core.validation.NullValueAwareValidationStrategy;
 import org.apache.myfaces.extensions.validator.core.validation.EmptyValueAwareValidationStrategy;
+import org.apache.myfaces.extensions.validator.core.validation.ValidationPlan;
+import org.apache.myfaces.extensions.validator.core.validation.ValidationPlanEntry;
 import org.apache.myfaces.extensions.validator.core.metadata.extractor.MetaDataExtractor;
 import org.apache.myfaces.extensions.validator.core.metadata.MetaDataEntry;
 import org.apache.myfaces.extensions.validator.core.property.PropertyInformation;
+import org.apache.myfaces.extensions.validator.core.property.PropertyDetails;
+import org.apache.myfaces.extensions.validator.core.property.PropertyInformationKeys;
+import org.apache.myfaces.extensions.validator.core.storage.ValidationPlanStorage;
 import org.apache.myfaces.extensions.validator.core.ExtValContext;
 import org.apache.myfaces.extensions.validator.util.ExtValUtils;
 import org.apache.myfaces.extensions.validator.util.ProxyUtils;
@@ -34,6 +39,9 @@ import org.apache.myfaces.extensions.validator.util.ProxyUtils;
 import javax.faces.context.FacesContext;
 import javax.faces.component.UIComponent;
 import java.util.Map;
+import java.util.List;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.lang.annotation.Annotation;
 
 /**
@@ -42,6 +50,8 @@ import java.lang.annotation.Annotation;
 @UsageInformation(UsageCategory.INTERNAL)
 public class ValidationInterceptor extends AbstractValidationInterceptor
 {
+    private Boolean legacyCompatibilityCheckOverridden;
+
     @Override
     protected boolean isRequiredInitializationSupported()
     {
@@ -98,61 +108,222 @@ public class ValidationInterceptor extends AbstractValidationInterceptor
                                           Object convertedObject,
                                           PropertyInformation propertyInformation)
     {
+        MetaDataEntry[] metaDataEntries = propertyInformation.getMetaDataEntries();
+        ValidationPlan validationPlan = getValidationPlan(propertyInformation, metaDataEntries);
+
         ValidationStrategy validationStrategy;
+        ValidationPlanEntry validationPlanEntry;
+        MetaDataEntry entry;
         SkipValidationEvaluator skipValidationEvaluator = ExtValContext.getContext().getSkipValidationEvaluator();
-        for (MetaDataEntry entry : propertyInformation.getMetaDataEntries())
+        boolean legacyCompatibilityCheck = isLegacyCompatibilityCheckOverridden();
+        for (int i = 0; i < metaDataEntries.length; i++)
         {
+            entry = metaDataEntries[i];
+            validationPlanEntry = validationPlan.getEntry(i);
+
+            if(!validationPlanEntry.isValidationStrategyAvailable())
+            {
+                logger.finest("no validation strategy found for " + entry.getValue());
+                continue;
+            }
+
+            if(!legacyCompatibilityCheck &&
+                    !isValidationStrategyCompatibleWithValue(validationPlanEntry, convertedObject, entry))
+            {
+                continue;
+            }
+
             validationStrategy = ExtValUtils.getValidationStrategyForMetaData(entry.getKey());
 
-            if (validationStrategy != null &&
-                    isValidationStrategyCompatibleWithValue(validationStrategy, convertedObject, entry))
+            if(validationStrategy == null)
             {
-                if(skipValidationEvaluator.skipValidation(facesContext, uiComponent, validationStrategy, entry))
-                {
-                    logger.finest("skip validation of " + entry.getValue() +
-                            " with " + validationStrategy.getClass().getName());
-                    //don't break maybe there are constraints which don't support the skip-mechanism
-                    continue;
-                }
+                logger.finest("no validation strategy found for " + entry.getValue());
+                continue;
+            }
 
-                logger.finest("validate " + entry.getValue() + " with " + validationStrategy.getClass().getName());
+            //a sub-class overrides the deprecated hook - it needs the strategy instance
+            if(legacyCompatibilityCheck &&
+                    !isValidationStrategyCompatibleWithValue(validationStrategy, convertedObject, entry))
+            {
+                continue;
+            }
 
-                try
+            if(skipValidationEvaluator.skipValidation(facesContext, uiComponent, validationStrategy, entry))
+            {
+                logger.finest("skip validation of " + entry.getValue() +
+                        " with " + validationStrategy.getClass().getName());
+                //don't break maybe there are constraints which don't support the skip-mechanism
+                continue;
+            }
+
+            logger.finest("validate " + entry.getValue() + " with " + validationStrategy.getClass().getName());
+
+            try
+            {
+                if(validationPlanEntry.getLocalValidationInterceptors() != null)
                 {
-                    if(entry.getValue() instanceof Annotation)
+                    if(!ExtValUtils.executeLocalBeforeValidationInterceptors(
+                            facesContext, uiComponent, convertedObject,
+                            PropertyInformation.class.getName(), propertyInformation,
+                            entry.getValue(Annotation.class), validationPlanEntry.getLocalValidationInterceptors()))
                     {
-                        if(!ExtValUtils.executeLocalBeforeValidationInterceptors(
-                                facesContext, uiComponent, convertedObject,
-                                PropertyInformation.class.getName(), propertyInformation,
-                                entry.getValue(Annotation.class)))
-                        {
-                            continue;
-                        }
+                        continue;
                     }
-
-                    /*
-                     * validation
-                     */
-                    validationStrategy.validate(facesContext, uiComponent, entry, convertedObject);
                 }
-                finally
+
+                /*
+                 * validation
+                 */
+                validationStrategy.validate(facesContext, uiComponent, entry, convertedObject);
+            }
+            finally
+            {
+                if(validationPlanEntry.getLocalValidationInterceptors() != null)
                 {
-                    if(entry.getValue() instanceof Annotation)
-                    {
-                        ExtValUtils.executeLocalAfterValidationInterceptors(
-                                facesContext, uiComponent, convertedObject,
-                                PropertyInformation.class.getName(), propertyInformation,
-                                entry.getValue(Annotation.class));
-                    }
+                    ExtValUtils.executeLocalAfterValidationInterceptors(
+                            facesContext, uiComponent, convertedObject,
+                            PropertyInformation.class.getName(), propertyInformation,
+                            entry.getValue(Annotation.class), validationPlanEntry.getLocalValidationInterceptors());
                 }
             }
-            else if(validationStrategy == null)
+        }
+    }
+
+    /**
+     * Returns the cached plan for the property of the given information.
+     * A new plan gets created (and cached) if there is no plan or if the cached plan doesn't fit to the current
+     * meta-data (e.g. because a meta-data extraction interceptor changed it).
+     *
+     * @param propertyInformation information of the property which should be validated
+     * @param metaDataEntries the current meta-data entries of the property
+     * @return the plan for validating the given meta-data entries
+     * @since r7
+     */
+    protected ValidationPlan getValidationPlan(PropertyInformation propertyInformation,
+                                               MetaDataEntry[] metaDataEntries)
+    {
+        PropertyDetails propertyDetails = propertyInformation.getInformation(
+                PropertyInformationKeys.PROPERTY_DETAILS, PropertyDetails.class);
+
+        Class targetClass = getTargetClass(propertyDetails);
+
+        if(targetClass == null)
+        {
+            return createValidationPlan(metaDataEntries);
+        }
+
+        ValidationPlanStorage validationPlanStorage = getValidationPlanStorage();
+        ValidationPlan validationPlan = validationPlanStorage
+                .getValidationPlan(targetClass, propertyDetails.getProperty(), getModuleKey());
+
+        if(validationPlan == null || !validationPlan.isApplicableTo(metaDataEntries))
+        {
+            validationPlan = createValidationPlan(metaDataEntries);
+            validationPlanStorage
+                    .storeValidationPlan(targetClass, propertyDetails.getProperty(), getModuleKey(), validationPlan);
+        }
+        return validationPlan;
+    }
+
+    private Class getTargetClass(PropertyDetails propertyDetails)
+    {
+        if(propertyDetails == null || propertyDetails.getBaseObject() == null ||
+                propertyDetails.getProperty() == null)
+        {
+            return null;
+        }
+
+        //e.g. in case of constraint sources the base object is the class which hosts the constraints
+        if(propertyDetails.getBaseObject() instanceof Class)
+        {
+            return (Class)propertyDetails.getBaseObject();
+        }
+        return ProxyUtils.getUnproxiedClass(propertyDetails.getBaseObject().getClass());
+    }
+
+    protected ValidationPlan createValidationPlan(MetaDataEntry[] metaDataEntries)
+    {
+        ValidationPlanEntry[] validationPlanEntries = new ValidationPlanEntry[metaDataEntries.length];
+
+        ValidationStrategy validationStrategy;
+        Class validationStrategyClass;
+        List<PropertyValidationInterceptor> localValidationInterceptors;
+        for (int i = 0; i < metaDataEntries.length; i++)
+        {
+            validationStrategy = ExtValUtils.getValidationStrategyForMetaData(metaDataEntries[i].getKey());
+
+            validationStrategyClass = null;
+            if(validationStrategy != null)
             {
-                logger.finest("no validation strategy found for " + entry.getValue());
+                validationStrategyClass = ProxyUtils.getUnproxiedClass(validationStrategy.getClass());
+            }
+
+            localValidationInterceptors = null;
+            if(metaDataEntries[i].getValue() instanceof Annotation)
+            {
+                localValidationInterceptors = Collections.unmodifiableList(new ArrayList<PropertyValidationInterceptor>(
+                        ExtValUtils.getLocalValidationInterceptors(metaDataEntries[i].getValue(Annotation.class))));
             }
+
+            validationPlanEntries[i] = new ValidationPlanEntry(
+                    metaDataEntries[i].getKey(),
+                    metaDataEntries[i].getValue(),
+                    validationStrategyClass,
+                    localValidationInterceptors);
         }
+        return new ValidationPlan(validationPlanEntries);
     }
 
+    protected ValidationPlanStorage getValidationPlanStorage()
+    {
+        return ExtValUtils.getStorage(ValidationPlanStorage.class, ValidationPlanStorage.class.getName());
+    }
+
+    /**
+     * @since r7
+     */
+    protected boolean isValidationStrategyCompatibleWithValue(
+            ValidationPlanEntry validationPlanEntry, Object value, MetaDataEntry entry /*for add-ons*/)
+    {
+        return validationPlanEntry.isCompatibleWithValue(value);
+    }
+
+    private boolean isLegacyCompatibilityCheckOverridden()
+    {
+        if(this.legacyCompatibilityCheckOverridden == null)
+        {
+            this.legacyCompatibilityCheckOverridden = overridesLegacyCompatibilityCheck(getClass());
+        }
+        return this.legacyCompatibilityCheckOverridden;
+    }
+
+    private static boolean overridesLegacyCompatibilityCheck(Class interceptorClass)
+    {
+        Class currentClass = interceptorClass;
+        while(currentClass != null && !ValidationInterceptor.class.equals(currentClass))
+        {
+            try
+            {
+                currentClass.getDeclaredMethod("isValidationStrategyCompatibleWithValue",
+                        ValidationStrategy.class, Object.class, MetaDataEntry.class);
+                return true;
+            }
+            catch (NoSuchMethodException e)
+            {
+                currentClass = currentClass.getSuperclass();
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Sub-classes which still override this hook are detected - in this case it's used instead of
+     * {@link #isValidationStrategyCompatibleWithValue(ValidationPlanEntry, Object, MetaDataEntry)}.
+     *
+     * @deprecated the information is cached by the validation plan -
+     * use {@link #isValidationStrategyCompatibleWithValue(ValidationPlanEntry, Object, MetaDataEntry)}
+     */
+    @Deprecated
     protected boolean isValidationStrategyCompatibleWithValue(
             ValidationStrategy validationStrategy, Object value, MetaDataEntry entry /*for add-ons*/)
     {
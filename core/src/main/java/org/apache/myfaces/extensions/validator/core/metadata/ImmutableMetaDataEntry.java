@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.myfaces.extensions.validator.core.metadata;
+
+import org.apache.myfaces.extensions.validator.internal.UsageCategory;
+import org.apache.myfaces.extensions.validator.internal.UsageInformation;
+
+import java.util.Map;
+
+/**
+ * Meta-data entry which can be shared between requests (e.g. by the meta-data storage).
+ * It just hosts the key and the value of the meta-data - information which is only valid for the current request
+ * (like the property-details) has to be stored in a {@link MetaDataEntryOverlay}.
+ *
+ * @since r7
+ */
+@UsageInformation(UsageCategory.INTERNAL)
+public final class ImmutableMetaDataEntry extends MetaDataEntry
+{
+    private final String key;
+    private final Object value;
+
+    public ImmutableMetaDataEntry(String key, Object value)
+    {
+        this.key = key;
+        this.value = value;
+    }
+
+    @Override
+    public String getKey()
+    {
+        return this.key;
+    }
+
+    @Override
+    public Object getValue()
+    {
+        return this.value;
+    }
+
+    @Override
+    public void setKey(String key)
+    {
+        throw new UnsupportedOperationException(getClass().getName() + " is read-only");
+    }
+
+    @Override
+    public void setValue(Object value)
+    {
+        throw new UnsupportedOperationException(getClass().getName() + " is read-only");
+    }
+
+    @Override
+    public void setProperties(Map<String, Object> properties)
+    {
+        throw new UnsupportedOperationException(getClass().getName() + " is read-only");
+    }
+
+    @Override
+    public void setProperty(String key, Object value)
+    {
+        throw new UnsupportedOperationException(getClass().getName() + " is read-only");
+    }
+
+    /**
+     * @return a new entry for the current request which is backed by this entry
+     */
+    public MetaDataEntry createOverlay()
+    {
+        return new MetaDataEntryOverlay(this);
+    }
+}
@@ -18,11 +18,14 @@
  */
 package org.apache.myfaces.extensions.validator.core.metadata;
 
+import org.apache.myfaces.extensions.validator.core.storage.ClassKeyedCache;
 import org.apache.myfaces.extensions.validator.internal.UsageCategory;
 import org.apache.myfaces.extensions.validator.internal.UsageInformation;
 
 import java.util.Map;
 import java.util.HashMap;
+import java.util.Collections;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
@@ -33,11 +36,16 @@ import java.util.logging.Logger;
 @UsageInformation(UsageCategory.API)
 public class MetaDataEntry
 {
-    protected final Logger logger = Logger.getLogger(getClass().getName());
+    //classes are referenced weakly - no eviction needed
+    private static final ClassKeyedCache<Logger> LOGGERS = new ClassKeyedCache<Logger>(0);
+
+    //entries are created per request - so the logger is looked up once per class and not per instance
+    protected final Logger logger = getLogger(getClass());
 
     private String key;
     private Object value;
-    private Map<String, Object> properties = new HashMap<String, Object>();
+    //created lazily - usually the entries use the information-map of the property-information
+    private Map<String, Object> properties;
 
     /**
      * Returns the key which identifies the meta-data.
@@ -57,7 +65,10 @@ public class MetaDataEntry
      */
     public void setKey(String key)
     {
-        this.logger.finest("setting meta-data key: " + key);
+        if (this.logger.isLoggable(Level.FINEST))
+        {
+            this.logger.finest("setting meta-data key: " + key);
+        }
 
         this.key = key;
     }
@@ -91,7 +102,10 @@ public class MetaDataEntry
      */
     public void setValue(Object value)
     {
-        this.logger.finest("setting meta-data value: " + value);
+        if (this.logger.isLoggable(Level.FINEST))
+        {
+            this.logger.finest("setting meta-data value: " + value);
+        }
 
         this.value = value;
     }
@@ -114,6 +128,10 @@ public class MetaDataEntry
      */
     public Object getProperty(String key)
     {
+        if (this.properties == null)
+        {
+            return null;
+        }
         return this.properties.get(key);
     }
 
@@ -140,8 +158,16 @@ public class MetaDataEntry
      */
     public void setProperty(String key, Object value)
     {
-        this.logger.finest("new property added key: " + key + " value: " + value + " for metadata-key: " + this.key);
+        if (this.logger.isLoggable(Level.FINEST))
+        {
+            this.logger.finest("new property added key: " + key + " value: " + value +
+                    " for metadata-key: " + getKey());
+        }
 
+        if (this.properties == null)
+        {
+            this.properties = new HashMap<String, Object>();
+        }
         this.properties.put(key, value);
     }
 
@@ -159,15 +185,15 @@ public class MetaDataEntry
 
         MetaDataEntry that = (MetaDataEntry) o;
 
-        if (key != null ? !key.equals(that.key) : that.key != null)
+        if (getKey() != null ? !getKey().equals(that.getKey()) : that.getKey() != null)
         {
             return false;
         }
-        if (properties != null ? !properties.equals(that.properties) : that.properties != null)
+        if (!getPropertiesMap().equals(that.getPropertiesMap()))
         {
             return false;
         }
-        if (value != null ? !value.equals(that.value) : that.value != null)
+        if (getValue() != null ? !getValue().equals(that.getValue()) : that.getValue() != null)
         {
             return false;
         }
@@ -178,12 +204,21 @@ public class MetaDataEntry
     @Override
     public int hashCode()
     {
-        int result = key != null ? key.hashCode() : 0;
-        result = 31 * result + (value != null ? createNullAwareHashCode(value) : 0);
-        result = 31 * result + (properties != null ? createNullAwareHashCode(properties) : 0);
+        int result = getKey() != null ? getKey().hashCode() : 0;
+        result = 31 * result + (getValue() != null ? createNullAwareHashCode(getValue()) : 0);
+        result = 31 * result + createNullAwareHashCode(getPropertiesMap());
         return result;
     }
 
+    private Map<String, Object> getPropertiesMap()
+    {
+        if (this.properties == null)
+        {
+            return Collections.emptyMap();
+        }
+        return this.properties;
+    }
+
     private int createNullAwareHashCode(Object o)
     {
         try
@@ -195,4 +230,15 @@ public class MetaDataEntry
             return 0;
         }
     }
+
+    private static Logger getLogger(Class entryClass)
+    {
+        Logger logger = LOGGERS.get(entryClass);
+
+        if (logger == null)
+        {
+            logger = LOGGERS.putIfAbsent(entryClass, Logger.getLogger(entryClass.getName()));
+        }
+        return logger;
+    }
 }
@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.myfaces.extensions.validator.core.metadata;
+
+import org.apache.myfaces.extensions.validator.internal.UsageCategory;
+import org.apache.myfaces.extensions.validator.internal.UsageInformation;
+
+/**
+ * Lightweight per request entry which is backed by a shared {@link ImmutableMetaDataEntry}.
+ * Key and value aren't copied - they are just taken from the shared entry as long as they aren't replaced
+ * for the current request. Properties are never written to the shared entry.
+ *
+ * @since r7
+ */
+@UsageInformation(UsageCategory.INTERNAL)
+public class MetaDataEntryOverlay extends MetaDataEntry
+{
+    private final ImmutableMetaDataEntry sharedEntry;
+
+    private boolean keyReplaced = false;
+    private boolean valueReplaced = false;
+
+    public MetaDataEntryOverlay(ImmutableMetaDataEntry sharedEntry)
+    {
+        this.sharedEntry = sharedEntry;
+    }
+
+    @Override
+    public String getKey()
+    {
+        if (this.keyReplaced)
+        {
+            return super.getKey();
+        }
+        return this.sharedEntry.getKey();
+    }
+
+    @Override
+    public Object getValue()
+    {
+        if (this.valueReplaced)
+        {
+            return super.getValue();
+        }
+        return this.sharedEntry.getValue();
+    }
+
+    @Override
+    public void setKey(String key)
+    {
+        super.setKey(key);
+        this.keyReplaced = true;
+    }
+
+    @Override
+    public void setValue(Object value)
+    {
+        super.setValue(value);
+        this.valueReplaced = true;
+    }
+
+    public ImmutableMetaDataEntry getSharedEntry()
+    {
+        return this.sharedEntry;
+    }
+}
@@ -0,0 +1,234 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.myfaces.extensions.validator.core.metadata;
+
+import org.apache.myfaces.extensions.validator.internal.UsageCategory;
+import org.apache.myfaces.extensions.validator.internal.UsageInformation;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Index of the annotations which were found at compile-time by the extval annotation processor
+ * (see META-INF/extval/meta-data-index.properties).
+ * <p/>
+ * Format of the index:<br/>
+ * [fully qualified class name]=[comma separated list of the normalized names of the annotated properties]<br/>
+ * [fully qualified class name]#[normalized property name]=[comma separated list of locations]<br/>
+ * A location has the format [FIELD|GETTER|INTERFACE_GETTER]:[declaring class]:[annotation type].
+ * A normalized property name is the name in lower case without leading underscore.
+ * <p/>
+ * If a class is indexed and a property isn't listed, there are no annotations (which are available at runtime)
+ * at the property. Classes which aren't indexed have to be scanned via reflection.
+ *
+ * @since r7
+ */
+@UsageInformation(UsageCategory.INTERNAL)
+public class MetaDataIndex
+{
+    public static final String INDEX_RESOURCE = "META-INF/extval/meta-data-index.properties";
+
+    public static final String FIELD = "FIELD";
+    public static final String GETTER = "GETTER";
+    public static final String INTERFACE_GETTER = "INTERFACE_GETTER";
+
+    private static final String PROPERTY_SEPARATOR = "#";
+    private static final String ENTRY_SEPARATOR = ",";
+    private static final String LOCATION_SEPARATOR = ":";
+
+    private static final Logger LOGGER = Logger.getLogger(MetaDataIndex.class.getName());
+
+    private static final Map<ClassLoader, MetaDataIndex> INDEX_CACHE =
+            Collections.synchronizedMap(new WeakHashMap<ClassLoader, MetaDataIndex>());
+
+    //class name -> normalized property name -> locations (without annotation type)
+    private final Map<String, Map<String, Set<String>>> index = new HashMap<String, Map<String, Set<String>>>();
+
+    public MetaDataIndex(Properties indexEntries)
+    {
+        String className;
+        for (Object key : indexEntries.keySet())
+        {
+            className = (String) key;
+
+            if (className.contains(PROPERTY_SEPARATOR))
+            {
+                continue;
+            }
+
+            Map<String, Set<String>> propertyMap = new HashMap<String, Set<String>>();
+
+            for (String property : split(indexEntries.getProperty(className)))
+            {
+                propertyMap.put(property, parseLocations(
+                        indexEntries.getProperty(className + PROPERTY_SEPARATOR + property)));
+            }
+            this.index.put(className, propertyMap);
+        }
+    }
+
+    private Set<String> parseLocations(String locations)
+    {
+        Set<String> result = new HashSet<String>();
+
+        int separatorIndex;
+        for (String location : split(locations))
+        {
+            //drop the annotation type - it's just informational
+            separatorIndex = location.lastIndexOf(LOCATION_SEPARATOR);
+
+            if (separatorIndex > 0)
+            {
+                result.add(location.substring(0, separatorIndex));
+            }
+        }
+        return result;
+    }
+
+    private static String[] split(String value)
+    {
+        if (value == null || value.trim().length() == 0)
+        {
+            return new String[0];
+        }
+        return value.trim().split(ENTRY_SEPARATOR);
+    }
+
+    /**
+     * @return the index which is available for the context class-loader
+     */
+    public static MetaDataIndex getInstance()
+    {
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+
+        if (classLoader == null)
+        {
+            classLoader = MetaDataIndex.class.getClassLoader();
+        }
+
+        MetaDataIndex result = INDEX_CACHE.get(classLoader);
+
+        if (result == null)
+        {
+            result = load(classLoader);
+            INDEX_CACHE.put(classLoader, result);
+        }
+        return result;
+    }
+
+    private static MetaDataIndex load(ClassLoader classLoader)
+    {
+        Properties indexEntries = new Properties();
+
+        try
+        {
+            Enumeration<URL> indexFiles = classLoader.getResources(INDEX_RESOURCE);
+
+            while (indexFiles.hasMoreElements())
+            {
+                loadIndexFile(indexFiles.nextElement(), indexEntries);
+            }
+        }
+        catch (IOException e)
+        {
+            LOGGER.log(Level.WARNING, "failed to load the meta-data index - reflection is used as fallback", e);
+            return new MetaDataIndex(new Properties());
+        }
+
+        if (!indexEntries.isEmpty())
+        {
+            LOGGER.info("meta-data index loaded");
+        }
+        return new MetaDataIndex(indexEntries);
+    }
+
+    private static void loadIndexFile(URL indexFile, Properties indexEntries) throws IOException
+    {
+        InputStream inputStream = indexFile.openStream();
+
+        try
+        {
+            indexEntries.load(inputStream);
+        }
+        finally
+        {
+            inputStream.close();
+        }
+    }
+
+    public static String normalizePropertyName(String property)
+    {
+        if (property.startsWith("_"))
+        {
+            property = property.substring(1);
+        }
+        return property.toLowerCase(Locale.ENGLISH);
+    }
+
+    public boolean isIndexed(Class targetClass)
+    {
+        return this.index.containsKey(targetClass.getName());
+    }
+
+    /**
+     * @param targetClass indexed class
+     * @param property name of the property
+     * @return true if there are annotations at the property (or in case of doubt), false otherwise
+     */
+    public boolean containsMetaDataFor(Class targetClass, String property)
+    {
+        Map<String, Set<String>> propertyMap = this.index.get(targetClass.getName());
+
+        return propertyMap == null || propertyMap.containsKey(normalizePropertyName(property));
+    }
+
+    /**
+     * @param targetClass indexed class
+     * @param property name of the property
+     * @param location {@link #FIELD}, {@link #GETTER} or {@link #INTERFACE_GETTER}
+     * @param declaringClass the class (or interface) which hosts the field or method
+     * @return true if there are annotations at the given location (or in case of doubt), false otherwise
+     */
+    public boolean containsMetaDataAt(Class targetClass, String property, String location, Class declaringClass)
+    {
+        Map<String, Set<String>> propertyMap = this.index.get(targetClass.getName());
+
+        if (propertyMap == null)
+        {
+            return true;
+        }
+
+        Set<String> locations = propertyMap.get(normalizePropertyName(property));
+
+        return locations != null &&
+                locations.contains(location + LOCATION_SEPARATOR + declaringClass.getName());
+    }
+}
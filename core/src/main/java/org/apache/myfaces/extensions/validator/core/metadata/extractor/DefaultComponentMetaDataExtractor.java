@@ -28,6 +28,7 @@ import org.apache.myfaces.extensions.validator.core.property.DefaultPropertyInfo
 import org.apache.myfaces.extensions.validator.core.property.PropertyDetails;
 import org.apache.myfaces.extensions.validator.core.property.PropertyInformation;
 import org.apache.myfaces.extensions.validator.core.property.PropertyInformationKeys;
+import org.apache.myfaces.extensions.validator.core.storage.EvictionAwareMetaDataStorage;
 import org.apache.myfaces.extensions.validator.core.storage.MetaDataStorage;
 import org.apache.myfaces.extensions.validator.internal.Priority;
 import org.apache.myfaces.extensions.validator.internal.ToDo;
@@ -96,12 +97,14 @@ public class DefaultComponentMetaDataExtractor implements MetaDataExtractor
 
         PropertyInformation propertyInformation = new DefaultPropertyInformation();
 
-        if (isCached(storage, entityClass, propertyDetails.getProperty()))
+        MetaDataEntry[] cachedMetaData = findCachedMetaData(storage, entityClass, propertyDetails.getProperty());
+
+        if (cachedMetaData != null)
         {
             //create
             propertyInformation.setInformation(PropertyInformationKeys.PROPERTY_DETAILS, propertyDetails);
 
-            for (MetaDataEntry metaDataEntry : getCachedMetaData(storage, entityClass, propertyDetails.getProperty()))
+            for (MetaDataEntry metaDataEntry : cachedMetaData)
             {
                 propertyInformation.addMetaDataEntry(metaDataEntry);
             }
@@ -114,6 +117,26 @@ public class DefaultComponentMetaDataExtractor implements MetaDataExtractor
         return propertyInformation;
     }
 
+    /**
+     * Looks up the cached meta-data of the given property.
+     * A storage with a size limit might drop the entry between {@link #isCached} and {@link #getCachedMetaData}
+     * -> a miss has to lead to a new extraction and mustn't be interpreted as property without meta-data.
+     *
+     * @param storage the current meta-data storage
+     * @param entityClass the class which hosts the property
+     * @param property name of the property
+     * @return the cached meta-data or null if there is no cached entry
+     * @since r7
+     */
+    protected MetaDataEntry[] findCachedMetaData(MetaDataStorage storage, Class entityClass, String property)
+    {
+        if (isCached(storage, entityClass, property))
+        {
+            return getCachedMetaData(storage, entityClass, property);
+        }
+        return null;
+    }
+
     protected boolean isCached(MetaDataStorage storage, Class entityClass, String property)
     {
         return storage.containsMetaDataFor(entityClass, property);
@@ -124,8 +147,15 @@ public class DefaultComponentMetaDataExtractor implements MetaDataExtractor
         storage.storeMetaDataOf(propertyInformation);
     }
 
+    /**
+     * @return the cached meta-data or null if the entry was dropped by the storage after {@link #isCached}
+     */
     protected MetaDataEntry[] getCachedMetaData(MetaDataStorage storage, Class entityClass, String property)
     {
+        if (storage instanceof EvictionAwareMetaDataStorage)
+        {
+            return ((EvictionAwareMetaDataStorage) storage).findMetaData(entityClass, property);
+        }
         return storage.getMetaData(entityClass, property);
     }
 
@@ -41,12 +41,15 @@ import org.apache.myfaces.extensions.validator.internal.UsageCategory;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.logging.Logger;
 
 
 /**
- * Factory which creates the MetaDataTransformer for a given ValidationStrategy
+ * Factory which creates the MetaDataTransformer for a given ValidationStrategy.
+ * There is just one (shared) instance per MetaDataTransformer implementation.
  *
  * @since 1.x.1
  */
@@ -61,6 +64,8 @@ public class DefaultMetaDataTransformerFactory extends AbstractNameMapperAwareFa
     protected final Logger logger = Logger.getLogger(getClass().getName());
 
     private Map<String, String> validationStrategyToMetaDataTransformerMapping;
+    private ConcurrentMap<String, MetaDataTransformer> metaDataTransformerInstances =
+            new ConcurrentHashMap<String, MetaDataTransformer>();
     private List<NameMapper<ValidationStrategy>> nameMapperList =
             new CopyOnWriteArrayList<NameMapper<ValidationStrategy>>();
     private List<NameMapper<ValidationStrategy>> subNameMapperList =
@@ -149,7 +154,7 @@ public class DefaultMetaDataTransformerFactory extends AbstractNameMapperAwareFa
     {
         if (validationStrategyToMetaDataTransformerMapping.containsKey(validationStrategyName))
         {
-            return (MetaDataTransformer)ClassUtils.tryToInstantiateClassForName(
+            return getMetaDataTransformerInstance(
                 validationStrategyToMetaDataTransformerMapping.get(validationStrategyName));
         }
 
@@ -160,7 +165,7 @@ public class DefaultMetaDataTransformerFactory extends AbstractNameMapperAwareFa
 
             if (validationStrategyToMetaDataTransformerMapping.containsKey(newValidationStrategyName))
             {
-                return (MetaDataTransformer)ClassUtils.tryToInstantiateClassForName(
+                return getMetaDataTransformerInstance(
                     validationStrategyToMetaDataTransformerMapping.get(newValidationStrategyName));
             }
         }
@@ -171,12 +176,7 @@ public class DefaultMetaDataTransformerFactory extends AbstractNameMapperAwareFa
     private MetaDataTransformer tryToCreateAndCacheMetaDataTransformer(
             ValidationStrategy validationStrategy, String validationStrategyName, String transformerName)
     {
-        MetaDataTransformer metaDataTransformer = null;
-
-        if(transformerName != null)
-        {
-            metaDataTransformer = (MetaDataTransformer)ClassUtils.tryToInstantiateClassForName(transformerName);
-        }
+        MetaDataTransformer metaDataTransformer = getMetaDataTransformerInstance(transformerName);
 
         if(validationStrategyName != null)
         {
@@ -190,6 +190,35 @@ public class DefaultMetaDataTransformerFactory extends AbstractNameMapperAwareFa
         return metaDataTransformer;
     }
 
+    private MetaDataTransformer getMetaDataTransformerInstance(String metaDataTransformerName)
+    {
+        if (metaDataTransformerName == null)
+        {
+            return null;
+        }
+
+        MetaDataTransformer metaDataTransformer = this.metaDataTransformerInstances.get(metaDataTransformerName);
+
+        if (metaDataTransformer != null)
+        {
+            return metaDataTransformer;
+        }
+
+        metaDataTransformer = (MetaDataTransformer) ClassUtils.tryToInstantiateClassForName(metaDataTransformerName);
+
+        if (metaDataTransformer != null)
+        {
+            MetaDataTransformer existingMetaDataTransformer =
+                    this.metaDataTransformerInstances.putIfAbsent(metaDataTransformerName, metaDataTransformer);
+
+            if (existingMetaDataTransformer != null)
+            {
+                return existingMetaDataTransformer;
+            }
+        }
+        return metaDataTransformer;
+    }
+
     private synchronized void initStaticMappings()
     {
         validationStrategyToMetaDataTransformerMapping =
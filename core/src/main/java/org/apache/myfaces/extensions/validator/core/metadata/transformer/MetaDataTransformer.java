@@ -38,6 +38,9 @@ import java.util.Map;
  *
  * {@link org.apache.myfaces.extensions.validator.core.metadata.CommonMetaDataKeys} provides the keys used by ExtVal.
  *
+ * The default factory creates one instance per implementation and shares it (also between threads).
+ * So implementations mustn't keep the state of a transformation in fields.
+ *
  * @since 1.x.1
  */
 @UsageInformation(UsageCategory.API)
@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.myfaces.extensions.validator.core.metadata.transformer;
+
+import org.apache.myfaces.extensions.validator.core.metadata.MetaDataEntry;
+import org.apache.myfaces.extensions.validator.internal.UsageInformation;
+import org.apache.myfaces.extensions.validator.internal.UsageCategory;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The (read-only) result of the meta-data transformation for the component initialization of a property.
+ * It's shared between requests, so it also keeps the meta-data it was created for.
+ *
+ * @since r7
+ */
+@UsageInformation(UsageCategory.INTERNAL)
+public class TransformedMetaData
+{
+    private final String[] metaDataKeys;
+    private final Object[] metaDataValues;
+    private final Map<String, Object> metaData;
+
+    public TransformedMetaData(MetaDataEntry[] metaDataEntries, Map<String, Object> metaData)
+    {
+        this.metaDataKeys = new String[metaDataEntries.length];
+        this.metaDataValues = new Object[metaDataEntries.length];
+
+        for (int i = 0; i < metaDataEntries.length; i++)
+        {
+            this.metaDataKeys[i] = metaDataEntries[i].getKey();
+            this.metaDataValues[i] = metaDataEntries[i].getValue();
+        }
+
+        this.metaData = Collections.unmodifiableMap(new HashMap<String, Object>(metaData));
+    }
+
+    public Map<String, Object> getMetaData()
+    {
+        return metaData;
+    }
+
+    /**
+     * meta-data extraction interceptors are allowed to change the meta-data per request -
+     * so it's required to check if the result was created for the given entries.
+     *
+     * @param metaDataEntries the current entries of the property
+     * @return true if the result was created for the same meta-data
+     */
+    public boolean isApplicableTo(MetaDataEntry[] metaDataEntries)
+    {
+        if (metaDataEntries.length != this.metaDataKeys.length)
+        {
+            return false;
+        }
+
+        Object value;
+        for (int i = 0; i < metaDataEntries.length; i++)
+        {
+            if (!this.metaDataKeys[i].equals(metaDataEntries[i].getKey()))
+            {
+                return false;
+            }
+
+            value = metaDataEntries[i].getValue();
+            if (this.metaDataValues[i] != value && (value == null || !value.equals(this.metaDataValues[i])))
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -21,11 +21,13 @@ package org.apache.myfaces.extensions.validator.core.property;
 import org.apache.myfaces.extensions.validator.internal.UsageCategory;
 import org.apache.myfaces.extensions.validator.internal.UsageInformation;
 import org.apache.myfaces.extensions.validator.core.metadata.MetaDataEntry;
+import org.apache.myfaces.extensions.validator.core.metadata.ImmutableMetaDataEntry;
 
 import java.util.HashMap;
 import java.util.List;
 import java.util.ArrayList;
 import java.util.Map;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
@@ -34,7 +36,10 @@ import java.util.logging.Logger;
 @UsageInformation(UsageCategory.INTERNAL)
 public class DefaultPropertyInformation implements PropertyInformation
 {
-    protected final Logger logger = Logger.getLogger(getClass().getName());
+    private static final Logger LOGGER = Logger.getLogger(DefaultPropertyInformation.class.getName());
+
+    //instances are created per request - so the logger isn't looked up per instance
+    protected final Logger logger = LOGGER;
 
     private Map<String, Object> informationMap = new HashMap<String, Object>();
     private List<MetaDataEntry> metaDataList = new ArrayList<MetaDataEntry>();
@@ -56,7 +61,10 @@ public class DefaultPropertyInformation implements PropertyInformation
 
     public void setInformation(String key, Object value)
     {
-        this.logger.finest("new information added key: " + key + " value: " + value);
+        if (this.logger.isLoggable(Level.FINEST))
+        {
+            this.logger.finest("new information added key: " + key + " value: " + value);
+        }
 
         informationMap.put(key, value);
     }
@@ -68,6 +76,12 @@ public class DefaultPropertyInformation implements PropertyInformation
 
     public void addMetaDataEntry(MetaDataEntry metaDataEntry)
     {
+        //shared entries mustn't be linked with the information of the current request
+        if (metaDataEntry instanceof ImmutableMetaDataEntry)
+        {
+            metaDataEntry = ((ImmutableMetaDataEntry) metaDataEntry).createOverlay();
+        }
+
         metaDataEntry.setProperties(this.informationMap);
         this.metaDataList.add(metaDataEntry);
     }
@@ -0,0 +1,130 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.myfaces.extensions.validator.core.property;
+
+import org.apache.myfaces.extensions.validator.internal.UsageCategory;
+import org.apache.myfaces.extensions.validator.internal.UsageInformation;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Reads the value of a property via the resolved getter. Instances are cached per class and property
+ * (see {@link org.apache.myfaces.extensions.validator.util.ReflectionUtils#getPropertyAccessor}), so the lookup
+ * and the access check of the getter are done just once.
+ *
+ * @since r7
+ */
+@UsageInformation(UsageCategory.INTERNAL)
+public final class PropertyAccessor
+{
+    private static final Logger LOGGER = Logger.getLogger(PropertyAccessor.class.getName());
+
+    private final String property;
+    private final Method readMethod;
+
+    public PropertyAccessor(String property, Method readMethod)
+    {
+        this.property = property;
+        this.readMethod = readMethod;
+
+        if (readMethod != null && !readMethod.isAccessible())
+        {
+            try
+            {
+                readMethod.setAccessible(true);
+            }
+            catch (SecurityException e)
+            {
+                LOGGER.log(Level.FINEST, "access check can't be suppressed for " + readMethod, e);
+            }
+        }
+    }
+
+    public String getProperty()
+    {
+        return property;
+    }
+
+    public Method getReadMethod()
+    {
+        return readMethod;
+    }
+
+    public boolean isReadable()
+    {
+        return this.readMethod != null;
+    }
+
+    /**
+     * An exception thrown by the getter is propagated
+     * (a checked exception is wrapped in an {@link IllegalStateException}).
+     *
+     * @param base the object which hosts the property
+     * @return the value of the property or null if the base is null or the value isn't readable
+     */
+    public Object getValue(Object base)
+    {
+        if (base == null || this.readMethod == null)
+        {
+            return null;
+        }
+
+        try
+        {
+            return this.readMethod.invoke(base);
+        }
+        catch (InvocationTargetException e)
+        {
+            Throwable cause = e.getCause();
+
+            if (cause instanceof RuntimeException)
+            {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error)
+            {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(
+                    "can't read " + this.property + " of " + base.getClass().getName(), cause);
+        }
+        catch (IllegalAccessException e)
+        {
+            logUnreadableProperty(base, e);
+            return null;
+        }
+        //the given base isn't an instance of the class which declares the getter
+        catch (IllegalArgumentException e)
+        {
+            logUnreadableProperty(base, e);
+            return null;
+        }
+    }
+
+    private void logUnreadableProperty(Object base, Exception e)
+    {
+        if (LOGGER.isLoggable(Level.FINEST))
+        {
+            LOGGER.log(Level.FINEST, "can't read " + this.property + " of " + base.getClass().getName(), e);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.myfaces.extensions.validator.core.proxy;
+
+import org.apache.myfaces.extensions.validator.core.storage.ClassKeyedCache;
+import org.apache.myfaces.extensions.validator.internal.UsageCategory;
+import org.apache.myfaces.extensions.validator.internal.UsageInformation;
+
+import java.util.logging.Logger;
+
+/**
+ * {@link ProxyHelper} which remembers the unproxied class per class. So the class name of a class just gets
+ * inspected once by the wrapped {@link ProxyHelper}.
+ * Per default it wraps the {@link DefaultProxyHelper}.
+ * <p/>
+ * A class is treated as proxy class if the unproxied class is a different class. Custom implementations which
+ * don't follow this rule shouldn't be wrapped.
+ *
+ * @since r7
+ */
+@UsageInformation(UsageCategory.REUSE)
+public class CachingProxyHelper implements ProxyHelper
+{
+    protected final Logger logger = Logger.getLogger(getClass().getName());
+
+    private final ProxyHelper wrapped;
+
+    //the number of classes is limited - no eviction needed
+    private final ClassKeyedCache<Class> unproxiedClassCache = new ClassKeyedCache<Class>(0);
+
+    public CachingProxyHelper()
+    {
+        this(new DefaultProxyHelper());
+    }
+
+    public CachingProxyHelper(ProxyHelper wrapped)
+    {
+        this.wrapped = wrapped;
+
+        logger.fine(getClass().getName() + " instantiated - wrapped proxy helper: " + wrapped.getClass().getName());
+    }
+
+    public <T> Class<T> getUnproxiedClass(Class currentClass, Class<T> targetType)
+    {
+        return (Class<T>)getUnproxiedClass(currentClass);
+    }
+
+    public Class getUnproxiedClass(Class currentClass)
+    {
+        Class result = this.unproxiedClassCache.get(currentClass);
+
+        if (result == null)
+        {
+            result = this.unproxiedClassCache.putIfAbsent(currentClass, this.wrapped.getUnproxiedClass(currentClass));
+        }
+        return result;
+    }
+
+    public String getNameOfClass(Class currentClass)
+    {
+        return getUnproxiedClass(currentClass).getName();
+    }
+
+    public String getClassNameOfObject(Object object)
+    {
+        if (object != null)
+        {
+            return getNameOfClass(object.getClass());
+        }
+        return null;
+    }
+
+    public boolean isProxiedClass(Class currentClass)
+    {
+        return getUnproxiedClass(currentClass) != currentClass;
+    }
+
+    public boolean isProxiedObject(Object proxiedObject)
+    {
+        return proxiedObject != null && isProxiedClass(proxiedObject.getClass());
+    }
+}
@@ -24,13 +24,22 @@ import org.apache.myfaces.extensions.validator.internal.UsageInformation;
 import java.util.logging.Logger;
 
 /**
- * Supports CGLIB and javassist.
+ * Supports CGLIB, javassist, Weld and ByteBuddy.
  * 
  * @since x.x.3
  */
 @UsageInformation(UsageCategory.INTERNAL)
 public class DefaultProxyHelper implements ProxyHelper
 {
+    private static final String[] PROXY_CLASS_NAME_MARKERS = {
+            "$$EnhancerByCGLIB$$",
+            "$$FastClassByCGLIB$$",
+            "_$$_javassist",
+            "$Proxy$_$$_Weld",
+            "$$_WeldSubclass",
+            "$ByteBuddy$",
+            "$HibernateProxy$"};
+
     protected final Logger logger = Logger.getLogger(getClass().getName());
 
     public DefaultProxyHelper()
@@ -72,9 +81,22 @@ public class DefaultProxyHelper implements ProxyHelper
 
     public boolean isProxiedClass(Class currentClass)
     {
-        return currentClass.getName().contains("$$EnhancerByCGLIB$$") ||
-            currentClass.getName().contains("$$FastClassByCGLIB$$") ||
-            currentClass.getName().contains("_$$_javassist");
+        String className = currentClass.getName();
+
+        //all supported proxy classes contain a $ -> no further checks for the most classes
+        if (className.indexOf('$') < 0)
+        {
+            return false;
+        }
+
+        for (String proxyClassNameMarker : PROXY_CLASS_NAME_MARKERS)
+        {
+            if (className.contains(proxyClassNameMarker))
+            {
+                return true;
+            }
+        }
+        return false;
     }
 
     public boolean isProxiedObject(Object proxiedObject)
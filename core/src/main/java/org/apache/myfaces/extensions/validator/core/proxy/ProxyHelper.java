@@ -23,7 +23,7 @@ import org.apache.myfaces.extensions.validator.internal.UsageCategory;
 
 /**
  * Pluggable helper which handles proxied instances correctly.
- * (The default implementation supports cglib and javassist
+ * (The default implementation supports cglib, javassist, Weld and ByteBuddy
  *
  * @since x.x.3
  */
@@ -18,43 +18,108 @@
  */
 package org.apache.myfaces.extensions.validator.core.renderkit;
 
+import javax.faces.component.UIComponent;
+import javax.faces.context.FacesContext;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
 /**
+ * Request scoped cache for converted values (used if there is no renderer-proxy).
+ * An entry just exists during the getConvertedValue call of the {@link ExtValRendererWrapper} for the component.
+ * It isn't bound to a thread - so it also works if a request gets processed by different threads.
  */
 public class ConvertedValueCache
 {
-    private static ThreadLocal<ConvertedValueCacheEntry> value = new ThreadLocal<ConvertedValueCacheEntry>();
+    private static final String KEY = ConvertedValueCache.class.getName() + ":KEY";
+
+    private Map<UIComponent, ConvertedValueCacheEntry> entries =
+            new IdentityHashMap<UIComponent, ConvertedValueCacheEntry>();
 
+    private ConvertedValueCache()
+    {
+    }
+
+    /**
+     * Resets the cached values of all components of the current request.
+     *
+     * @deprecated use {@link #reset(FacesContext, UIComponent)}
+     */
+    @Deprecated
     public static void reset()
     {
-        value.set(null);
-        value.remove();
+        FacesContext facesContext = FacesContext.getCurrentInstance();
+
+        if(facesContext != null)
+        {
+            facesContext.getExternalContext().getRequestMap().remove(KEY);
+        }
     }
 
-    //needed because null is a valid value
-    static boolean isCachedValueAvailable()
+    /**
+     * @param facesContext current faces-context
+     * @param uiComponent component which was processed
+     * @since r7
+     */
+    public static void reset(FacesContext facesContext, UIComponent uiComponent)
     {
-        return getCacheEntry().isCachedValueAvailable();
+        ConvertedValueCache convertedValueCache = getConvertedValueCache(facesContext, false);
+
+        if(convertedValueCache == null)
+        {
+            return;
+        }
+
+        convertedValueCache.entries.remove(uiComponent);
+
+        if(convertedValueCache.entries.isEmpty())
+        {
+            facesContext.getExternalContext().getRequestMap().remove(KEY);
+        }
     }
 
-    static Object getCachedValue()
+    //needed because null is a valid value
+    static boolean isCachedValueAvailable(FacesContext facesContext, UIComponent uiComponent)
     {
-        return getCacheEntry().getCachedValue();
+        ConvertedValueCacheEntry entry = getCacheEntry(facesContext, uiComponent);
+        return entry != null && entry.isCachedValueAvailable();
     }
 
-    static void setCachedValue(Object convertedObject)
+    static Object getCachedValue(FacesContext facesContext, UIComponent uiComponent)
     {
-        getCacheEntry().setCachedValue(convertedObject);
+        ConvertedValueCacheEntry entry = getCacheEntry(facesContext, uiComponent);
+        return entry != null ? entry.getCachedValue() : null;
     }
 
-    private static ConvertedValueCacheEntry getCacheEntry()
+    static void setCachedValue(FacesContext facesContext, UIComponent uiComponent, Object convertedObject)
     {
-        ConvertedValueCacheEntry entry = value.get();
+        ConvertedValueCache convertedValueCache = getConvertedValueCache(facesContext, true);
+        ConvertedValueCacheEntry entry = convertedValueCache.entries.get(uiComponent);
 
         if(entry == null)
         {
             entry = new ConvertedValueCacheEntry();
-            value.set(entry);
+            convertedValueCache.entries.put(uiComponent, entry);
+        }
+        entry.setCachedValue(convertedObject);
+    }
+
+    private static ConvertedValueCacheEntry getCacheEntry(FacesContext facesContext, UIComponent uiComponent)
+    {
+        ConvertedValueCache convertedValueCache = getConvertedValueCache(facesContext, false);
+        return convertedValueCache != null ? convertedValueCache.entries.get(uiComponent) : null;
+    }
+
+    @SuppressWarnings({"unchecked"})
+    private static ConvertedValueCache getConvertedValueCache(FacesContext facesContext, boolean create)
+    {
+        Map<String, Object> requestMap = facesContext.getExternalContext().getRequestMap();
+        ConvertedValueCache convertedValueCache = (ConvertedValueCache)requestMap.get(KEY);
+
+        if(convertedValueCache == null && create)
+        {
+            convertedValueCache = new ConvertedValueCache();
+            requestMap.put(KEY, convertedValueCache);
         }
-        return entry;
+        return convertedValueCache;
     }
 }
@@ -98,13 +98,13 @@ class ExtValLazyRendererProxy extends Renderer implements RendererProxy
         }
 
         //by default there is no proxy - so we use a local cache
-        if(ConvertedValueCache.isCachedValueAvailable())
+        if(ConvertedValueCache.isCachedValueAvailable(facesContext, uiComponent))
         {
-            return ConvertedValueCache.getCachedValue();
+            return ConvertedValueCache.getCachedValue(facesContext, uiComponent);
         }
 
         Object result = renderer.getConvertedValue(facesContext, uiComponent, o);
-        ConvertedValueCache.setCachedValue(result);
+        ConvertedValueCache.setCachedValue(facesContext, uiComponent, result);
         return result;
     }
 
@@ -114,9 +114,9 @@ class ExtValLazyRendererProxy extends Renderer implements RendererProxy
     {
         if(getLazyRenderer() == this.wrapped)
         {
-            if(ConvertedValueCache.isCachedValueAvailable())
+            if(ConvertedValueCache.isCachedValueAvailable(facesContext, uiComponent))
             {
-                return ConvertedValueCache.getCachedValue();
+                return ConvertedValueCache.getCachedValue(facesContext, uiComponent);
             }
         }
 
@@ -155,8 +155,8 @@ class ExtValLazyRendererProxy extends Renderer implements RendererProxy
         return this.wrapped;
     }
 
-    void resetConvertedValueCache()
+    void resetConvertedValueCache(FacesContext facesContext, UIComponent uiComponent)
     {
-        ConvertedValueCache.reset();
+        ConvertedValueCache.reset(facesContext, uiComponent);
     }
 }
\ No newline at end of file
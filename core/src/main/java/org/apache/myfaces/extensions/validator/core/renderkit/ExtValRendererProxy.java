@@ -22,6 +22,7 @@ import org.apache.myfaces.extensions.validator.internal.UsageCategory;
 import org.apache.myfaces.extensions.validator.internal.UsageInformation;
 import org.apache.myfaces.extensions.validator.core.storage.RendererProxyStorageEntry;
 import org.apache.myfaces.extensions.validator.core.storage.RendererProxyStorage;
+import org.apache.myfaces.extensions.validator.core.storage.IdentityAwareRendererProxyStorage;
 import org.apache.myfaces.extensions.validator.core.JsfProjectStage;
 import org.apache.myfaces.extensions.validator.util.ExtValUtils;
 import org.apache.myfaces.extensions.validator.util.ProxyUtils;
@@ -29,6 +30,10 @@ import org.apache.myfaces.extensions.validator.util.ProxyUtils;
 import javax.faces.context.FacesContext;
 import javax.faces.render.Renderer;
 import javax.faces.component.UIComponent;
+import javax.faces.component.UIData;
+import javax.faces.component.UIForm;
+import javax.faces.component.NamingContainer;
+import javax.faces.component.UINamingContainer;
 import javax.faces.convert.ConverterException;
 import javax.faces.application.FacesMessage;
 import java.io.IOException;
@@ -246,12 +251,24 @@ public class ExtValRendererProxy extends Renderer implements RendererProxy
 
     protected RendererProxyStorageEntry getRendererEntry(FacesContext facesContext, UIComponent uiComponent)
     {
+        RendererProxyStorage rendererProxyStorage = getRendererStorage();
+
+        if (rendererProxyStorage instanceof IdentityAwareRendererProxyStorage)
+        {
+            String rowKey = createRowKey(uiComponent);
+
+            if (rowKey != null)
+            {
+                //the renderer of a render-kit is a shared instance - the proxy might be created per call
+                return ((IdentityAwareRendererProxyStorage) rendererProxyStorage).getOrCreateEntry(
+                        this.wrapped, uiComponent, rowKey + getOptionalKey(facesContext, uiComponent));
+            }
+        }
+
         String key = uiComponent.getClientId(facesContext);
 
         key += getOptionalKey(facesContext, uiComponent);
 
-        RendererProxyStorage rendererProxyStorage = getRendererStorage();
-
         if (!rendererProxyStorage.containsEntry(getRendererKey(), key))
         {
             rendererProxyStorage.setEntry(getRendererKey(), key, new RendererProxyStorageEntry());
@@ -259,6 +276,40 @@ public class ExtValRendererProxy extends Renderer implements RendererProxy
         return rendererProxyStorage.getEntry(getRendererKey(), key);
     }
 
+    /**
+     * The same component instance is used for all rows of a table. So the row-indices of all parent tables
+     * have to be part of the key (they are also part of the client-id).
+     *
+     * @param uiComponent current component
+     * @return the row-indices of all parent tables or null if the component is nested in a naming-container
+     * which might iterate (e.g. ui:repeat) and the client-id has to be used instead
+     */
+    private String createRowKey(UIComponent uiComponent)
+    {
+        StringBuilder rowKey = null;
+        UIComponent parent = uiComponent.getParent();
+
+        while (parent != null)
+        {
+            if (parent instanceof UIData)
+            {
+                if (rowKey == null)
+                {
+                    rowKey = new StringBuilder();
+                }
+                rowKey.append(((UIData) parent).getRowIndex()).append(NamingContainer.SEPARATOR_CHAR);
+            }
+            else if (parent instanceof NamingContainer &&
+                    !(parent instanceof UIForm) && !UINamingContainer.class.equals(parent.getClass()))
+            {
+                return null;
+            }
+            parent = parent.getParent();
+        }
+
+        return rowKey != null ? rowKey.toString() : "";
+    }
+
     protected String getOptionalKey(FacesContext facesContext, UIComponent uiComponent)
     {
         return "";
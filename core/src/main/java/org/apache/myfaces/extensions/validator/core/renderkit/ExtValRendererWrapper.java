@@ -33,6 +33,7 @@ import javax.faces.convert.ConverterException;
 import javax.faces.render.Renderer;
 import java.io.IOException;
 import java.lang.reflect.Constructor;
+import java.util.List;
 import java.util.logging.Logger;
 import java.util.logging.Level;
 
@@ -56,6 +57,9 @@ public class ExtValRendererWrapper extends Renderer
     protected Renderer wrapped;
     protected ExtValContext extValContext = ExtValContext.getContext();
 
+    //shared by all wrappers - it's replaced as soon as the registered renderer-interceptors change
+    private static volatile RendererInterceptorIndex rendererInterceptorIndex;
+
     public ExtValRendererWrapper(Renderer renderer)
     {
         Class<? extends ExtValRendererProxy> proxyClass = ExtValCoreConfiguration.get().rendererProxy();
@@ -94,10 +98,11 @@ public class ExtValRendererWrapper extends Renderer
     public final void decode(FacesContext facesContext, UIComponent uiComponent)
     {
         boolean delegateToWrappedRenderer = true;
+        RendererInterceptorIndex interceptorIndex = getRendererInterceptorIndex();
 
         try
         {
-            for(RendererInterceptor rendererInterceptor : extValContext.getRendererInterceptors())
+            for(RendererInterceptor rendererInterceptor : interceptorIndex.getBeforeDecodeInterceptors())
             {
                 if (logger.isLoggable(Level.FINEST))
                 {
@@ -141,7 +146,7 @@ public class ExtValRendererWrapper extends Renderer
 
         try
         {
-            for(RendererInterceptor rendererInterceptor : extValContext.getRendererInterceptors())
+            for(RendererInterceptor rendererInterceptor : interceptorIndex.getAfterDecodeInterceptors())
             {
                 if (logger.isLoggable(Level.FINEST))
                 {
@@ -167,10 +172,11 @@ public class ExtValRendererWrapper extends Renderer
         throws IOException
     {
         boolean delegateToWrappedRenderer = true;
+        RendererInterceptorIndex interceptorIndex = getRendererInterceptorIndex();
 
         try
         {
-            for(RendererInterceptor rendererInterceptor : extValContext.getRendererInterceptors())
+            for(RendererInterceptor rendererInterceptor : interceptorIndex.getBeforeEncodeBeginInterceptors())
             {
                 if (logger.isLoggable(Level.FINEST))
                 {
@@ -214,7 +220,7 @@ public class ExtValRendererWrapper extends Renderer
 
         try
         {
-            for(RendererInterceptor rendererInterceptor : extValContext.getRendererInterceptors())
+            for(RendererInterceptor rendererInterceptor : interceptorIndex.getAfterEncodeBeginInterceptors())
             {
                 if (logger.isLoggable(Level.FINEST))
                 {
@@ -240,10 +246,11 @@ public class ExtValRendererWrapper extends Renderer
         throws IOException
     {
         boolean delegateToWrappedRenderer = true;
+        RendererInterceptorIndex interceptorIndex = getRendererInterceptorIndex();
 
         try
         {
-            for(RendererInterceptor rendererInterceptor : extValContext.getRendererInterceptors())
+            for(RendererInterceptor rendererInterceptor : interceptorIndex.getBeforeEncodeChildrenInterceptors())
             {
                 if (logger.isLoggable(Level.FINEST))
                 {
@@ -287,7 +294,7 @@ public class ExtValRendererWrapper extends Renderer
 
         try
         {
-            for(RendererInterceptor rendererInterceptor : extValContext.getRendererInterceptors())
+            for(RendererInterceptor rendererInterceptor : interceptorIndex.getAfterEncodeChildrenInterceptors())
             {
                 if (logger.isLoggable(Level.FINEST))
                 {
@@ -313,10 +320,11 @@ public class ExtValRendererWrapper extends Renderer
         throws IOException
     {
         boolean delegateToWrappedRenderer = true;
+        RendererInterceptorIndex interceptorIndex = getRendererInterceptorIndex();
 
         try
         {
-            for(RendererInterceptor rendererInterceptor : extValContext.getRendererInterceptors())
+            for(RendererInterceptor rendererInterceptor : interceptorIndex.getBeforeEncodeEndInterceptors())
             {
                 if (logger.isLoggable(Level.FINEST))
                 {
@@ -360,7 +368,7 @@ public class ExtValRendererWrapper extends Renderer
 
         try
         {
-            for(RendererInterceptor rendererInterceptor : extValContext.getRendererInterceptors())
+            for(RendererInterceptor rendererInterceptor : interceptorIndex.getAfterEncodeEndInterceptors())
             {
                 if (logger.isLoggable(Level.FINEST))
                 {
@@ -381,6 +389,19 @@ public class ExtValRendererWrapper extends Renderer
         }
     }
 
+    private RendererInterceptorIndex getRendererInterceptorIndex()
+    {
+        List<RendererInterceptor> rendererInterceptors = this.extValContext.getRendererInterceptors();
+        RendererInterceptorIndex currentIndex = rendererInterceptorIndex;
+
+        if (currentIndex == null || !currentIndex.isIndexOf(rendererInterceptors))
+        {
+            currentIndex = new RendererInterceptorIndex(rendererInterceptors);
+            rendererInterceptorIndex = currentIndex;
+        }
+        return currentIndex;
+    }
+
     @Override
     public final String convertClientId(FacesContext facesContext, String s)
     {
@@ -398,13 +419,14 @@ public class ExtValRendererWrapper extends Renderer
         throws ConverterException
     {
         boolean delegateToWrappedRenderer = true;
+        RendererInterceptorIndex interceptorIndex = getRendererInterceptorIndex();
         Object convertedObject = null;
 
         try
         {
             try
             {
-                for(RendererInterceptor rendererInterceptor : extValContext.getRendererInterceptors())
+                for(RendererInterceptor rendererInterceptor : interceptorIndex.getBeforeGetConvertedValueInterceptors())
                 {
                     if (logger.isLoggable(Level.FINEST))
                     {
@@ -451,7 +473,7 @@ public class ExtValRendererWrapper extends Renderer
 
             try
             {
-                for(RendererInterceptor rendererInterceptor : extValContext.getRendererInterceptors())
+                for(RendererInterceptor rendererInterceptor : interceptorIndex.getAfterGetConvertedValueInterceptors())
                 {
                     if (logger.isLoggable(Level.FINEST))
                     {
@@ -477,7 +499,7 @@ public class ExtValRendererWrapper extends Renderer
         {
             if(this.wrapped instanceof ExtValLazyRendererProxy)
             {
-                ((ExtValLazyRendererProxy)this.wrapped).resetConvertedValueCache();
+                ((ExtValLazyRendererProxy)this.wrapped).resetConvertedValueCache(facesContext, uiComponent);
             }
         }
 
@@ -0,0 +1,178 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.myfaces.extensions.validator.core.renderkit;
+
+import org.apache.myfaces.extensions.validator.internal.UsageCategory;
+import org.apache.myfaces.extensions.validator.internal.UsageInformation;
+import org.apache.myfaces.extensions.validator.core.interceptor.AbstractRendererInterceptor;
+import org.apache.myfaces.extensions.validator.core.interceptor.RendererInterceptor;
+
+import javax.faces.component.UIComponent;
+import javax.faces.context.FacesContext;
+import javax.faces.render.Renderer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Snapshot of the registered renderer-interceptors which provides an array per renderer-method.
+ * Interceptors which use the empty implementation of {@link AbstractRendererInterceptor} for a method
+ * aren't part of the array for that method.
+ *
+ * @since r7
+ */
+@UsageInformation(UsageCategory.INTERNAL)
+final class RendererInterceptorIndex
+{
+    private final List<RendererInterceptor> indexedRendererInterceptors;
+    private final int indexedRendererInterceptorCount;
+
+    private final RendererInterceptor[] beforeDecodeInterceptors;
+    private final RendererInterceptor[] afterDecodeInterceptors;
+    private final RendererInterceptor[] beforeEncodeBeginInterceptors;
+    private final RendererInterceptor[] afterEncodeBeginInterceptors;
+    private final RendererInterceptor[] beforeEncodeChildrenInterceptors;
+    private final RendererInterceptor[] afterEncodeChildrenInterceptors;
+    private final RendererInterceptor[] beforeEncodeEndInterceptors;
+    private final RendererInterceptor[] afterEncodeEndInterceptors;
+    private final RendererInterceptor[] beforeGetConvertedValueInterceptors;
+    private final RendererInterceptor[] afterGetConvertedValueInterceptors;
+
+    RendererInterceptorIndex(List<RendererInterceptor> rendererInterceptors)
+    {
+        this.indexedRendererInterceptors = rendererInterceptors;
+        this.indexedRendererInterceptorCount = rendererInterceptors.size();
+
+        this.beforeDecodeInterceptors = filterRendererInterceptors(rendererInterceptors,
+                "beforeDecode", FacesContext.class, UIComponent.class, Renderer.class);
+        this.afterDecodeInterceptors = filterRendererInterceptors(rendererInterceptors,
+                "afterDecode", FacesContext.class, UIComponent.class, Renderer.class);
+        this.beforeEncodeBeginInterceptors = filterRendererInterceptors(rendererInterceptors,
+                "beforeEncodeBegin", FacesContext.class, UIComponent.class, Renderer.class);
+        this.afterEncodeBeginInterceptors = filterRendererInterceptors(rendererInterceptors,
+                "afterEncodeBegin", FacesContext.class, UIComponent.class, Renderer.class);
+        this.beforeEncodeChildrenInterceptors = filterRendererInterceptors(rendererInterceptors,
+                "beforeEncodeChildren", FacesContext.class, UIComponent.class, Renderer.class);
+        this.afterEncodeChildrenInterceptors = filterRendererInterceptors(rendererInterceptors,
+                "afterEncodeChildren", FacesContext.class, UIComponent.class, Renderer.class);
+        this.beforeEncodeEndInterceptors = filterRendererInterceptors(rendererInterceptors,
+                "beforeEncodeEnd", FacesContext.class, UIComponent.class, Renderer.class);
+        this.afterEncodeEndInterceptors = filterRendererInterceptors(rendererInterceptors,
+                "afterEncodeEnd", FacesContext.class, UIComponent.class, Renderer.class);
+        this.beforeGetConvertedValueInterceptors = filterRendererInterceptors(rendererInterceptors,
+                "beforeGetConvertedValue", FacesContext.class, UIComponent.class, Object.class, Renderer.class);
+        this.afterGetConvertedValueInterceptors = filterRendererInterceptors(rendererInterceptors,
+                "afterGetConvertedValue", FacesContext.class, UIComponent.class, Object.class, Renderer.class);
+    }
+
+    /**
+     * The list gets replaced by the {@link org.apache.myfaces.extensions.validator.core.ExtValContext}
+     * as soon as an interceptor gets (de-)registered.
+     *
+     * @param rendererInterceptors the currently registered renderer-interceptors
+     * @return true if the index was created for the given renderer-interceptors
+     */
+    boolean isIndexOf(List<RendererInterceptor> rendererInterceptors)
+    {
+        return this.indexedRendererInterceptors == rendererInterceptors &&
+                this.indexedRendererInterceptorCount == rendererInterceptors.size();
+    }
+
+    private static RendererInterceptor[] filterRendererInterceptors(List<RendererInterceptor> rendererInterceptors,
+                                                                    String methodName,
+                                                                    Class... parameterTypes)
+    {
+        List<RendererInterceptor> result = new ArrayList<RendererInterceptor>(rendererInterceptors.size());
+
+        for (RendererInterceptor rendererInterceptor : rendererInterceptors)
+        {
+            if (isMethodImplemented(rendererInterceptor, methodName, parameterTypes))
+            {
+                result.add(rendererInterceptor);
+            }
+        }
+
+        return result.toArray(new RendererInterceptor[result.size()]);
+    }
+
+    private static boolean isMethodImplemented(RendererInterceptor rendererInterceptor,
+                                               String methodName,
+                                               Class... parameterTypes)
+    {
+        try
+        {
+            return !AbstractRendererInterceptor.class.equals(
+                    rendererInterceptor.getClass().getMethod(methodName, parameterTypes).getDeclaringClass());
+        }
+        catch (NoSuchMethodException e)
+        {
+            //don't skip the interceptor
+            return true;
+        }
+    }
+
+    RendererInterceptor[] getBeforeDecodeInterceptors()
+    {
+        return beforeDecodeInterceptors;
+    }
+
+    RendererInterceptor[] getAfterDecodeInterceptors()
+    {
+        return afterDecodeInterceptors;
+    }
+
+    RendererInterceptor[] getBeforeEncodeBeginInterceptors()
+    {
+        return beforeEncodeBeginInterceptors;
+    }
+
+    RendererInterceptor[] getAfterEncodeBeginInterceptors()
+    {
+        return afterEncodeBeginInterceptors;
+    }
+
+    RendererInterceptor[] getBeforeEncodeChildrenInterceptors()
+    {
+        return beforeEncodeChildrenInterceptors;
+    }
+
+    RendererInterceptor[] getAfterEncodeChildrenInterceptors()
+    {
+        return afterEncodeChildrenInterceptors;
+    }
+
+    RendererInterceptor[] getBeforeEncodeEndInterceptors()
+    {
+        return beforeEncodeEndInterceptors;
+    }
+
+    RendererInterceptor[] getAfterEncodeEndInterceptors()
+    {
+        return afterEncodeEndInterceptors;
+    }
+
+    RendererInterceptor[] getBeforeGetConvertedValueInterceptors()
+    {
+        return beforeGetConvertedValueInterceptors;
+    }
+
+    RendererInterceptor[] getAfterGetConvertedValueInterceptors()
+    {
+        return afterGetConvertedValueInterceptors;
+    }
+}
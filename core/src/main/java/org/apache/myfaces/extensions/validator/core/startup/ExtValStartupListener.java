@@ -101,6 +101,7 @@ public class ExtValStartupListener extends AbstractStartupListener
         initViolationSeverityInterpreter();
         initPropertyValidationInterceptors();
         initPhaseListeners();
+        initMetaDataWarmUp();
         initViolationSeverityKey();
         initDisableClientSideValidationKey();
 
@@ -205,6 +206,17 @@ public class ExtValStartupListener extends AbstractStartupListener
         JsfUtils.registerPhaseListener(new PhaseIdRecordingPhaseListener());
     }
 
+    private void initMetaDataWarmUp()
+    {
+        String metaDataWarmUpTargets = ExtValCoreConfiguration.get().metaDataWarmUpTargets();
+
+        if (metaDataWarmUpTargets != null && metaDataWarmUpTargets.trim().length() > 0)
+        {
+            //executed after all startup-listeners (incl. the listeners of the modules) are finished
+            JsfUtils.registerPhaseListener(new MetaDataWarmUpPhaseListener(metaDataWarmUpTargets));
+        }
+    }
+
     @Deprecated
     @ToDo(value=Priority.MEDIUM, description="DefaultValidationParameterFactory#tryToFindGlobalParameter still uses" +
             "the global parameter")
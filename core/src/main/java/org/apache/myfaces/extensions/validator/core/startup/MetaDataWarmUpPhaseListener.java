@@ -0,0 +1,531 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.myfaces.extensions.validator.core.startup;
+
+import org.apache.myfaces.extensions.validator.core.property.PropertyDetails;
+import org.apache.myfaces.extensions.validator.core.property.PropertyInformation;
+import org.apache.myfaces.extensions.validator.core.property.PropertyInformationKeys;
+import org.apache.myfaces.extensions.validator.core.storage.MappedConstraintSourceStorage;
+import org.apache.myfaces.extensions.validator.core.storage.MetaDataStorage;
+import org.apache.myfaces.extensions.validator.core.storage.PropertyStorage;
+import org.apache.myfaces.extensions.validator.internal.UsageCategory;
+import org.apache.myfaces.extensions.validator.internal.UsageInformation;
+import org.apache.myfaces.extensions.validator.util.ClassUtils;
+import org.apache.myfaces.extensions.validator.util.ConstraintSourceUtils;
+import org.apache.myfaces.extensions.validator.util.ExtValAnnotationUtils;
+import org.apache.myfaces.extensions.validator.util.ExtValUtils;
+import org.apache.myfaces.extensions.validator.util.JsfUtils;
+import org.apache.myfaces.extensions.validator.util.ProxyUtils;
+import org.apache.myfaces.extensions.validator.util.ReflectionUtils;
+
+import javax.faces.event.PhaseEvent;
+import javax.faces.event.PhaseId;
+import javax.faces.event.PhaseListener;
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.net.JarURLConnection;
+import java.net.URL;
+import java.net.URLConnection;
+import java.net.URLDecoder;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Fills the meta-data, property and mapped-constraint-source storages for the configured classes and packages
+ * before the first validation takes place.
+ * It's started after the restore-view phase of the first request - at that point all startup-listeners
+ * (and therefore all meta-data storage filters of the modules) are in place.
+ *
+ * The expensive part (scanning the targets and the reflection based extraction of the meta-data) is done in
+ * parallel by daemon threads in the background - so no request has to wait for it.
+ * Storing the result (incl. the invocation of the meta-data storage filters) is done by the request threads
+ * after the restore-view phase of the following requests, because the filters might need the faces-context.
+ * Properties which can't be processed without a bean instance (e.g. because of a meta-data storage filter)
+ * are skipped - their meta-data gets extracted lazily as usual.
+ *
+ * @since r7
+ */
+@UsageInformation(UsageCategory.INTERNAL)
+public class MetaDataWarmUpPhaseListener implements PhaseListener
+{
+    private static final long serialVersionUID = -3209423357436549164L;
+
+    private static final String PACKAGE_SUFFIX = ".*";
+    private static final String CLASS_FILE_SUFFIX = ".class";
+    private static final String WARM_UP_THREAD_NAME = "extval-meta-data-warm-up";
+
+    protected final Logger logger = Logger.getLogger(getClass().getName());
+
+    private final String warmUpTargets;
+    private boolean executed = false;
+
+    private final BlockingQueue<PropertyInformation> extractedMetaData =
+            new LinkedBlockingQueue<PropertyInformation>();
+    private volatile boolean extractionFinished = false;
+    private final AtomicInteger storedCount = new AtomicInteger();
+    private volatile MetaDataStorage metaDataStorage;
+
+    public MetaDataWarmUpPhaseListener(String warmUpTargets)
+    {
+        this.warmUpTargets = warmUpTargets;
+    }
+
+    public void afterPhase(PhaseEvent phaseEvent)
+    {
+        synchronized (this)
+        {
+            if (!this.executed)
+            {
+                this.executed = true;
+                startExtraction();
+                return;
+            }
+        }
+
+        //the results of the extraction have to be stored before the listener gets deregistered
+        boolean finished = this.extractionFinished;
+
+        storeExtractedMetaData();
+
+        if (finished)
+        {
+            JsfUtils.deregisterPhaseListener(this);
+        }
+    }
+
+    private void startExtraction()
+    {
+        try
+        {
+            //the storages are resolved with the faces-context of the current request -
+            //the extraction itself runs in the background and doesn't delay the request
+            this.metaDataStorage = ExtValUtils.getStorage(MetaDataStorage.class, MetaDataStorage.class.getName());
+            final MappedConstraintSourceStorage mappedConstraintSourceStorage = ExtValUtils.getStorage(
+                    MappedConstraintSourceStorage.class, MappedConstraintSourceStorage.class.getName());
+            final PropertyStorage propertyStorage = ReflectionUtils.getPropertyStorage();
+
+            createWarmUpThread(new Runnable()
+            {
+                public void run()
+                {
+                    try
+                    {
+                        warmUp(metaDataStorage, mappedConstraintSourceStorage, propertyStorage);
+                    }
+                    catch (Exception e)
+                    {
+                        logger.log(Level.WARNING,
+                                "the warm-up of the meta-data failed - the meta-data gets extracted lazily", e);
+                    }
+                    finally
+                    {
+                        extractionFinished = true;
+                    }
+                }
+            }).start();
+        }
+        catch (Exception e)
+        {
+            logger.log(Level.WARNING, "the warm-up of the meta-data failed - the meta-data gets extracted lazily", e);
+            JsfUtils.deregisterPhaseListener(this);
+        }
+    }
+
+    public void beforePhase(PhaseEvent phaseEvent)
+    {
+    }
+
+    public PhaseId getPhaseId()
+    {
+        return PhaseId.RESTORE_VIEW;
+    }
+
+    /**
+     * Creates the daemon thread which executes the warm-up - it doesn't prevent a shutdown of the application.
+     *
+     * @param warmUpTask the task which performs the warm-up
+     * @return a thread which isn't started
+     */
+    protected Thread createWarmUpThread(Runnable warmUpTask)
+    {
+        Thread warmUpThread = new Thread(warmUpTask, WARM_UP_THREAD_NAME);
+        warmUpThread.setDaemon(true);
+        warmUpThread.setPriority(Thread.MIN_PRIORITY);
+        warmUpThread.setContextClassLoader(getClassLoader());
+        return warmUpThread;
+    }
+
+    /**
+     * Scans the targets and extracts the meta-data of the found classes in parallel.
+     * The extracted meta-data is stored by the request threads - see {@link #storeExtractedMetaData()}.
+     */
+    protected void warmUp(final MetaDataStorage metaDataStorage,
+                          final MappedConstraintSourceStorage mappedConstraintSourceStorage,
+                          final PropertyStorage propertyStorage)
+    {
+        long start = System.currentTimeMillis();
+
+        List<Class> targetClasses = resolveTargetClasses();
+
+        if (targetClasses.isEmpty())
+        {
+            return;
+        }
+
+        ExecutorService executorService = Executors.newFixedThreadPool(
+                Math.min(Runtime.getRuntime().availableProcessors(), targetClasses.size()), new ThreadFactory()
+                {
+                    private final AtomicInteger threadCount = new AtomicInteger();
+
+                    public Thread newThread(Runnable runnable)
+                    {
+                        Thread extractionThread = new Thread(
+                                runnable, WARM_UP_THREAD_NAME + "-" + threadCount.incrementAndGet());
+                        extractionThread.setDaemon(true);
+                        extractionThread.setPriority(Thread.MIN_PRIORITY);
+                        extractionThread.setContextClassLoader(getClassLoader());
+                        return extractionThread;
+                    }
+                });
+
+        try
+        {
+            List<Future<?>> extractionTasks = new ArrayList<Future<?>>(targetClasses.size());
+
+            for (final Class targetClass : targetClasses)
+            {
+                extractionTasks.add(executorService.submit(new Runnable()
+                {
+                    public void run()
+                    {
+                        extractMetaDataOf(
+                                metaDataStorage, mappedConstraintSourceStorage, propertyStorage, targetClass);
+                    }
+                }));
+            }
+
+            for (Future<?> extractionTask : extractionTasks)
+            {
+                try
+                {
+                    extractionTask.get();
+                }
+                catch (ExecutionException e)
+                {
+                    logger.log(Level.FINE, "meta-data extraction failed", e.getCause());
+                }
+            }
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+        }
+        finally
+        {
+            executorService.shutdownNow();
+        }
+
+        logger.info("meta-data extraction for the warm-up of " + targetClasses.size() + " classes finished in " +
+                (System.currentTimeMillis() - start) + "ms");
+    }
+
+    private void extractMetaDataOf(MetaDataStorage metaDataStorage,
+                                   MappedConstraintSourceStorage mappedConstraintSourceStorage,
+                                   PropertyStorage propertyStorage,
+                                   Class targetClass)
+    {
+        for (String property : findPropertyNames(targetClass))
+        {
+            try
+            {
+                ConstraintSourceUtils.resolveMappedConstraintSourceFor(
+                        mappedConstraintSourceStorage, propertyStorage, null, targetClass, property);
+
+                if (!metaDataStorage.containsMetaDataFor(targetClass, property))
+                {
+                    this.extractedMetaData.add(ExtValAnnotationUtils.extractAnnotations(
+                            propertyStorage, targetClass, new PropertyDetails(null, targetClass, property)));
+                }
+            }
+            catch (RuntimeException e)
+            {
+                logger.fine("no warm-up for " + targetClass.getName() + "#" + property + " - " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Stores the meta-data which is extracted so far. It's called by request threads,
+     * so the meta-data storage filters have access to the faces-context.
+     */
+    protected void storeExtractedMetaData()
+    {
+        List<PropertyInformation> currentMetaData = new ArrayList<PropertyInformation>();
+        this.extractedMetaData.drainTo(currentMetaData);
+
+        for (PropertyInformation propertyInformation : currentMetaData)
+        {
+            if (tryToStoreMetaData(propertyInformation))
+            {
+                this.storedCount.incrementAndGet();
+            }
+        }
+
+        if (!currentMetaData.isEmpty())
+        {
+            logger.fine("warm-up: meta-data of " + this.storedCount.get() + " properties stored");
+        }
+    }
+
+    private boolean tryToStoreMetaData(PropertyInformation propertyInformation)
+    {
+        PropertyDetails propertyDetails = propertyInformation
+                .getInformation(PropertyInformationKeys.PROPERTY_DETAILS, PropertyDetails.class);
+
+        Class targetClass = (Class) propertyDetails.getBaseObject();
+        String property = propertyDetails.getProperty();
+
+        try
+        {
+            //the meta-data might be extracted lazily in the meantime
+            if (this.metaDataStorage.containsMetaDataFor(targetClass, property))
+            {
+                return false;
+            }
+
+            this.metaDataStorage.storeMetaDataOf(propertyInformation);
+            return true;
+        }
+        catch (RuntimeException e)
+        {
+            //e.g. a storage filter needs an instance of the bean -> the meta-data gets extracted lazily
+            logger.fine("no warm-up for " + targetClass.getName() + "#" + property + " - " + e.getMessage());
+            return false;
+        }
+    }
+
+    private Set<String> findPropertyNames(Class targetClass)
+    {
+        Set<String> result = new LinkedHashSet<String>();
+
+        String methodName;
+        for (Method method : targetClass.getMethods())
+        {
+            if (method.getParameterTypes().length != 0 || Object.class.equals(method.getDeclaringClass()))
+            {
+                continue;
+            }
+
+            methodName = method.getName();
+            if (methodName.startsWith("get") && methodName.length() > 3)
+            {
+                result.add(convertToPropertyName(methodName.substring(3)));
+            }
+            else if (methodName.startsWith("is") && methodName.length() > 2 &&
+                    (boolean.class.equals(method.getReturnType()) || Boolean.class.equals(method.getReturnType())))
+            {
+                result.add(convertToPropertyName(methodName.substring(2)));
+            }
+        }
+
+        Class currentClass = targetClass;
+        while (currentClass != null && !Object.class.equals(currentClass))
+        {
+            for (Field field : currentClass.getDeclaredFields())
+            {
+                if (!Modifier.isStatic(field.getModifiers()) && !field.isSynthetic())
+                {
+                    result.add(field.getName().startsWith("_") ? field.getName().substring(1) : field.getName());
+                }
+            }
+            currentClass = currentClass.getSuperclass();
+        }
+        return result;
+    }
+
+    private String convertToPropertyName(String name)
+    {
+        return name.substring(0, 1).toLowerCase() + name.substring(1);
+    }
+
+    protected List<Class> resolveTargetClasses()
+    {
+        Set<Class> result = new LinkedHashSet<Class>();
+
+        for (String target : this.warmUpTargets.split(","))
+        {
+            target = target.trim();
+
+            if (target.length() == 0)
+            {
+                continue;
+            }
+
+            if (target.endsWith(PACKAGE_SUFFIX))
+            {
+                addClassesOfPackage(target.substring(0, target.length() - PACKAGE_SUFFIX.length()), result);
+            }
+            else
+            {
+                addClass(target, result);
+            }
+        }
+        return new ArrayList<Class>(result);
+    }
+
+    private void addClassesOfPackage(String packageName, Set<Class> result)
+    {
+        String path = packageName.replace('.', '/');
+
+        try
+        {
+            Enumeration<URL> resources = getClassLoader().getResources(path);
+
+            URL resource;
+            while (resources.hasMoreElements())
+            {
+                resource = resources.nextElement();
+
+                if ("file".equals(resource.getProtocol()))
+                {
+                    addClassesOfDirectory(
+                            new File(URLDecoder.decode(resource.getPath(), "UTF-8")), packageName, result);
+                }
+                else
+                {
+                    addClassesOfJar(resource, path, result);
+                }
+            }
+        }
+        catch (IOException e)
+        {
+            logger.log(Level.WARNING, "failed to scan package " + packageName, e);
+        }
+    }
+
+    private void addClassesOfDirectory(File directory, String packageName, Set<Class> result)
+    {
+        File[] files = directory.listFiles();
+
+        if (files == null)
+        {
+            return;
+        }
+
+        for (File file : files)
+        {
+            if (file.isDirectory())
+            {
+                addClassesOfDirectory(file, packageName + "." + file.getName(), result);
+            }
+            else if (file.getName().endsWith(CLASS_FILE_SUFFIX))
+            {
+                addClass(packageName + "." +
+                        file.getName().substring(0, file.getName().length() - CLASS_FILE_SUFFIX.length()), result);
+            }
+        }
+    }
+
+    private void addClassesOfJar(URL resource, String path, Set<Class> result) throws IOException
+    {
+        URLConnection connection = resource.openConnection();
+
+        if (!(connection instanceof JarURLConnection))
+        {
+            logger.warning("scanning " + resource + " isn't supported - please list the classes explicitly");
+            return;
+        }
+
+        JarFile jarFile = ((JarURLConnection) connection).getJarFile();
+        Enumeration<JarEntry> entries = jarFile.entries();
+
+        String entryName;
+        while (entries.hasMoreElements())
+        {
+            entryName = entries.nextElement().getName();
+
+            if (entryName.startsWith(path + "/") && entryName.endsWith(CLASS_FILE_SUFFIX))
+            {
+                addClass(entryName.substring(0, entryName.length() - CLASS_FILE_SUFFIX.length()).replace('/', '.'),
+                        result);
+            }
+        }
+    }
+
+    private void addClass(String className, Set<Class> result)
+    {
+        //anonymous classes
+        if (className.contains("$") &&
+                Character.isDigit(className.charAt(className.lastIndexOf('$') + 1)))
+        {
+            return;
+        }
+
+        Class targetClass;
+        try
+        {
+            targetClass = ClassUtils.tryToLoadClassForName(className);
+        }
+        catch (LinkageError e)
+        {
+            logger.fine(className + " can't be loaded - " + e.getMessage());
+            return;
+        }
+
+        if (targetClass == null)
+        {
+            logger.warning(className + " not found - no warm-up for this class");
+            return;
+        }
+
+        if (!targetClass.isInterface() && !targetClass.isAnnotation() && !targetClass.isEnum())
+        {
+            result.add(ProxyUtils.getUnproxiedClass(targetClass));
+        }
+    }
+
+    private ClassLoader getClassLoader()
+    {
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+
+        if (classLoader == null)
+        {
+            classLoader = getClass().getClassLoader();
+        }
+        return classLoader;
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.myfaces.extensions.validator.core.storage;
+
+import org.apache.myfaces.extensions.validator.internal.UsageCategory;
+import org.apache.myfaces.extensions.validator.internal.UsageInformation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Approximated lru eviction of the size-limited caches (e.g. {@link ClassKeyedCache}, {@link KeyedCache} and
+ * {@link DefaultPatternStorage}).
+ * The eviction is rare compared to the lookups, so the lookups don't have to be synchronized.
+ * Just the eviction itself is synchronized.
+ *
+ * @since r7
+ */
+@UsageInformation(UsageCategory.INTERNAL)
+class BoundedCacheEviction
+{
+    private final int maxSize;
+    private final AtomicLong evictionCount = new AtomicLong();
+
+    /**
+     * @param maxSize max. number of cached entries - a value less than 1 deactivates the eviction
+     */
+    BoundedCacheEviction(int maxSize)
+    {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * @return true if the access of the entries has to be tracked
+     */
+    boolean isActive()
+    {
+        return this.maxSize > 0;
+    }
+
+    long getEvictionCount()
+    {
+        return this.evictionCount.get();
+    }
+
+    <K, E extends BoundedCacheEntry> void evictEntries(ConcurrentMap<K, E> entries)
+    {
+        if (this.maxSize < 1 || entries.size() <= this.maxSize)
+        {
+            return;
+        }
+
+        synchronized (this)
+        {
+            int numberOfEntriesToEvict = entries.size() - this.maxSize;
+
+            if (numberOfEntriesToEvict <= 0)
+            {
+                return;
+            }
+
+            //evict some additional entries to avoid an eviction for every new entry
+            numberOfEntriesToEvict += this.maxSize / 10;
+
+            List<Map.Entry<K, E>> currentEntries = new ArrayList<Map.Entry<K, E>>(entries.entrySet());
+
+            Collections.sort(currentEntries, new Comparator<Map.Entry<K, E>>()
+            {
+                public int compare(Map.Entry<K, E> entry1, Map.Entry<K, E> entry2)
+                {
+                    long lastAccess1 = entry1.getValue().getLastAccess();
+                    long lastAccess2 = entry2.getValue().getLastAccess();
+                    return lastAccess1 < lastAccess2 ? -1 : (lastAccess1 == lastAccess2 ? 0 : 1);
+                }
+            });
+
+            for (int i = 0; i < numberOfEntriesToEvict && i < currentEntries.size(); i++)
+            {
+                if (entries.remove(currentEntries.get(i).getKey(), currentEntries.get(i).getValue()))
+                {
+                    this.evictionCount.incrementAndGet();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.myfaces.extensions.validator.core.storage;
+
+import org.apache.myfaces.extensions.validator.internal.UsageCategory;
+import org.apache.myfaces.extensions.validator.internal.UsageInformation;
+
+/**
+ * Snapshot of the statistics of a {@link ClassKeyedCache}.
+ *
+ * @since r7
+ */
+@UsageInformation(UsageCategory.INTERNAL)
+public final class CacheStatistics
+{
+    private final long hitCount;
+    private final long missCount;
+    private final long evictionCount;
+    private final int size;
+
+    public CacheStatistics(long hitCount, long missCount, long evictionCount, int size)
+    {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.evictionCount = evictionCount;
+        this.size = size;
+    }
+
+    public long getHitCount()
+    {
+        return hitCount;
+    }
+
+    public long getMissCount()
+    {
+        return missCount;
+    }
+
+    public long getEvictionCount()
+    {
+        return evictionCount;
+    }
+
+    public int getSize()
+    {
+        return size;
+    }
+
+    public double getHitRate()
+    {
+        long requestCount = this.hitCount + this.missCount;
+
+        if (requestCount == 0)
+        {
+            return 1.0;
+        }
+        return (double) this.hitCount / requestCount;
+    }
+
+    @Override
+    public String toString()
+    {
+        return "hits: " + this.hitCount + ", misses: " + this.missCount + ", evictions: " + this.evictionCount +
+                ", size: " + this.size;
+    }
+}
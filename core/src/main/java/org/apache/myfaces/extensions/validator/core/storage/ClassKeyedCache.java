@@ -0,0 +1,242 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.myfaces.extensions.validator.core.storage;
+
+import org.apache.myfaces.extensions.validator.internal.UsageCategory;
+import org.apache.myfaces.extensions.validator.internal.UsageInformation;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cache which uses classes as keys. It's used by the storages which cache information per class.
+ * <p/>
+ * The classes are referenced weakly and the cached values softly (values like fields and methods reference their
+ * class). So the cache doesn't prevent that the class-loader of an application gets garbage collected
+ * (e.g. after a redeployment).<br/>
+ * If the number of cached classes exceeds the maximum size, the least recently used entries get evicted.
+ * Since all users of this cache just store information which can be re-created, evicted entries are recreated
+ * on demand.
+ *
+ * @since r7
+ */
+@UsageInformation(UsageCategory.INTERNAL)
+public class ClassKeyedCache<V>
+{
+    private final ConcurrentMap<ClassKey, CacheEntry<V>> entries = new ConcurrentHashMap<ClassKey, CacheEntry<V>>();
+    private final ReferenceQueue<Class> collectedClasses = new ReferenceQueue<Class>();
+
+    private final BoundedCacheEviction eviction;
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+
+    /**
+     * @param maxSize max. number of cached classes - a value less than 1 deactivates the eviction
+     */
+    public ClassKeyedCache(int maxSize)
+    {
+        this.eviction = new BoundedCacheEviction(maxSize);
+    }
+
+    public V get(Class targetClass)
+    {
+        expungeCollectedClasses();
+
+        ClassKey key = new LookupKey(targetClass);
+        CacheEntry<V> entry = this.entries.get(key);
+
+        if (entry != null)
+        {
+            V value = entry.getValue(this.eviction.isActive());
+
+            if (value != null)
+            {
+                this.hitCount.incrementAndGet();
+                return value;
+            }
+
+            //the value was collected by the gc
+            this.entries.remove(key, entry);
+        }
+
+        this.missCount.incrementAndGet();
+        return null;
+    }
+
+    /**
+     * Caches the given value if there is no value for the given class.
+     *
+     * @param targetClass class which is used as key
+     * @param value new value
+     * @return the value which is cached for the given class
+     */
+    public V putIfAbsent(Class targetClass, V value)
+    {
+        expungeCollectedClasses();
+
+        CacheEntry<V> newEntry = new CacheEntry<V>(value);
+        CacheEntry<V> existingEntry = this.entries.putIfAbsent(
+                new WeakClassKey(targetClass, this.collectedClasses), newEntry);
+
+        if (existingEntry != null)
+        {
+            V existingValue = existingEntry.getValue(this.eviction.isActive());
+
+            if (existingValue != null)
+            {
+                return existingValue;
+            }
+
+            this.entries.put(new WeakClassKey(targetClass, this.collectedClasses), newEntry);
+        }
+
+        this.eviction.evictEntries(this.entries);
+        return value;
+    }
+
+    public void remove(Class targetClass)
+    {
+        this.entries.remove(new LookupKey(targetClass));
+    }
+
+    public void clear()
+    {
+        this.entries.clear();
+    }
+
+    public int size()
+    {
+        return this.entries.size();
+    }
+
+    public CacheStatistics getStatistics()
+    {
+        return new CacheStatistics(
+                this.hitCount.get(), this.missCount.get(), this.eviction.getEvictionCount(), this.entries.size());
+    }
+
+    private void expungeCollectedClasses()
+    {
+        Reference<? extends Class> collectedClass;
+        while ((collectedClass = this.collectedClasses.poll()) != null)
+        {
+            this.entries.remove(collectedClass);
+        }
+    }
+
+    private static class CacheEntry<V> extends BoundedCacheEntry
+    {
+        private final SoftReference<V> value;
+
+        private CacheEntry(V value)
+        {
+            this.value = new SoftReference<V>(value);
+        }
+
+        private V getValue(boolean trackAccess)
+        {
+            //the access time is just needed for the eviction
+            if (trackAccess)
+            {
+                trackAccess();
+            }
+            return this.value.get();
+        }
+    }
+
+    /*
+     * keys are equal if they reference the same class
+     */
+    private interface ClassKey
+    {
+        Class getTargetClass();
+    }
+
+    private static class WeakClassKey extends WeakReference<Class> implements ClassKey
+    {
+        private final int hashCode;
+
+        private WeakClassKey(Class targetClass, ReferenceQueue<Class> referenceQueue)
+        {
+            super(targetClass, referenceQueue);
+            this.hashCode = System.identityHashCode(targetClass);
+        }
+
+        public Class getTargetClass()
+        {
+            return get();
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return this.hashCode;
+        }
+
+        @Override
+        public boolean equals(Object other)
+        {
+            if (this == other)
+            {
+                return true;
+            }
+
+            if (!(other instanceof ClassKey))
+            {
+                return false;
+            }
+
+            Class targetClass = get();
+            return targetClass != null && targetClass == ((ClassKey) other).getTargetClass();
+        }
+    }
+
+    private static class LookupKey implements ClassKey
+    {
+        private final Class targetClass;
+
+        private LookupKey(Class targetClass)
+        {
+            this.targetClass = targetClass;
+        }
+
+        public Class getTargetClass()
+        {
+            return this.targetClass;
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return System.identityHashCode(this.targetClass);
+        }
+
+        @Override
+        public boolean equals(Object other)
+        {
+            return other instanceof ClassKey && this.targetClass == ((ClassKey) other).getTargetClass();
+        }
+    }
+}
@@ -18,6 +18,7 @@
  */
 package org.apache.myfaces.extensions.validator.core.storage;
 
+import org.apache.myfaces.extensions.validator.core.ExtValCoreConfiguration;
 import org.apache.myfaces.extensions.validator.core.property.PropertyDetails;
 import static org.apache.myfaces.extensions.validator.internal.UsageCategory.INTERNAL;
 import org.apache.myfaces.extensions.validator.internal.UsageInformation;
@@ -26,19 +27,18 @@ import org.apache.myfaces.extensions.validator.util.NullValueAwareConcurrentHash
 
 import java.util.Map;
 import java.util.ResourceBundle;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Logger;
 
 /**
  * @since r4
  */
 @UsageInformation(INTERNAL)
-public class DefaultMappedConstraintSourceStorage implements MappedConstraintSourceStorage
+public class DefaultMappedConstraintSourceStorage implements EvictionAwareMappedConstraintSourceStorage
 {
     protected final Logger logger = Logger.getLogger(getClass().getName());
 
-    private Map<String, Map<String, PropertyDetails>> propertyDetailsMap =
-            new ConcurrentHashMap<String, Map<String, PropertyDetails>>();
+    private ClassKeyedCache<Map<String, PropertyDetails>> propertyDetailsMap =
+            new ClassKeyedCache<Map<String, PropertyDetails>>(ExtValCoreConfiguration.get().storageCacheMaxSize());
 
     public void storeMapping(Class originalClass, String originalProperty, PropertyDetails targetPropertyDetails)
     {
@@ -82,6 +82,25 @@ public class DefaultMappedConstraintSourceStorage implements MappedConstraintSou
         return new PropertyDetails(foundEntry.getKey(), foundEntry.getBaseObject(), foundEntry.getProperty());
     }
 
+    public PropertyDetails findMappedConstraintSource(Class originalClass, String originalProperty)
+    {
+        if(isFilteredClass(originalClass))
+        {
+            return createDefaultValue();
+        }
+
+        Map<String, PropertyDetails> classMap = getMapForClass(originalClass);
+        PropertyDetails foundEntry = classMap.get(originalProperty);
+
+        if(foundEntry == null)
+        {
+            //the cache just drops the map of a class as a whole -> the result is consistent with the lookup
+            return classMap.containsKey(originalProperty) ? createDefaultValue() : null;
+        }
+
+        return new PropertyDetails(foundEntry.getKey(), foundEntry.getBaseObject(), foundEntry.getProperty());
+    }
+
     public boolean containsMapping(Class originalClass, String originalProperty)
     {
         if(isFilteredClass(originalClass))
@@ -92,15 +111,26 @@ public class DefaultMappedConstraintSourceStorage implements MappedConstraintSou
         return getMapForClass(originalClass).containsKey(originalProperty);
     }
 
+    /**
+     * @return the statistics of the mapping cache
+     * @since r7
+     */
+    public CacheStatistics getCacheStatistics()
+    {
+        return this.propertyDetailsMap.getStatistics();
+    }
+
     private Map<String, PropertyDetails> getMapForClass(Class target)
     {
-        String key = ProxyUtils.getClassName(target);
-        if(!this.propertyDetailsMap.containsKey(key))
+        Class key = ProxyUtils.getUnproxiedClass(target);
+        Map<String, PropertyDetails> result = this.propertyDetailsMap.get(key);
+
+        if(result == null)
         {
-            this.propertyDetailsMap.put(
+            result = this.propertyDetailsMap.putIfAbsent(
                     key, new NullValueAwareConcurrentHashMap<String, PropertyDetails>(createDefaultValue()));
         }
-        return this.propertyDetailsMap.get(key);
+        return result;
     }
 
     private PropertyDetails createDefaultValue()
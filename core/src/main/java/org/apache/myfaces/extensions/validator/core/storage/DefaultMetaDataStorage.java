@@ -20,19 +20,16 @@ package org.apache.myfaces.extensions.validator.core.storage;
 
 import org.apache.myfaces.extensions.validator.core.ExtValCoreConfiguration;
 import org.apache.myfaces.extensions.validator.internal.UsageInformation;
-import org.apache.myfaces.extensions.validator.internal.ToDo;
-import org.apache.myfaces.extensions.validator.internal.Priority;
 import static org.apache.myfaces.extensions.validator.internal.UsageCategory.INTERNAL;
 import org.apache.myfaces.extensions.validator.core.property.PropertyInformation;
 import org.apache.myfaces.extensions.validator.core.property.PropertyDetails;
 import org.apache.myfaces.extensions.validator.core.property.PropertyInformationKeys;
-import org.apache.myfaces.extensions.validator.core.property.DefaultPropertyInformation;
 import org.apache.myfaces.extensions.validator.core.metadata.MetaDataEntry;
+import org.apache.myfaces.extensions.validator.core.metadata.ImmutableMetaDataEntry;
 import org.apache.myfaces.extensions.validator.core.CustomInformation;
 import org.apache.myfaces.extensions.validator.core.ExtValContext;
 import org.apache.myfaces.extensions.validator.util.ClassUtils;
 import org.apache.myfaces.extensions.validator.util.ProxyUtils;
-import org.apache.myfaces.extensions.validator.util.NullValueAwareConcurrentHashMap;
 
 import java.util.Map;
 import java.util.List;
@@ -45,12 +42,13 @@ import java.util.logging.Logger;
  * @since x.x.3
  */
 @UsageInformation(INTERNAL)
-public class DefaultMetaDataStorage implements MetaDataStorage
+public class DefaultMetaDataStorage implements EvictionAwareMetaDataStorage
 {
     protected final Logger logger = Logger.getLogger(getClass().getName());
 
-    private Map<String, Map<String, PropertyInformation>> cachedPropertyInformation =
-            new ConcurrentHashMap<String, Map<String, PropertyInformation>>();
+    private ClassKeyedCache<Map<String, ImmutableMetaDataEntry[]>> cachedMetaData =
+            new ClassKeyedCache<Map<String, ImmutableMetaDataEntry[]>>(
+                    ExtValCoreConfiguration.get().storageCacheMaxSize());
 
     private List<MetaDataStorageFilter> metaDataStorageFilters = new CopyOnWriteArrayList<MetaDataStorageFilter>();
     private List<Class<? extends MetaDataStorageFilter>> deniedMetaDataFilters =
@@ -90,15 +88,21 @@ public class DefaultMetaDataStorage implements MetaDataStorage
     {
         invokeFilters(propertyInformation);
 
-        PropertyInformation propertyInformationToStore = new DefaultPropertyInformation();
-
         PropertyDetails propertyDetails = propertyInformation
                 .getInformation(PropertyInformationKeys.PROPERTY_DETAILS, PropertyDetails.class);
 
-        copyMetaData(propertyInformation, propertyInformationToStore);
+        getMapForClass(getTargetClass(propertyDetails))
+                .put(propertyDetails.getProperty(), toImmutableMetaData(propertyInformation.getMetaDataEntries()));
+    }
 
-        getMapForClass(ProxyUtils.getUnproxiedClass(propertyDetails.getBaseObject().getClass()))
-                .put(propertyDetails.getProperty(), propertyInformationToStore);
+    private Class getTargetClass(PropertyDetails propertyDetails)
+    {
+        //e.g. during the warm-up there is no instance of the bean
+        if(propertyDetails.getBaseObject() instanceof Class)
+        {
+            return ProxyUtils.getUnproxiedClass((Class)propertyDetails.getBaseObject());
+        }
+        return ProxyUtils.getUnproxiedClass(propertyDetails.getBaseObject().getClass());
     }
 
     private void invokeFilters(PropertyInformation propertyInformation)
@@ -111,12 +115,31 @@ public class DefaultMetaDataStorage implements MetaDataStorage
 
     public MetaDataEntry[] getMetaData(Class targetClass, String targetProperty)
     {
-        PropertyInformation propertyInformation = getMapForClass(targetClass).get(targetProperty);
+        MetaDataEntry[] result = findMetaData(targetClass, targetProperty);
+
+        if (result == null)
+        {
+            return new MetaDataEntry[0];
+        }
+        return result;
+    }
 
-        PropertyInformation clonedPropertyInformation = new DefaultPropertyInformation();
-        copyMetaData(propertyInformation, clonedPropertyInformation);
+    public MetaDataEntry[] findMetaData(Class targetClass, String targetProperty)
+    {
+        ImmutableMetaDataEntry[] sharedMetaData = getMapForClass(targetClass).get(targetProperty);
 
-        return clonedPropertyInformation.getMetaDataEntries();
+        if (sharedMetaData == null)
+        {
+            return null;
+        }
+
+        //the shared entries aren't copied - the overlays just host the information of the current request
+        MetaDataEntry[] result = new MetaDataEntry[sharedMetaData.length];
+        for (int i = 0; i < sharedMetaData.length; i++)
+        {
+            result[i] = sharedMetaData[i].createOverlay();
+        }
+        return result;
     }
 
     public boolean containsMetaDataFor(Class targetClass, String targetProperty)
@@ -182,18 +205,22 @@ public class DefaultMetaDataStorage implements MetaDataStorage
         deregisterFilter(filterClass);
     }
 
-    @ToDo(Priority.MEDIUM)
-    private void copyMetaData(PropertyInformation source, PropertyInformation target)
+    private ImmutableMetaDataEntry[] toImmutableMetaData(MetaDataEntry[] metaDataEntries)
     {
-        MetaDataEntry newMetaDataEntry;
-        for(MetaDataEntry metaDataEntry : source.getMetaDataEntries())
-        {
-            newMetaDataEntry = new MetaDataEntry();
-            newMetaDataEntry.setKey(metaDataEntry.getKey());
-            newMetaDataEntry.setValue(metaDataEntry.getValue());
+        ImmutableMetaDataEntry[] result = new ImmutableMetaDataEntry[metaDataEntries.length];
 
-            target.addMetaDataEntry(newMetaDataEntry);
+        for (int i = 0; i < metaDataEntries.length; i++)
+        {
+            if (metaDataEntries[i] instanceof ImmutableMetaDataEntry)
+            {
+                result[i] = (ImmutableMetaDataEntry)metaDataEntries[i];
+            }
+            else
+            {
+                result[i] = new ImmutableMetaDataEntry(metaDataEntries[i].getKey(), metaDataEntries[i].getValue());
+            }
         }
+        return result;
     }
 
     private void logAddedFilter(Class<? extends MetaDataStorageFilter> filterClass)
@@ -206,65 +233,25 @@ public class DefaultMetaDataStorage implements MetaDataStorage
         this.logger.info(filterClass.getName() + " removed");
     }
 
-    private Map<String, PropertyInformation> getMapForClass(Class target)
+    /**
+     * @return the statistics of the meta-data cache
+     * @since r7
+     */
+    public CacheStatistics getCacheStatistics()
     {
-        String key = ProxyUtils.getClassName(target);
-        if(!this.cachedPropertyInformation.containsKey(key))
-        {
-            this.cachedPropertyInformation.put(key,
-                new NullValueAwareConcurrentHashMap<String, PropertyInformation>(new NullMarkerPropertyInformation()));
-        }
-        return this.cachedPropertyInformation.get(key);
+        return this.cachedMetaData.getStatistics();
     }
 
-    private static class NullMarkerPropertyInformation implements PropertyInformation
+    private Map<String, ImmutableMetaDataEntry[]> getMapForClass(Class target)
     {
-        public boolean containsInformation(String key)
-        {
-            throw new UnsupportedOperationException();
-        }
-
-        public Object getInformation(String key)
-        {
-            throw new UnsupportedOperationException();
-        }
-
-        public <T> T getInformation(String key, Class<T> targetClass)
-        {
-            throw new UnsupportedOperationException();
-        }
-
-        public void setInformation(String key, Object value)
-        {
-            throw new UnsupportedOperationException();
-        }
-
-        public MetaDataEntry[] getMetaDataEntries()
-        {
-            throw new UnsupportedOperationException();
-        }
-
-        public void addMetaDataEntry(MetaDataEntry metaDataEntry)
-        {
-            throw new UnsupportedOperationException();
-        }
-
-        public void resetMetaDataEntries()
-        {
-            throw new UnsupportedOperationException();
-        }
-
-        @Override
-        public int hashCode()
-        {
-            return getClass().hashCode();
-        }
+        Class key = ProxyUtils.getUnproxiedClass(target);
+        Map<String, ImmutableMetaDataEntry[]> result = this.cachedMetaData.get(key);
 
-        @Override
-        public boolean equals(Object target)
+        if(result == null)
         {
-            return target != null && getClass().equals(target.getClass());
+            result = this.cachedMetaData.putIfAbsent(key, new ConcurrentHashMap<String, ImmutableMetaDataEntry[]>());
         }
+        return result;
     }
 
     private Class<? extends MetaDataStorageFilter> getStorageFilterClass(MetaDataStorageFilter storageFilter)
@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.myfaces.extensions.validator.core.storage;
+
+import org.apache.myfaces.extensions.validator.core.ExtValCoreConfiguration;
+import org.apache.myfaces.extensions.validator.internal.UsageInformation;
+import static org.apache.myfaces.extensions.validator.internal.UsageCategory.INTERNAL;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * Keeps the most recently used patterns.
+ * The max. number of patterns is defined by {@link ExtValCoreConfiguration#storageCacheMaxSize()}.
+ * <p/>
+ * Lookups aren't synchronized. Just the eviction (after a miss) is synchronized - see {@link BoundedCacheEviction}.
+ *
+ * @since r7
+ */
+@UsageInformation(INTERNAL)
+public class DefaultPatternStorage implements PatternStorage
+{
+    private final BoundedCacheEviction eviction =
+            new BoundedCacheEviction(ExtValCoreConfiguration.get().storageCacheMaxSize());
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+
+    private final ConcurrentMap<String, PatternEntry> patterns = new ConcurrentHashMap<String, PatternEntry>();
+
+    public Pattern getPattern(String expression)
+    {
+        return getPattern(expression, 0);
+    }
+
+    public Pattern getPattern(String expression, int flags)
+    {
+        String key = flags + ":" + expression;
+
+        PatternEntry entry = this.patterns.get(key);
+
+        if (entry != null)
+        {
+            this.hitCount.incrementAndGet();
+            return entry.getPattern(this.eviction.isActive());
+        }
+
+        this.missCount.incrementAndGet();
+
+        //in the worst case the same expression is compiled twice
+        PatternEntry newEntry = new PatternEntry(Pattern.compile(expression, flags));
+        PatternEntry existingEntry = this.patterns.putIfAbsent(key, newEntry);
+
+        if (existingEntry != null)
+        {
+            return existingEntry.getPattern(this.eviction.isActive());
+        }
+
+        this.eviction.evictEntries(this.patterns);
+        return newEntry.getPattern(false);
+    }
+
+    public CacheStatistics getCacheStatistics()
+    {
+        return new CacheStatistics(
+                this.hitCount.get(), this.missCount.get(), this.eviction.getEvictionCount(), this.patterns.size());
+    }
+
+    private static class PatternEntry extends BoundedCacheEntry
+    {
+        private final Pattern pattern;
+
+        private PatternEntry(Pattern pattern)
+        {
+            this.pattern = pattern;
+        }
+
+        private Pattern getPattern(boolean trackAccess)
+        {
+            //the access time is just needed for the eviction
+            if (trackAccess)
+            {
+                trackAccess();
+            }
+            return this.pattern;
+        }
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.myfaces.extensions.validator.core.storage;
+
+import org.apache.myfaces.extensions.validator.core.property.PropertyDetails;
+import org.apache.myfaces.extensions.validator.internal.UsageCategory;
+import org.apache.myfaces.extensions.validator.internal.UsageInformation;
+import org.apache.myfaces.extensions.validator.util.JsfUtils;
+
+import javax.el.ValueExpression;
+import javax.faces.component.NamingContainer;
+import javax.faces.component.UIComponent;
+import javax.faces.component.UIData;
+import javax.faces.component.UIForm;
+import javax.faces.component.UINamingContainer;
+import javax.faces.event.PhaseId;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * @since r7
+ */
+@UsageInformation(UsageCategory.INTERNAL)
+public class DefaultPropertyDetailsStorage implements PropertyDetailsStorage
+{
+    private Map<UIComponent, PropertyDetailsEntry> propertyDetailsMap =
+            new IdentityHashMap<UIComponent, PropertyDetailsEntry>();
+
+    public void storePropertyDetails(UIComponent uiComponent, PropertyDetails propertyDetails)
+    {
+        if (propertyDetails == null)
+        {
+            this.propertyDetailsMap.remove(uiComponent);
+            return;
+        }
+
+        UIData[] parentTables = findParentTables(uiComponent);
+
+        //the component might be nested in a naming-container which iterates (e.g. ui:repeat)
+        if (parentTables == null)
+        {
+            this.propertyDetailsMap.remove(uiComponent);
+            return;
+        }
+
+        this.propertyDetailsMap.put(uiComponent, new PropertyDetailsEntry(
+                uiComponent.getValueExpression("value"),
+                parentTables,
+                getRowIndices(parentTables),
+                JsfUtils.getCurrentPhaseId(),
+                copyOf(propertyDetails)));
+    }
+
+    public PropertyDetails getPropertyDetails(UIComponent uiComponent)
+    {
+        PropertyDetailsEntry entry = this.propertyDetailsMap.get(uiComponent);
+
+        if (entry == null)
+        {
+            return null;
+        }
+
+        if (!isValidEntry(uiComponent, entry))
+        {
+            this.propertyDetailsMap.remove(uiComponent);
+            return null;
+        }
+        return copyOf(entry.propertyDetails);
+    }
+
+    private boolean isValidEntry(UIComponent uiComponent, PropertyDetailsEntry entry)
+    {
+        //the base object might be different in a later phase (e.g. after invoke application)
+        if (entry.phaseId != JsfUtils.getCurrentPhaseId())
+        {
+            return false;
+        }
+
+        if (entry.valueExpression != uiComponent.getValueExpression("value"))
+        {
+            return false;
+        }
+
+        //the same component instance is used for all rows of a table
+        for (int i = 0; i < entry.parentTables.length; i++)
+        {
+            if (entry.parentTables[i].getRowIndex() != entry.rowIndices[i])
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /*
+     * the parents are just inspected once per entry - the lookup only has to compare the row-indices
+     * (instead of calculating the client-id which also walks the whole component hierarchy)
+     */
+    private UIData[] findParentTables(UIComponent uiComponent)
+    {
+        List<UIData> result = new ArrayList<UIData>();
+        UIComponent parent = uiComponent.getParent();
+
+        while (parent != null)
+        {
+            if (parent instanceof UIData)
+            {
+                result.add((UIData) parent);
+            }
+            else if (parent instanceof NamingContainer &&
+                    !(parent instanceof UIForm) && !UINamingContainer.class.equals(parent.getClass()))
+            {
+                return null;
+            }
+            parent = parent.getParent();
+        }
+        return result.toArray(new UIData[result.size()]);
+    }
+
+    private int[] getRowIndices(UIData[] parentTables)
+    {
+        int[] result = new int[parentTables.length];
+
+        for (int i = 0; i < parentTables.length; i++)
+        {
+            result[i] = parentTables[i].getRowIndex();
+        }
+        return result;
+    }
+
+    //property details are mutable
+    private PropertyDetails copyOf(PropertyDetails propertyDetails)
+    {
+        return new PropertyDetails(
+                propertyDetails.getKey(), propertyDetails.getBaseObject(), propertyDetails.getProperty());
+    }
+
+    private static class PropertyDetailsEntry
+    {
+        private final ValueExpression valueExpression;
+        private final UIData[] parentTables;
+        private final int[] rowIndices;
+        private final PhaseId phaseId;
+        private final PropertyDetails propertyDetails;
+
+        private PropertyDetailsEntry(ValueExpression valueExpression,
+                                     UIData[] parentTables,
+                                     int[] rowIndices,
+                                     PhaseId phaseId,
+                                     PropertyDetails propertyDetails)
+        {
+            this.valueExpression = valueExpression;
+            this.parentTables = parentTables;
+            this.rowIndices = rowIndices;
+            this.phaseId = phaseId;
+            this.propertyDetails = propertyDetails;
+        }
+    }
+}
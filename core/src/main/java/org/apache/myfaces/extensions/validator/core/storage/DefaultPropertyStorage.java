@@ -18,6 +18,7 @@
  */
 package org.apache.myfaces.extensions.validator.core.storage;
 
+import org.apache.myfaces.extensions.validator.core.ExtValCoreConfiguration;
 import static org.apache.myfaces.extensions.validator.internal.UsageCategory.INTERNAL;
 import org.apache.myfaces.extensions.validator.internal.UsageInformation;
 import org.apache.myfaces.extensions.validator.util.ProxyUtils;
@@ -25,119 +26,90 @@ import org.apache.myfaces.extensions.validator.util.ProxyUtils;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.util.Map;
-import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.logging.Logger;
 
 /**
  * @since x.x.3
  */
 @UsageInformation(INTERNAL)
-public class DefaultPropertyStorage implements PropertyStorage
+public class DefaultPropertyStorage implements EvictionAwarePropertyStorage
 {
     protected final Logger logger = Logger.getLogger(getClass().getName());
 
-    private Map<String, Map<String, Field>> fieldMap = new ConcurrentHashMap<String, Map<String, Field>>();
-    private Map<String, Map<String, Method>> methodMap = new ConcurrentHashMap<String, Map<String, Method>>();
-    private Map<String, List<String>> fieldNotAvailableMap = new ConcurrentHashMap<String, List<String>>();
-    private Map<String, List<String>> methodNotAvailableMap = new ConcurrentHashMap<String, List<String>>();
+    private ClassKeyedCache<PropertyCacheEntry> propertyCache =
+            new ClassKeyedCache<PropertyCacheEntry>(ExtValCoreConfiguration.get().storageCacheMaxSize());
 
     public void storeField(Class targetClass, String property, Field field)
     {
-        if(field != null)
-        {
-            getFieldMapForClass(targetClass).put(property, field);
-        }
-        else
-        {
-            getNotAvailableFieldListForClass(targetClass).add(property);
-        }
+        getEntryForClass(targetClass).fieldMap.put(property, new CachedMember<Field>(field));
     }
 
     public void storeMethod(Class targetClass, String property, Method method)
     {
-        if(method != null)
-        {
-            getMethodMapForClass(targetClass).put(property,  method);
-        }
-        else
-        {
-            getNotAvailableMethodListForClass(targetClass).add(property);
-        }
+        getEntryForClass(targetClass).methodMap.put(property, new CachedMember<Method>(method));
     }
 
     public Field getField(Class targetClass, String property)
     {
-        Map<String, Field> fieldMap = getFieldMapForClass(targetClass);
-        return fieldMap.get(property);
+        CachedMember<Field> result = getEntryForClass(targetClass).fieldMap.get(property);
+        return result != null ? result.getMember() : null;
     }
 
     public Method getMethod(Class targetClass, String property)
     {
-        Map<String, Method> methodMap = getMethodMapForClass(targetClass);
-        return methodMap.get(property);
+        CachedMember<Method> result = getEntryForClass(targetClass).methodMap.get(property);
+        return result != null ? result.getMember() : null;
     }
 
     public boolean containsField(Class targetClass, String property)
     {
-        boolean result = getFieldMapForClass(targetClass).containsKey(property);
-
-        if(!result)
-        {
-            result = getNotAvailableFieldListForClass(targetClass).contains(property);
-        }
-        return result;
+        return getEntryForClass(targetClass).fieldMap.containsKey(property);
     }
 
     public boolean containsMethod(Class targetClass, String property)
     {
-        boolean result = getMethodMapForClass(targetClass).containsKey(property);
+        return getEntryForClass(targetClass).methodMap.containsKey(property);
+    }
 
-        if(!result)
-        {
-            result = getNotAvailableMethodListForClass(targetClass).contains(property);
-        }
-        return result;
+    public CachedMember<Field> findField(Class targetClass, String property)
+    {
+        PropertyCacheEntry entry = this.propertyCache.get(ProxyUtils.getUnproxiedClass(targetClass));
+        return entry != null ? entry.fieldMap.get(property) : null;
     }
 
-    private Map<String, Field> getFieldMapForClass(Class target)
+    public CachedMember<Method> findMethod(Class targetClass, String property)
     {
-        String key = ProxyUtils.getClassName(target);
-        if (!this.fieldMap.containsKey(key))
-        {
-            this.fieldMap.put(key, new ConcurrentHashMap<String, Field>());
-        }
-        return this.fieldMap.get(key);
+        PropertyCacheEntry entry = this.propertyCache.get(ProxyUtils.getUnproxiedClass(targetClass));
+        return entry != null ? entry.methodMap.get(property) : null;
     }
 
-    private List<String> getNotAvailableFieldListForClass(Class target)
+    /**
+     * @return the statistics of the property cache
+     * @since r7
+     */
+    public CacheStatistics getCacheStatistics()
     {
-        String key = ProxyUtils.getClassName(target);
-        if (!this.fieldNotAvailableMap.containsKey(key))
-        {
-            this.fieldNotAvailableMap.put(key, new CopyOnWriteArrayList<String>());
-        }
-        return this.fieldNotAvailableMap.get(key);
+        return this.propertyCache.getStatistics();
     }
 
-    private Map<String, Method> getMethodMapForClass(Class target)
+    private PropertyCacheEntry getEntryForClass(Class target)
     {
-        String key = ProxyUtils.getClassName(target);
-        if (!this.methodMap.containsKey(key))
+        Class key = ProxyUtils.getUnproxiedClass(target);
+        PropertyCacheEntry result = this.propertyCache.get(key);
+
+        if (result == null)
         {
-            this.methodMap.put(key, new ConcurrentHashMap<String, Method>());
+            result = this.propertyCache.putIfAbsent(key, new PropertyCacheEntry());
         }
-        return this.methodMap.get(key);
+        return result;
     }
 
-    private List<String> getNotAvailableMethodListForClass(Class target)
+    private static class PropertyCacheEntry
     {
-        String key = ProxyUtils.getClassName(target);
-        if (!this.methodNotAvailableMap.containsKey(key))
-        {
-            this.methodNotAvailableMap.put(key, new CopyOnWriteArrayList<String>());
-        }
-        return this.methodNotAvailableMap.get(key);
+        //contains entries with a null member for properties without field or method
+        private final Map<String, CachedMember<Field>> fieldMap = new ConcurrentHashMap<String, CachedMember<Field>>();
+        private final Map<String, CachedMember<Method>> methodMap =
+                new ConcurrentHashMap<String, CachedMember<Method>>();
     }
 }
@@ -21,6 +21,7 @@ package org.apache.myfaces.extensions.validator.core.storage;
 import org.apache.myfaces.extensions.validator.internal.UsageInformation;
 import static org.apache.myfaces.extensions.validator.internal.UsageCategory.INTERNAL;
 
+import javax.faces.component.UIComponent;
 import java.util.Map;
 import java.util.HashMap;
 
@@ -30,11 +31,14 @@ import java.util.HashMap;
  * @since x.x.3
  */
 @UsageInformation(INTERNAL)
-public class DefaultRendererProxyStorage implements RendererProxyStorage
+public class DefaultRendererProxyStorage implements IdentityAwareRendererProxyStorage
 {
     Map<String, Map<String, RendererProxyStorageEntry>> proxyStorage =
         new HashMap<String, Map<String, RendererProxyStorageEntry>>();
 
+    private Map<ComponentEntryKey, RendererProxyStorageEntry> componentProxyStorage =
+        new HashMap<ComponentEntryKey, RendererProxyStorageEntry>();
+
     public void setEntry(String rendererKey, String clientId, RendererProxyStorageEntry entry)
     {
         getRendererStorage(rendererKey).put(clientId, entry);
@@ -50,6 +54,19 @@ public class DefaultRendererProxyStorage implements RendererProxyStorage
         return getRendererStorage(rendererKey).get(clientId);
     }
 
+    public RendererProxyStorageEntry getOrCreateEntry(Object renderer, UIComponent uiComponent, String componentKey)
+    {
+        ComponentEntryKey key = new ComponentEntryKey(renderer, uiComponent, componentKey);
+        RendererProxyStorageEntry entry = this.componentProxyStorage.get(key);
+
+        if (entry == null)
+        {
+            entry = new RendererProxyStorageEntry();
+            this.componentProxyStorage.put(key, entry);
+        }
+        return entry;
+    }
+
     private Map<String, RendererProxyStorageEntry> getRendererStorage(String rendererKey)
     {
         if(!proxyStorage.containsKey(rendererKey))
@@ -59,4 +76,49 @@ public class DefaultRendererProxyStorage implements RendererProxyStorage
 
         return proxyStorage.get(rendererKey);
     }
-}
\ No newline at end of file
+
+    private static final class ComponentEntryKey
+    {
+        private final Object renderer;
+        private final UIComponent uiComponent;
+        private final String componentKey;
+        private final int hashCode;
+
+        private ComponentEntryKey(Object renderer, UIComponent uiComponent, String componentKey)
+        {
+            this.renderer = renderer;
+            this.uiComponent = uiComponent;
+            this.componentKey = componentKey;
+
+            int result = System.identityHashCode(renderer);
+            result = 31 * result + System.identityHashCode(uiComponent);
+            result = 31 * result + (componentKey != null ? componentKey.hashCode() : 0);
+            this.hashCode = result;
+        }
+
+        @Override
+        public boolean equals(Object o)
+        {
+            if (this == o)
+            {
+                return true;
+            }
+            if (!(o instanceof ComponentEntryKey))
+            {
+                return false;
+            }
+
+            ComponentEntryKey that = (ComponentEntryKey) o;
+
+            return this.renderer == that.renderer && this.uiComponent == that.uiComponent &&
+                    (this.componentKey != null ?
+                            this.componentKey.equals(that.componentKey) : that.componentKey == null);
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return this.hashCode;
+        }
+    }
+}
@@ -70,9 +70,17 @@ public class DefaultStorageManagerFactory extends AbstractNameMapperAwareFactory
                 new DefaultViolationSeverityInterpreterStorageManager(), false);
         setStorageManager(MappedConstraintSourceStorage.class,
                 new DefaultMappedConstraintSourceStorageManager(), false);
+        setStorageManager(ValidationPlanStorage.class,
+                new DefaultValidationPlanStorageManager(), false);
+        setStorageManager(PatternStorage.class,
+                new DefaultPatternStorageManager(), false);
+        setStorageManager(TransformedMetaDataStorage.class,
+                new DefaultTransformedMetaDataStorageManager(), false);
 
         setStorageManager(FacesInformationStorage.class,
                 new DefaultFacesInformationStorageManager(), false);
+        setStorageManager(PropertyDetailsStorage.class,
+                new DefaultPropertyDetailsStorageManager(), false);
     }
 
     public StorageManager create(Class storageType)
@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.myfaces.extensions.validator.core.storage;
+
+import org.apache.myfaces.extensions.validator.core.ExtValCoreConfiguration;
+import org.apache.myfaces.extensions.validator.core.metadata.transformer.TransformedMetaData;
+import org.apache.myfaces.extensions.validator.internal.UsageInformation;
+import org.apache.myfaces.extensions.validator.util.ProxyUtils;
+import static org.apache.myfaces.extensions.validator.internal.UsageCategory.INTERNAL;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * @since r7
+ */
+@UsageInformation(INTERNAL)
+public class DefaultTransformedMetaDataStorage implements TransformedMetaDataStorage
+{
+    private ClassKeyedCache<Map<String, TransformedMetaData>> transformedMetaDataMap =
+            new ClassKeyedCache<Map<String, TransformedMetaData>>(ExtValCoreConfiguration.get().storageCacheMaxSize());
+
+    public void storeTransformedMetaData(Class targetClass, String property, Class moduleKey, Locale locale,
+                                         String skipState, TransformedMetaData transformedMetaData)
+    {
+        if (transformedMetaData != null)
+        {
+            getTransformedMetaDataMapForClass(targetClass)
+                    .put(createKey(property, moduleKey, locale, skipState), transformedMetaData);
+        }
+    }
+
+    public TransformedMetaData getTransformedMetaData(
+            Class targetClass, String property, Class moduleKey, Locale locale, String skipState)
+    {
+        return getTransformedMetaDataMapForClass(targetClass)
+                .get(createKey(property, moduleKey, locale, skipState));
+    }
+
+    //e.g. the transformer of @Pattern resolves the validation error message for the locale of the view
+    private String createKey(String property, Class moduleKey, Locale locale, String skipState)
+    {
+        String key = locale + ":" + skipState + ":" + property;
+
+        if (moduleKey == null)
+        {
+            return key;
+        }
+        return moduleKey.getName() + ":" + key;
+    }
+
+    public CacheStatistics getCacheStatistics()
+    {
+        return this.transformedMetaDataMap.getStatistics();
+    }
+
+    private Map<String, TransformedMetaData> getTransformedMetaDataMapForClass(Class target)
+    {
+        Class key = ProxyUtils.getUnproxiedClass(target);
+        Map<String, TransformedMetaData> result = this.transformedMetaDataMap.get(key);
+
+        if (result == null)
+        {
+            result = this.transformedMetaDataMap.putIfAbsent(key, new ConcurrentHashMap<String, TransformedMetaData>());
+        }
+        return result;
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.myfaces.extensions.validator.core.storage;
+
+import org.apache.myfaces.extensions.validator.core.ExtValCoreConfiguration;
+import org.apache.myfaces.extensions.validator.core.validation.ValidationPlan;
+import org.apache.myfaces.extensions.validator.internal.UsageInformation;
+import org.apache.myfaces.extensions.validator.util.ProxyUtils;
+import static org.apache.myfaces.extensions.validator.internal.UsageCategory.INTERNAL;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * @since r7
+ */
+@UsageInformation(INTERNAL)
+public class DefaultValidationPlanStorage implements ValidationPlanStorage
+{
+    private ClassKeyedCache<Map<String, ValidationPlan>> validationPlanMap =
+            new ClassKeyedCache<Map<String, ValidationPlan>>(ExtValCoreConfiguration.get().storageCacheMaxSize());
+
+    public void storeValidationPlan(Class targetClass, String property, Class moduleKey, ValidationPlan validationPlan)
+    {
+        if (validationPlan != null)
+        {
+            getValidationPlanMapForClass(targetClass).put(createKey(property, moduleKey), validationPlan);
+        }
+    }
+
+    public ValidationPlan getValidationPlan(Class targetClass, String property, Class moduleKey)
+    {
+        return getValidationPlanMapForClass(targetClass).get(createKey(property, moduleKey));
+    }
+
+    private String createKey(String property, Class moduleKey)
+    {
+        if (moduleKey == null)
+        {
+            return property;
+        }
+        return moduleKey.getName() + ":" + property;
+    }
+
+    public CacheStatistics getCacheStatistics()
+    {
+        return this.validationPlanMap.getStatistics();
+    }
+
+    private Map<String, ValidationPlan> getValidationPlanMapForClass(Class target)
+    {
+        Class key = ProxyUtils.getUnproxiedClass(target);
+        Map<String, ValidationPlan> result = this.validationPlanMap.get(key);
+
+        if (result == null)
+        {
+            result = this.validationPlanMap.putIfAbsent(key, new ConcurrentHashMap<String, ValidationPlan>());
+        }
+        return result;
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.myfaces.extensions.validator.core.storage;
+
+import org.apache.myfaces.extensions.validator.core.property.PropertyDetails;
+import org.apache.myfaces.extensions.validator.internal.UsageCategory;
+import org.apache.myfaces.extensions.validator.internal.UsageInformation;
+
+/**
+ * Mapped-constraint-source storage which might drop cached entries at any time (e.g. due to a size limit).
+ * Callers have to use a single lookup instead of {@link #containsMapping} and {@link #getMappedConstraintSource},
+ * because an entry might be dropped between the two calls.
+ *
+ * @since r7
+ */
+@UsageInformation(UsageCategory.INTERNAL)
+public interface EvictionAwareMappedConstraintSourceStorage extends MappedConstraintSourceStorage
+{
+    /**
+     * @param targetClass the class which hosts the property
+     * @param property name of the property
+     * @return a copy of the cached mapping, property-details without base object if it's cached that there is no
+     * mapped constraint source or null if there is no cached entry
+     */
+    PropertyDetails findMappedConstraintSource(Class targetClass, String property);
+}
@@ -0,0 +1,42 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.myfaces.extensions.validator.core.storage;
+
+import org.apache.myfaces.extensions.validator.core.metadata.MetaDataEntry;
+import org.apache.myfaces.extensions.validator.internal.UsageCategory;
+import org.apache.myfaces.extensions.validator.internal.UsageInformation;
+
+/**
+ * Meta-data storage which might drop cached entries at any time (e.g. due to a size limit).
+ * Callers have to use a single lookup instead of {@link #containsMetaDataFor} and {@link #getMetaData},
+ * because an entry might be dropped between the two calls.
+ *
+ * @since r7
+ */
+@UsageInformation(UsageCategory.API)
+public interface EvictionAwareMetaDataStorage extends MetaDataStorage
+{
+    /**
+     * @param targetClass the class which hosts the property
+     * @param targetProperty name of the property
+     * @return the cached meta-data (an empty array if the property doesn't have meta-data)
+     * or null if there is no cached entry
+     */
+    MetaDataEntry[] findMetaData(Class targetClass, String targetProperty);
+}
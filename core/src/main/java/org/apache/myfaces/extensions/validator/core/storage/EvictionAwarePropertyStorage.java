@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.myfaces.extensions.validator.core.storage;
+
+import org.apache.myfaces.extensions.validator.internal.UsageCategory;
+import org.apache.myfaces.extensions.validator.internal.UsageInformation;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+/**
+ * Property storage which might drop cached entries at any time (e.g. due to a size limit).
+ * Callers have to use a single lookup instead of {@link #containsField} and {@link #getField}
+ * (or {@link #containsMethod} and {@link #getMethod}), because an entry might be dropped between the two calls.
+ *
+ * @since r7
+ */
+@UsageInformation(UsageCategory.INTERNAL)
+public interface EvictionAwarePropertyStorage extends PropertyStorage
+{
+    /**
+     * @param targetClass the class which hosts the property
+     * @param property name of the property
+     * @return the cached field (with a null field if the property doesn't have one) or null if there is no cached entry
+     */
+    CachedMember<Field> findField(Class targetClass, String property);
+
+    /**
+     * @param targetClass the class which hosts the property
+     * @param property name of the property
+     * @return the cached read-method (with a null method if the property doesn't have one)
+     * or null if there is no cached entry
+     */
+    CachedMember<Method> findMethod(Class targetClass, String property);
+}
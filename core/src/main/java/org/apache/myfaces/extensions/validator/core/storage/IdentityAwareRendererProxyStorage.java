@@ -0,0 +1,42 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.myfaces.extensions.validator.core.storage;
+
+import org.apache.myfaces.extensions.validator.internal.UsageInformation;
+import static org.apache.myfaces.extensions.validator.internal.UsageCategory.INTERNAL;
+
+import javax.faces.component.UIComponent;
+
+/**
+ * Renderer-proxy storage which identifies entries via the renderer- and component-instance
+ * instead of the renderer class-name and the client-id.
+ *
+ * @since r7
+ */
+@UsageInformation(INTERNAL)
+public interface IdentityAwareRendererProxyStorage extends RendererProxyStorage
+{
+    /**
+     * @param renderer the renderer instance (compared by identity)
+     * @param uiComponent the component instance (compared by identity)
+     * @param componentKey additional key e.g. for the current row of a table - empty string if there is none
+     * @return the existing entry or a new entry which is stored for later calls
+     */
+    RendererProxyStorageEntry getOrCreateEntry(Object renderer, UIComponent uiComponent, String componentKey);
+}
@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.myfaces.extensions.validator.core.storage;
+
+import org.apache.myfaces.extensions.validator.internal.UsageCategory;
+import org.apache.myfaces.extensions.validator.internal.UsageInformation;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Size-limited cache for information which can be re-created (e.g. parsed expressions).
+ * In contrast to {@link ClassKeyedCache} keys and values are referenced strongly.
+ * If the number of cached entries exceeds the maximum size, the least recently used entries get evicted.
+ *
+ * @since r7
+ */
+@UsageInformation(UsageCategory.INTERNAL)
+public class KeyedCache<K, V>
+{
+    private final ConcurrentMap<K, CacheEntry<V>> entries = new ConcurrentHashMap<K, CacheEntry<V>>();
+    private final BoundedCacheEviction eviction;
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+
+    /**
+     * @param maxSize max. number of cached entries - a value less than 1 deactivates the eviction
+     */
+    public KeyedCache(int maxSize)
+    {
+        this.eviction = new BoundedCacheEviction(maxSize);
+    }
+
+    public V get(K key)
+    {
+        CacheEntry<V> entry = this.entries.get(key);
+
+        if (entry != null)
+        {
+            this.hitCount.incrementAndGet();
+            return entry.getValue(this.eviction.isActive());
+        }
+
+        this.missCount.incrementAndGet();
+        return null;
+    }
+
+    /**
+     * Caches the given value if there is no value for the given key.
+     *
+     * @param key key of the value
+     * @param value new value
+     * @return the value which is cached for the given key
+     */
+    public V putIfAbsent(K key, V value)
+    {
+        CacheEntry<V> existingEntry = this.entries.putIfAbsent(key, new CacheEntry<V>(value));
+
+        if (existingEntry != null)
+        {
+            return existingEntry.getValue(this.eviction.isActive());
+        }
+
+        this.eviction.evictEntries(this.entries);
+        return value;
+    }
+
+    public void remove(K key)
+    {
+        this.entries.remove(key);
+    }
+
+    public void clear()
+    {
+        this.entries.clear();
+    }
+
+    public int size()
+    {
+        return this.entries.size();
+    }
+
+    public CacheStatistics getStatistics()
+    {
+        return new CacheStatistics(
+                this.hitCount.get(), this.missCount.get(), this.eviction.getEvictionCount(), this.entries.size());
+    }
+
+    private static class CacheEntry<V> extends BoundedCacheEntry
+    {
+        private final V value;
+
+        private CacheEntry(V value)
+        {
+            this.value = value;
+        }
+
+        private V getValue(boolean trackAccess)
+        {
+            //the access time is just needed for the eviction
+            if (trackAccess)
+            {
+                trackAccess();
+            }
+            return this.value;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.myfaces.extensions.validator.core.storage;
+
+import org.apache.myfaces.extensions.validator.core.metadata.transformer.TransformedMetaData;
+import org.apache.myfaces.extensions.validator.internal.UsageInformation;
+import org.apache.myfaces.extensions.validator.internal.UsageCategory;
+
+import java.util.Locale;
+
+/**
+ * storage for the transformed meta-data which is used for the component initialization
+ *
+ * @since r7
+ */
+@UsageInformation(UsageCategory.INTERNAL)
+public interface TransformedMetaDataStorage
+{
+    /**
+     * @param targetClass the (unproxied) class which hosts the property
+     * @param property the name of the property
+     * @param moduleKey the key of the validation module (might be null)
+     * @param locale the locale of the view - transformers are allowed to resolve messages (might be null)
+     * @param skipState the skip state of the meta-data entries at the time of the transformation
+     * @param transformedMetaData the result to store
+     */
+    void storeTransformedMetaData(Class targetClass, String property, Class moduleKey, Locale locale,
+                                  String skipState, TransformedMetaData transformedMetaData);
+
+    TransformedMetaData getTransformedMetaData(
+            Class targetClass, String property, Class moduleKey, Locale locale, String skipState);
+
+    CacheStatistics getCacheStatistics();
+}
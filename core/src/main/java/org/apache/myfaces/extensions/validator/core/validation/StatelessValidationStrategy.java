@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.myfaces.extensions.validator.core.validation;
+
+import org.apache.myfaces.extensions.validator.internal.UsageInformation;
+import org.apache.myfaces.extensions.validator.internal.UsageCategory;
+
+import static java.lang.annotation.ElementType.TYPE;
+import java.lang.annotation.Target;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Documented;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * Marker annotation to indicate that the strategy doesn't keep any state between (or during) validations.
+ * The {@link org.apache.myfaces.extensions.validator.core.validation.strategy.DefaultValidationStrategyFactory}
+ * creates such a {@link org.apache.myfaces.extensions.validator.core.validation.strategy.ValidationStrategy} just once
+ * and shares the instance between all requests (and threads).
+ * If a {@link org.apache.myfaces.extensions.validator.core.validation.strategy.ValidationStrategy} is NOT annotated
+ * with this marker, a new instance is used for every validation.
+ * Information which is needed e.g. in a later callback of the same validation has to be derived from the
+ * parameters of the callback (e.g. the message of the thrown exception) and not stored in fields of the strategy.
+ * The properties of the {@link org.apache.myfaces.extensions.validator.core.metadata.MetaDataEntry} aren't suitable
+ * for it, because they are shared by all entries of the property.
+ *
+ * @since r7
+ */
+@Target(TYPE)
+@Retention(RUNTIME)
+@Documented
+@UsageInformation(UsageCategory.API)
+public @interface StatelessValidationStrategy
+{
+}
@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.myfaces.extensions.validator.core.validation;
+
+import org.apache.myfaces.extensions.validator.core.metadata.MetaDataEntry;
+import org.apache.myfaces.extensions.validator.internal.UsageInformation;
+import org.apache.myfaces.extensions.validator.internal.UsageCategory;
+
+/**
+ * A validation plan contains everything which has to be resolved just once per property
+ * (and validation module) to validate the meta-data of the property.
+ * Per request information (like the result of the
+ * {@link org.apache.myfaces.extensions.validator.core.validation.SkipValidationEvaluator}) isn't part of it.
+ *
+ * @since r7
+ */
+@UsageInformation(UsageCategory.INTERNAL)
+public class ValidationPlan
+{
+    private final ValidationPlanEntry[] validationPlanEntries;
+
+    public ValidationPlan(ValidationPlanEntry[] validationPlanEntries)
+    {
+        this.validationPlanEntries = validationPlanEntries.clone();
+    }
+
+    public int size()
+    {
+        return this.validationPlanEntries.length;
+    }
+
+    public ValidationPlanEntry getEntry(int index)
+    {
+        return this.validationPlanEntries[index];
+    }
+
+    /**
+     * meta-data extraction interceptors are allowed to change the meta-data per request -
+     * so it's required to check if the plan was created for the given entries.
+     *
+     * @param metaDataEntries the current entries of the property
+     * @return true if the plan was created for the same meta-data
+     */
+    public boolean isApplicableTo(MetaDataEntry[] metaDataEntries)
+    {
+        if (metaDataEntries.length != this.validationPlanEntries.length)
+        {
+            return false;
+        }
+
+        ValidationPlanEntry validationPlanEntry;
+        Object value;
+        for (int i = 0; i < metaDataEntries.length; i++)
+        {
+            validationPlanEntry = this.validationPlanEntries[i];
+
+            if (!validationPlanEntry.getMetaDataKey().equals(metaDataEntries[i].getKey()))
+            {
+                return false;
+            }
+
+            value = metaDataEntries[i].getValue();
+            if (validationPlanEntry.getMetaDataValue() != value &&
+                    (value == null || !value.equals(validationPlanEntry.getMetaDataValue())))
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+}
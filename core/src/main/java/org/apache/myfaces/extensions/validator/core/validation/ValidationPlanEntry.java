@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.myfaces.extensions.validator.core.validation;
+
+import org.apache.myfaces.extensions.validator.core.interceptor.PropertyValidationInterceptor;
+import org.apache.myfaces.extensions.validator.internal.UsageInformation;
+import org.apache.myfaces.extensions.validator.internal.UsageCategory;
+
+import java.util.List;
+
+/**
+ * Immutable part of a {@link ValidationPlan} - it contains the information which was resolved for a single
+ * meta-data entry and which doesn't change between requests.
+ *
+ * @since r7
+ */
+@UsageInformation(UsageCategory.INTERNAL)
+public class ValidationPlanEntry
+{
+    private final String metaDataKey;
+    private final Object metaDataValue;
+    private final Class validationStrategyClass;
+    private final boolean nullValueAware;
+    private final boolean emptyValueAware;
+    private final List<PropertyValidationInterceptor> localValidationInterceptors;
+
+    public ValidationPlanEntry(String metaDataKey,
+                               Object metaDataValue,
+                               Class validationStrategyClass,
+                               List<PropertyValidationInterceptor> localValidationInterceptors)
+    {
+        this.metaDataKey = metaDataKey;
+        this.metaDataValue = metaDataValue;
+        this.validationStrategyClass = validationStrategyClass;
+
+        if (validationStrategyClass != null)
+        {
+            //noinspection unchecked
+            this.nullValueAware = validationStrategyClass.isAnnotationPresent(NullValueAwareValidationStrategy.class);
+            //noinspection unchecked
+            this.emptyValueAware = validationStrategyClass.isAnnotationPresent(EmptyValueAwareValidationStrategy.class);
+        }
+        else
+        {
+            this.nullValueAware = false;
+            this.emptyValueAware = false;
+        }
+
+        this.localValidationInterceptors = localValidationInterceptors;
+    }
+
+    public String getMetaDataKey()
+    {
+        return metaDataKey;
+    }
+
+    public Object getMetaDataValue()
+    {
+        return metaDataValue;
+    }
+
+    /**
+     * @return the unproxied class of the validation strategy or null if there is no strategy for the meta-data
+     */
+    public Class getValidationStrategyClass()
+    {
+        return validationStrategyClass;
+    }
+
+    public boolean isValidationStrategyAvailable()
+    {
+        return this.validationStrategyClass != null;
+    }
+
+    public boolean isNullValueAware()
+    {
+        return nullValueAware;
+    }
+
+    public boolean isEmptyValueAware()
+    {
+        return emptyValueAware;
+    }
+
+    /**
+     * @return the local interceptors which are hosted by the meta-data (as validation parameter) -
+     * null if the meta-data isn't an annotation
+     */
+    public List<PropertyValidationInterceptor> getLocalValidationInterceptors()
+    {
+        return localValidationInterceptors;
+    }
+
+    public boolean isCompatibleWithValue(Object value)
+    {
+        if (value == null)
+        {
+            return this.nullValueAware;
+        }
+
+        return this.emptyValueAware || !"".equals(value);
+    }
+}
@@ -21,14 +21,19 @@ package org.apache.myfaces.extensions.validator.core.validation.message.resolver
 import org.apache.myfaces.extensions.validator.core.ExtValContext;
 import org.apache.myfaces.extensions.validator.core.CustomInformation;
 import org.apache.myfaces.extensions.validator.core.ExtValCoreConfiguration;
+import org.apache.myfaces.extensions.validator.core.JsfProjectStage;
 import org.apache.myfaces.extensions.validator.core.el.ELHelper;
 import org.apache.myfaces.extensions.validator.internal.UsageInformation;
 import org.apache.myfaces.extensions.validator.internal.UsageCategory;
 import org.apache.myfaces.extensions.validator.util.ExtValUtils;
 
+import java.util.Arrays;
 import java.util.Locale;
 import java.util.MissingResourceException;
 import java.util.ResourceBundle;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.logging.Logger;
 import java.util.logging.Level;
 
@@ -36,6 +41,8 @@ import java.util.logging.Level;
  * MessageResolver which uses property files.
  * Subclasses just have to provide the package to look at.
  * An implementation can also provide a custom name which is e.g. configured via web.xml.
+ * Resolved messages (and missing messages) are cached per locale and message bundle names
+ * - except in project-stage development.
  *
  * @since 1.x.1
  */
@@ -43,6 +50,7 @@ import java.util.logging.Level;
 public abstract class AbstractValidationErrorMessageResolver implements MessageResolver
 {
     public static final String MISSING_RESOURCE_MARKER = "???";
+    private static final Object NULL_MESSAGE = new Object();
 
     protected final Logger logger = Logger.getLogger(getClass().getName());
 
@@ -54,6 +62,11 @@ public abstract class AbstractValidationErrorMessageResolver implements MessageR
 
     private ELHelper elHelper = ExtValUtils.getELHelper();
 
+    private final boolean messageCacheEnabled = !JsfProjectStage.is(JsfProjectStage.Development);
+    //(locale, bundle names) -> (key -> message)
+    private ConcurrentMap<MessageCacheKey, Map<String, Object>> messageCache =
+            new ConcurrentHashMap<MessageCacheKey, Map<String, Object>>();
+
     protected AbstractValidationErrorMessageResolver()
     {
         logger.fine(getClass().getName() + " instantiated");
@@ -75,6 +88,47 @@ public abstract class AbstractValidationErrorMessageResolver implements MessageR
             return key;
         }
 
+        if (!this.messageCacheEnabled || locale == null)
+        {
+            return resolveMessage(key, locale);
+        }
+
+        Map<String, Object> messagesForLocale = getCachedMessagesFor(locale);
+        Object message = messagesForLocale.get(key);
+
+        if (message == null)
+        {
+            message = resolveMessage(key, locale);
+            //null isn't supported by the map -> NULL_MESSAGE is used for keys without a message
+            messagesForLocale.put(key, message != null ? message : NULL_MESSAGE);
+        }
+        return message != NULL_MESSAGE ? (String) message : null;
+    }
+
+    /*
+     * the bundle names are part of the key - sub-classes might provide them dynamically
+     */
+    private Map<String, Object> getCachedMessagesFor(Locale locale)
+    {
+        MessageCacheKey cacheKey = new MessageCacheKey(locale, getBaseName(), getCustomBaseName(),
+                this.messageBundleBaseName, this.messageBundleVarName);
+        Map<String, Object> result = this.messageCache.get(cacheKey);
+
+        if (result == null)
+        {
+            Map<String, Object> newMap = new ConcurrentHashMap<String, Object>();
+            result = this.messageCache.putIfAbsent(cacheKey, newMap);
+
+            if (result == null)
+            {
+                result = newMap;
+            }
+        }
+        return result;
+    }
+
+    private String resolveMessage(String key, Locale locale)
+    {
         String customMessage = null;
 
         try
@@ -247,10 +301,49 @@ public abstract class AbstractValidationErrorMessageResolver implements MessageR
     public void setMessageBundleBaseName(String messageBundleBaseName)
     {
         this.messageBundleBaseName = messageBundleBaseName;
+        this.messageCache.clear();
     }
 
     public void setMessageBundleVarName(String messageBundleVarName)
     {
         this.messageBundleVarName = messageBundleVarName;
+        this.messageCache.clear();
+    }
+
+    private static class MessageCacheKey
+    {
+        private final Locale locale;
+        private final String[] bundleNames;
+        private final int hashCode;
+
+        private MessageCacheKey(Locale locale, String... bundleNames)
+        {
+            this.locale = locale;
+            this.bundleNames = bundleNames;
+            this.hashCode = 31 * locale.hashCode() + Arrays.hashCode(bundleNames);
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return this.hashCode;
+        }
+
+        @Override
+        public boolean equals(Object other)
+        {
+            if (this == other)
+            {
+                return true;
+            }
+
+            if (!(other instanceof MessageCacheKey))
+            {
+                return false;
+            }
+
+            MessageCacheKey otherKey = (MessageCacheKey) other;
+            return this.locale.equals(otherKey.locale) && Arrays.equals(this.bundleNames, otherKey.bundleNames);
+        }
     }
 }
@@ -36,11 +36,14 @@ import org.apache.myfaces.extensions.validator.internal.UsageCategory;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.logging.Logger;
 
 /**
- * Factory which creates a MessageResolver for a given ValidationStrategy
+ * Factory which creates a MessageResolver for a given ValidationStrategy.
+ * There is just one (shared) instance per MessageResolver implementation.
  *
  * @since 1.x.1
  */
@@ -52,6 +55,8 @@ public class DefaultMessageResolverFactory extends AbstractNameMapperAwareFactor
     protected final Logger logger = Logger.getLogger(getClass().getName());
 
     private Map<String, String> strategyMessageResolverMapping;
+    private ConcurrentMap<String, MessageResolver> messageResolverInstances =
+            new ConcurrentHashMap<String, MessageResolver>();
     private List<NameMapper<ValidationStrategy>> nameMapperList =
             new CopyOnWriteArrayList<NameMapper<ValidationStrategy>>();
 
@@ -71,8 +76,8 @@ public class DefaultMessageResolverFactory extends AbstractNameMapperAwareFactor
 
         if (strategyMessageResolverMapping.containsKey(strategyName))
         {
-            return (MessageResolver) ClassUtils
-                .tryToInstantiateClassForName(strategyMessageResolverMapping.get(strategyName));
+            String messageResolverName = strategyMessageResolverMapping.get(strategyName);
+            return messageResolverName != null ? getMessageResolverInstance(messageResolverName) : null;
         }
 
         MessageResolver messageResolver;
@@ -88,7 +93,7 @@ public class DefaultMessageResolverFactory extends AbstractNameMapperAwareFactor
                 continue;
             }
 
-            messageResolver = (MessageResolver) ClassUtils.tryToInstantiateClassForName(resolverName);
+            messageResolver = getMessageResolverInstance(resolverName);
 
             if (messageResolver != null)
             {
@@ -101,7 +106,31 @@ public class DefaultMessageResolverFactory extends AbstractNameMapperAwareFactor
         }
 
         addMapping(strategyName, DefaultValidationErrorMessageResolver.class.getName());
-        return new DefaultValidationErrorMessageResolver();
+        return getMessageResolverInstance(DefaultValidationErrorMessageResolver.class.getName());
+    }
+
+    private MessageResolver getMessageResolverInstance(String messageResolverName)
+    {
+        MessageResolver messageResolver = this.messageResolverInstances.get(messageResolverName);
+
+        if (messageResolver != null)
+        {
+            return messageResolver;
+        }
+
+        messageResolver = (MessageResolver) ClassUtils.tryToInstantiateClassForName(messageResolverName);
+
+        if (messageResolver != null)
+        {
+            MessageResolver existingMessageResolver =
+                    this.messageResolverInstances.putIfAbsent(messageResolverName, messageResolver);
+
+            if (existingMessageResolver != null)
+            {
+                return existingMessageResolver;
+            }
+        }
+        return messageResolver;
     }
 
     private synchronized void initStaticMappings()
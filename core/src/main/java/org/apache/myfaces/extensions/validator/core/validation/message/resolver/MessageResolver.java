@@ -27,6 +27,9 @@ import java.util.Locale;
  * A {@link MessageResolver} is responsible for loading the message for a given key and locale.
  * The message-source and format depends on the implementation of the resolver.
  *
+ * The default factory creates one instance per implementation and shares it (also between threads).
+ * So implementations have to be thread-safe.
+ *
  * @since 1.x.1
  */
 @UsageInformation(UsageCategory.API)
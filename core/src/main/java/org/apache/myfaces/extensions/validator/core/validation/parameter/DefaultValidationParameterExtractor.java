@@ -20,13 +20,14 @@ package org.apache.myfaces.extensions.validator.core.validation.parameter;
 
 import org.apache.myfaces.extensions.validator.internal.UsageInformation;
 import org.apache.myfaces.extensions.validator.internal.UsageCategory;
-import org.apache.myfaces.extensions.validator.internal.ToDo;
-import org.apache.myfaces.extensions.validator.internal.Priority;
+import org.apache.myfaces.extensions.validator.core.storage.ClassKeyedCache;
 
 import java.util.Map;
 import java.util.List;
 import java.util.HashMap;
 import java.util.ArrayList;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.logging.Logger;
 import java.util.logging.Level;
 import java.lang.annotation.Annotation;
@@ -46,8 +47,15 @@ import java.lang.reflect.Modifier;
 @UsageInformation(UsageCategory.INTERNAL)
 public class DefaultValidationParameterExtractor implements ValidationParameterExtractor
 {
+    private static final Object ALL_VALUES = new Object();
+
     protected final Logger logger = Logger.getLogger(getClass().getName());
 
+    //annotations are immutable -> the parameters of an annotation have to be extracted just once
+    private final ClassKeyedCache<ConcurrentMap<Annotation, ConcurrentMap<Object, Map<Object, List<Object>>>>>
+            parameterCache =
+            new ClassKeyedCache<ConcurrentMap<Annotation, ConcurrentMap<Object, Map<Object, List<Object>>>>>(0);
+
     public Map<Object, List<Object>> extract(Annotation annotation)
     {
         return extractById(annotation, null);
@@ -93,21 +101,77 @@ public class DefaultValidationParameterExtractor implements ValidationParameterE
 
     public List<Object> extractById(Annotation annotation, Object key, Class valueId)
     {
-        Map<Object, List<Object>> fullResult = extractById(annotation, valueId);
+        Map<Object, List<Object>> fullResult = getCachedParameters(annotation, valueId);
 
         if(fullResult.containsKey(key))
         {
-            return fullResult.get(key);
+            return new ArrayList<Object>(fullResult.get(key));
         }
 
         return new ArrayList<Object>();
     }
 
-    @ToDo(value = Priority.MEDIUM, description = "add web.xml parameter for performance tuning to deactivate the scan")
     public Map<Object, List<Object>> extractById(Annotation annotation, Class valueId)
     {
         Map<Object, List<Object>> result = new HashMap<Object, List<Object>>();
 
+        //the cached result is shared -> the caller gets a copy
+        for(Map.Entry<Object, List<Object>> entry : getCachedParameters(annotation, valueId).entrySet())
+        {
+            result.put(entry.getKey(), new ArrayList<Object>(entry.getValue()));
+        }
+        return result;
+    }
+
+    private Map<Object, List<Object>> getCachedParameters(Annotation annotation, Class valueId)
+    {
+        ConcurrentMap<Annotation, ConcurrentMap<Object, Map<Object, List<Object>>>> annotationMap =
+                this.parameterCache.get(annotation.annotationType());
+
+        if(annotationMap == null)
+        {
+            annotationMap = this.parameterCache.putIfAbsent(annotation.annotationType(),
+                    new ConcurrentHashMap<Annotation, ConcurrentMap<Object, Map<Object, List<Object>>>>());
+        }
+
+        ConcurrentMap<Object, Map<Object, List<Object>>> valueIdMap = annotationMap.get(annotation);
+
+        if(valueIdMap == null)
+        {
+            valueIdMap = new ConcurrentHashMap<Object, Map<Object, List<Object>>>();
+            ConcurrentMap<Object, Map<Object, List<Object>>> existingValueIdMap =
+                    annotationMap.putIfAbsent(annotation, valueIdMap);
+
+            if(existingValueIdMap != null)
+            {
+                valueIdMap = existingValueIdMap;
+            }
+        }
+
+        Object valueIdKey = valueId != null ? valueId : ALL_VALUES;
+        Map<Object, List<Object>> result = valueIdMap.get(valueIdKey);
+
+        if(result == null)
+        {
+            result = scanParameters(annotation, valueId);
+            valueIdMap.put(valueIdKey, result);
+        }
+        return result;
+    }
+
+    /**
+     * Scans the attributes of the given annotation for validation parameters.
+     * The result gets cached per annotation and value id, so it has to be treated as read-only.
+     *
+     * @param annotation the annotation which should be scanned
+     * @param valueId the id of the requested values or null for all values
+     * @return the found parameters
+     * @since r7
+     */
+    protected Map<Object, List<Object>> scanParameters(Annotation annotation, Class valueId)
+    {
+        Map<Object, List<Object>> result = new HashMap<Object, List<Object>>();
+
         for(Method currentAnnotationAttribute : annotation.annotationType().getDeclaredMethods())
         {
             try
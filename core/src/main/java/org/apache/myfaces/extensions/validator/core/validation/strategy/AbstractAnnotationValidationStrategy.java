@@ -19,6 +19,7 @@
 package org.apache.myfaces.extensions.validator.core.validation.strategy;
 
 import org.apache.myfaces.extensions.validator.core.validation.message.resolver.MessageResolver;
+import org.apache.myfaces.extensions.validator.core.validation.message.resolver.AbstractValidationErrorMessageResolver;
 import org.apache.myfaces.extensions.validator.core.metadata.MetaDataEntry;
 import org.apache.myfaces.extensions.validator.core.property.PropertyInformationKeys;
 import org.apache.myfaces.extensions.validator.internal.Priority;
@@ -128,6 +129,23 @@ public abstract class AbstractAnnotationValidationStrategy<A extends Annotation>
         return ExtValUtils.createFacesMessage(getErrorMessageSummary(annotation), getErrorMessageDetail(annotation));
     }
 
+    /**
+     * Checks if the summary or the detail of the given message is just the placeholder for a message key which
+     * couldn't be resolved.
+     *
+     * @param key The key which was used for resolving the summary of the given message.
+     * @param facesMessage The message created for the violation.
+     * @return true if one part of the message couldn't be resolved.
+     * @since r7
+     */
+    protected boolean isUnresolvedMessage(String key, FacesMessage facesMessage)
+    {
+        String marker = AbstractValidationErrorMessageResolver.MISSING_RESOURCE_MARKER;
+
+        return (marker + key + marker).equals(facesMessage.getSummary()) ||
+                (marker + key + DETAIL_MESSAGE_KEY_POSTFIX + marker).equals(facesMessage.getDetail());
+    }
+
     /**
      * Returns the key for the message that needs to be resolved for the violation-message.
      *
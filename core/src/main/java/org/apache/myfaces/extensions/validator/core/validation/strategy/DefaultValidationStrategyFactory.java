@@ -24,6 +24,7 @@ import org.apache.myfaces.extensions.validator.core.factory.AbstractNameMapperAw
 import org.apache.myfaces.extensions.validator.core.ExtValContext;
 import org.apache.myfaces.extensions.validator.core.CustomInformation;
 import org.apache.myfaces.extensions.validator.core.mapper.NameMapper;
+import org.apache.myfaces.extensions.validator.core.validation.StatelessValidationStrategy;
 import org.apache.myfaces.extensions.validator.core.initializer.configuration.StaticConfiguration;
 import org.apache.myfaces.extensions.validator.core.initializer.configuration.StaticConfigurationEntry;
 import org.apache.myfaces.extensions.validator.core.initializer.configuration.StaticConfigurationNames;
@@ -41,12 +42,16 @@ import org.apache.myfaces.extensions.validator.internal.UsageCategory;
 import java.util.List;
 import java.util.Map;
 import java.util.MissingResourceException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.logging.Logger;
 
 
 /**
- * Factory which creates the ValidationStrategy for a given Meta-Data Key
+ * Factory which creates the ValidationStrategy for a given Meta-Data Key.
+ * Strategies annotated with {@link StatelessValidationStrategy} are created once and shared,
+ * all other strategies are instantiated for every call.
  *
  * @since 1.x.1
  */
@@ -58,6 +63,8 @@ public class DefaultValidationStrategyFactory extends AbstractNameMapperAwareFac
 
     private Map<String, String> metaDataKeyToValidationStrategyMapping = null;
     private List<NameMapper<String>> nameMapperList = new CopyOnWriteArrayList<NameMapper<String>>();
+    private ConcurrentMap<String, ValidationStrategy> statelessValidationStrategies =
+            new ConcurrentHashMap<String, ValidationStrategy>();
 
     public DefaultValidationStrategyFactory()
     {
@@ -114,10 +121,39 @@ public class DefaultValidationStrategyFactory extends AbstractNameMapperAwareFac
             return (ValidationStrategy) ExtValUtils.getELHelper().getBean(validationStrategyName
                     .substring(AnnotationToValidationStrategyBeanNameMapper.PREFIX_FOR_BEAN_MAPPING.length()));
         }
-        else
+
+        ValidationStrategy validationStrategy = this.statelessValidationStrategies.get(validationStrategyName);
+
+        if (validationStrategy != null)
+        {
+            return validationStrategy;
+        }
+
+        validationStrategy = (ValidationStrategy) ClassUtils.tryToInstantiateClassForName(validationStrategyName);
+
+        if (validationStrategy != null && isStatelessValidationStrategy(validationStrategy))
         {
-            return (ValidationStrategy) ClassUtils.tryToInstantiateClassForName(validationStrategyName);
+            ValidationStrategy existingValidationStrategy =
+                    this.statelessValidationStrategies.putIfAbsent(validationStrategyName, validationStrategy);
+
+            if (existingValidationStrategy != null)
+            {
+                return existingValidationStrategy;
+            }
         }
+        return validationStrategy;
+    }
+
+    /**
+     * Checks if the given {@link ValidationStrategy} can be shared between validations.
+     *
+     * @param validationStrategy The new instance of the validation strategy.
+     * @return true if the instance should be cached, false if a new instance is needed for every validation.
+     * @since r7
+     */
+    protected boolean isStatelessValidationStrategy(ValidationStrategy validationStrategy)
+    {
+        return validationStrategy.getClass().isAnnotationPresent(StatelessValidationStrategy.class);
     }
 
     private synchronized void addMapping(String metaDataKey, String validationStrategyName)
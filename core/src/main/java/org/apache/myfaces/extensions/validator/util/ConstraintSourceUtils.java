@@ -25,6 +25,7 @@ import java.lang.reflect.Method;
 
 import org.apache.myfaces.extensions.validator.core.ExtValCoreConfiguration;
 import org.apache.myfaces.extensions.validator.core.property.PropertyDetails;
+import org.apache.myfaces.extensions.validator.core.storage.EvictionAwareMappedConstraintSourceStorage;
 import org.apache.myfaces.extensions.validator.core.storage.MappedConstraintSourceStorage;
 import org.apache.myfaces.extensions.validator.core.storage.PropertyStorage;
 import org.apache.myfaces.extensions.validator.internal.UsageCategory;
@@ -48,16 +49,39 @@ public final class ConstraintSourceUtils
                                                                    Class originalClass,
                                                                    String originalProperty)
     {
-        MappedConstraintSourceStorage mappedConstraintSourceStorage = getConstraintSourceStorage();
+        return resolveMappedConstraintSourceFor(getConstraintSourceStorage(), ReflectionUtils.getPropertyStorage(),
+                originalKey, originalClass, originalProperty);
+    }
+
+    /**
+     * In addition to {@link #resolveMappedConstraintSourceFor(String, Class, String)} the storages which should be
+     * used are provided by the caller. So it's possible to use it without an active faces-context
+     * (e.g. for warming up the caches).
+     *
+     * @since r7
+     */
+    public static PropertyDetails resolveMappedConstraintSourceFor(
+            MappedConstraintSourceStorage mappedConstraintSourceStorage,
+            PropertyStorage propertyStorage,
+            String originalKey,
+            Class originalClass,
+            String originalProperty)
+    {
+        PropertyDetails cachedMapping =
+                findCachedMappedConstraintSource(mappedConstraintSourceStorage, originalClass, originalProperty);
 
-        if (isMappedConstraintSourceCached(mappedConstraintSourceStorage, originalClass, originalProperty))
+        if (cachedMapping != null)
         {
-            return getMappedConstraintSource(mappedConstraintSourceStorage, originalClass, originalProperty);
+            //the cached mapping might be created for a different expression (or without one during the warm-up)
+            if (cachedMapping.getBaseObject() != null)
+            {
+                return new PropertyDetails(originalKey, cachedMapping.getBaseObject(), cachedMapping.getProperty());
+            }
+            return null;
         }
 
         originalClass = ProxyUtils.getUnproxiedClass(originalClass);
 
-        PropertyStorage propertyStorage = ReflectionUtils.getPropertyStorage();
         Class newClass = findMappedClass(propertyStorage, originalClass, originalProperty);
 
         //mapped source is ignored via @IgnoreConstraintSource or there is just no mapping annotation at the target
@@ -79,6 +103,34 @@ public final class ConstraintSourceUtils
         return result;
     }
 
+    /*
+     * a storage with a size limit might drop the entry between #containsMapping and #getMappedConstraintSource
+     * -> a single lookup which returns null for a miss and property-details without base object for a cached
+     * "no mapping"
+     */
+    private static PropertyDetails findCachedMappedConstraintSource(
+            MappedConstraintSourceStorage storage, Class baseBeanClass, String property)
+    {
+        if (storage instanceof EvictionAwareMappedConstraintSourceStorage)
+        {
+            return ((EvictionAwareMappedConstraintSourceStorage) storage)
+                    .findMappedConstraintSource(baseBeanClass, property);
+        }
+
+        if (!isMappedConstraintSourceCached(storage, baseBeanClass, property))
+        {
+            return null;
+        }
+
+        PropertyDetails result = getMappedConstraintSource(storage, baseBeanClass, property);
+
+        if (result == null)
+        {
+            return new PropertyDetails(null, null, null);
+        }
+        return result;
+    }
+
     private static boolean isMappedConstraintSourceCached(
             MappedConstraintSourceStorage storage, Class baseBeanClass, String property)
     {
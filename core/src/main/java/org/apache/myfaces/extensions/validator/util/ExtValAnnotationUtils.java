@@ -18,6 +18,7 @@
  */
 package org.apache.myfaces.extensions.validator.util;
 
+import java.beans.BeanInfo;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
@@ -25,7 +26,9 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.logging.Logger;
 
+import org.apache.myfaces.extensions.validator.core.ExtValContext;
 import org.apache.myfaces.extensions.validator.core.metadata.MetaDataEntry;
+import org.apache.myfaces.extensions.validator.core.metadata.MetaDataIndex;
 import org.apache.myfaces.extensions.validator.core.property.PropertyDetails;
 import org.apache.myfaces.extensions.validator.core.property.PropertyInformation;
 import org.apache.myfaces.extensions.validator.core.property.DefaultPropertyInformation;
@@ -55,13 +58,36 @@ public class ExtValAnnotationUtils
      * @param propertyDetails information about the property
      * @return a datastructure which contains all information about the target-property
      */
-    @ToDo(value = Priority.HIGH, description = "add cache")
     public static PropertyInformation extractAnnotations(Class entityClass, PropertyDetails propertyDetails)
+    {
+        return extractAnnotations(ReflectionUtils.getPropertyStorage(), entityClass, propertyDetails);
+    }
+
+    /**
+     * Extracts all annotations found on a property. In addition to
+     * {@link #extractAnnotations(Class, PropertyDetails)} the {@link PropertyStorage} which should be used is provided
+     * by the caller. So it's possible to use it without an active faces-context (e.g. for warming up the caches).
+     *
+     * @param storage {@link PropertyStorage} which is able to cache information of a property
+     * @param entityClass target class which has to be scanned
+     * @param propertyDetails information about the property
+     * @return a datastructure which contains all information about the target-property
+     * @since r7
+     */
+    public static PropertyInformation extractAnnotations(PropertyStorage storage,
+                                                         Class entityClass,
+                                                         PropertyDetails propertyDetails)
     {
         PropertyInformation propertyInformation = new DefaultPropertyInformation();
         propertyInformation.setInformation(PropertyInformationKeys.PROPERTY_DETAILS, propertyDetails);
 
-        PropertyStorage storage = ReflectionUtils.getPropertyStorage();
+        MetaDataIndex metaDataIndex = getMetaDataIndexFor(entityClass);
+
+        if (metaDataIndex != null)
+        {
+            extractIndexedAnnotations(storage, metaDataIndex, entityClass, propertyDetails, propertyInformation);
+            return propertyInformation;
+        }
 
         while (!Object.class.getName().equals(entityClass.getName()))
         {
@@ -76,6 +102,81 @@ public class ExtValAnnotationUtils
         return propertyInformation;
     }
 
+    /*
+     * the index just contains the result of the default lookup strategy (see ReflectionUtils)
+     * -> it can't be used if the lookup is based on java.beans.BeanInfo
+     */
+    private static MetaDataIndex getMetaDataIndexFor(Class entityClass)
+    {
+        if (Boolean.TRUE.equals(ExtValContext.getContext().getGlobalProperty(BeanInfo.class.getName())))
+        {
+            return null;
+        }
+
+        MetaDataIndex metaDataIndex = MetaDataIndex.getInstance();
+
+        if (metaDataIndex.isIndexed(entityClass))
+        {
+            return metaDataIndex;
+        }
+        return null;
+    }
+
+    /*
+     * same order as the reflection based lookup, but just the locations listed in the index are inspected
+     */
+    private static void extractIndexedAnnotations(PropertyStorage storage,
+                                                  MetaDataIndex metaDataIndex,
+                                                  Class entityClass,
+                                                  PropertyDetails propertyDetails,
+                                                  PropertyInformation propertyInformation)
+    {
+        String property = propertyDetails.getProperty();
+
+        if (!metaDataIndex.containsMetaDataFor(entityClass, property))
+        {
+            return;
+        }
+
+        Class currentClass = entityClass;
+        while (!Object.class.getName().equals(currentClass.getName()))
+        {
+            if (metaDataIndex.containsMetaDataAt(entityClass, property, MetaDataIndex.GETTER, currentClass))
+            {
+                addPropertyAccessAnnotations(storage, currentClass, property, propertyInformation);
+            }
+
+            if (metaDataIndex.containsMetaDataAt(entityClass, property, MetaDataIndex.FIELD, currentClass))
+            {
+                addFieldAccessAnnotations(storage, currentClass, property, propertyInformation);
+            }
+
+            processIndexedInterfaces(storage, metaDataIndex, entityClass, currentClass, property, propertyInformation);
+
+            currentClass = currentClass.getSuperclass();
+        }
+    }
+
+    private static void processIndexedInterfaces(PropertyStorage storage,
+                                                 MetaDataIndex metaDataIndex,
+                                                 Class entityClass,
+                                                 Class currentClass,
+                                                 String property,
+                                                 PropertyInformation propertyInformation)
+    {
+        for (Class currentInterface : currentClass.getInterfaces())
+        {
+            if (metaDataIndex.containsMetaDataAt(
+                    entityClass, property, MetaDataIndex.INTERFACE_GETTER, currentInterface))
+            {
+                addPropertyAccessAnnotations(storage, currentInterface, property, propertyInformation);
+            }
+
+            processIndexedInterfaces(
+                    storage, metaDataIndex, entityClass, currentInterface, property, propertyInformation);
+        }
+    }
+
     /**
      * Extracts all annotations found at the getter method of a property.
      * The annotations are added to the given propertyInformation parameter.
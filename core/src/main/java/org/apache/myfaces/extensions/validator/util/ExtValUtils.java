@@ -41,11 +41,13 @@ import org.apache.myfaces.extensions.validator.core.metadata.MetaDataEntry;
 import org.apache.myfaces.extensions.validator.core.metadata.extractor.ComponentMetaDataExtractorFactory;
 import org.apache.myfaces.extensions.validator.core.metadata.extractor.MetaDataExtractor;
 import org.apache.myfaces.extensions.validator.core.metadata.transformer.MetaDataTransformer;
+import org.apache.myfaces.extensions.validator.core.metadata.transformer.TransformedMetaData;
 import org.apache.myfaces.extensions.validator.core.property.PropertyDetails;
 import org.apache.myfaces.extensions.validator.core.property.PropertyInformation;
 import org.apache.myfaces.extensions.validator.core.property.PropertyInformationKeys;
 import org.apache.myfaces.extensions.validator.core.storage.FacesMessageStorage;
 import org.apache.myfaces.extensions.validator.core.storage.StorageManager;
+import org.apache.myfaces.extensions.validator.core.storage.TransformedMetaDataStorage;
 import org.apache.myfaces.extensions.validator.core.validation.SkipValidationEvaluator;
 import org.apache.myfaces.extensions.validator.core.validation.message.resolver.MessageResolver;
 import org.apache.myfaces.extensions.validator.core.validation.parameter.ValidationParameterExtractor;
@@ -67,6 +69,7 @@ import java.util.HashMap;
 import java.util.MissingResourceException;
 import java.util.List;
 import java.util.ArrayList;
+import java.util.Locale;
 import java.util.logging.Logger;
 import java.lang.annotation.Annotation;
 
@@ -540,10 +543,27 @@ public class ExtValUtils
                                                                    String propertyKey,
                                                                    Object properties,
                                                                    Annotation annotation)
+    {
+        return executeLocalBeforeValidationInterceptors(facesContext, uiComponent, convertedObject,
+                propertyKey, properties, annotation, getLocalValidationInterceptors(annotation));
+    }
+
+    /**
+     * allows to execute local interceptors which were extracted before (e.g. the interceptors cached by a
+     * {@link org.apache.myfaces.extensions.validator.core.validation.ValidationPlan})
+     *
+     * @since r7
+     */
+    public static boolean executeLocalBeforeValidationInterceptors(
+            FacesContext facesContext,
+            UIComponent uiComponent,
+            Object convertedObject,
+            String propertyKey,
+            Object properties,
+            Annotation annotation,
+            List<PropertyValidationInterceptor> propertyValidationInterceptors)
     {
         Map<String, Object> propertyMap = new HashMap<String, Object>();
-        List<PropertyValidationInterceptor> propertyValidationInterceptors = getValidationParameterExtractor().extract(
-                annotation, PropertyValidationInterceptor.class, PropertyValidationInterceptor.class);
         boolean result = true;
 
         if (properties != null)
@@ -570,10 +590,27 @@ public class ExtValUtils
                                                                String propertyKey,
                                                                Object properties,
                                                                Annotation annotation)
+    {
+        executeLocalAfterValidationInterceptors(facesContext, uiComponent, convertedObject,
+                propertyKey, properties, annotation, getLocalValidationInterceptors(annotation));
+    }
+
+    /**
+     * allows to execute local interceptors which were extracted before (e.g. the interceptors cached by a
+     * {@link org.apache.myfaces.extensions.validator.core.validation.ValidationPlan})
+     *
+     * @since r7
+     */
+    public static void executeLocalAfterValidationInterceptors(
+            FacesContext facesContext,
+            UIComponent uiComponent,
+            Object convertedObject,
+            String propertyKey,
+            Object properties,
+            Annotation annotation,
+            List<PropertyValidationInterceptor> propertyValidationInterceptors)
     {
         Map<String, Object> propertyMap = new HashMap<String, Object>();
-        List<PropertyValidationInterceptor> propertyValidationInterceptors = getValidationParameterExtractor().extract(
-                annotation, PropertyValidationInterceptor.class, PropertyValidationInterceptor.class);
 
         if (properties != null)
         {
@@ -587,6 +624,17 @@ public class ExtValUtils
         }
     }
 
+    /**
+     * @param annotation the constraint which might host local interceptors
+     * @return the interceptors which are hosted by the given annotation as validation parameter
+     * @since r7
+     */
+    public static List<PropertyValidationInterceptor> getLocalValidationInterceptors(Annotation annotation)
+    {
+        return getValidationParameterExtractor().extract(
+                annotation, PropertyValidationInterceptor.class, PropertyValidationInterceptor.class);
+    }
+
     @ToDo(value = Priority.MEDIUM, description = "is renaming ok?")
     public static boolean executeGlobalBeforeValidationInterceptors(FacesContext facesContext,
                                                                     UIComponent uiComponent,
@@ -682,6 +730,19 @@ public class ExtValUtils
         return key.toString();
     }
 
+    /**
+     * Allows to check for a storage without creating it.
+     *
+     * @param storageType type of the storage
+     * @param storageName name of the storage
+     * @return true if the storage was created (and not reset) during the current request
+     * @since r7
+     */
+    public static boolean isStorageAvailable(Class storageType, String storageName)
+    {
+        return getCachedStorage(storageType, storageName) != null;
+    }
+
     public static void resetStorage(Class storageType, String storageName)
     {
         resetCachedStorage(storageType.getName(), storageName);
@@ -738,41 +799,16 @@ public class ExtValUtils
     public static Map<String, Object> getTransformedMetaDataWith(
             FacesContext facesContext, UIComponent uiComponent, Map<String, Object> properties)
     {
-        ValidationStrategy validationStrategy;
-
-        SkipValidationEvaluator skipValidationEvaluator = ExtValContext.getContext().getSkipValidationEvaluator();
         MetaDataExtractor metaDataExtractor = getComponentMetaDataExtractorWith(properties);
 
-        Map<String, Object> metaData;
-        Map<String, Object> metaDataResult = new HashMap<String, Object>();
-
-        for (MetaDataEntry entry : metaDataExtractor.extract(facesContext, uiComponent).getMetaDataEntries())
-        {
-            metaData = new HashMap<String, Object>();
-            validationStrategy = getValidationStrategyForMetaData(entry.getKey());
-
-            if (validationStrategy != null)
-            {
-                metaData = transformMetaData(
-                        facesContext, uiComponent, validationStrategy, skipValidationEvaluator, metaData, entry);
-
-                if (!isComponentInitializationSkipped(metaData, entry, validationStrategy))
-                {
-                    //don't break maybe there are constraints which don't support the skip-mechanism
-                    metaDataResult.putAll(metaData);
-                }
-            }
-        }
-
-        return metaDataResult;
+        return getTransformedMetaDataWith(facesContext, uiComponent,
+                metaDataExtractor.extract(facesContext, uiComponent), properties);
     }
 
     public static Map<String, Object> getTransformedMetaDataWith(FacesContext facesContext,
                                                                  PropertyInformation propertyInformation,
                                                                  Map<String, Object> properties)
     {
-        ValidationStrategy validationStrategy;
-
         // This is called as part of the MetaData extraction in the default process. 
         // So we need to do it here also before the transformations are run.
         for (MetaDataExtractionInterceptor metaDataExtractionInterceptor :
@@ -781,22 +817,105 @@ public class ExtValUtils
             metaDataExtractionInterceptor.afterExtracting(propertyInformation);
         }
 
+        return getTransformedMetaDataWith(facesContext, null, propertyInformation, properties);
+    }
+
+    /*
+     * the result just depends on the meta-data of the property, the module key, the locale of the view and the
+     * skip state of the entries. the skip state is evaluated per request, the transformation result is shared
+     * (read-only) via the TransformedMetaDataStorage - every caller gets its own copy, because component
+     * initializers are allowed to change it.
+     */
+    private static Map<String, Object> getTransformedMetaDataWith(FacesContext facesContext,
+                                                                  UIComponent uiComponent,
+                                                                  PropertyInformation propertyInformation,
+                                                                  Map<String, Object> properties)
+    {
         SkipValidationEvaluator skipValidationEvaluator = ExtValContext.getContext().getSkipValidationEvaluator();
 
+        MetaDataEntry[] metaDataEntries = propertyInformation.getMetaDataEntries();
+        ValidationStrategy[] validationStrategies = new ValidationStrategy[metaDataEntries.length];
+        boolean[] skippedEntries = new boolean[metaDataEntries.length];
+        char[] skipState = new char[metaDataEntries.length];
+
+        MetaDataEntry entry;
+        for (int i = 0; i < metaDataEntries.length; i++)
+        {
+            entry = metaDataEntries[i];
+            validationStrategies[i] = getValidationStrategyForMetaData(entry.getKey());
+
+            if (validationStrategies[i] == null)
+            {
+                skipState[i] = '0';
+                continue;
+            }
+
+            skippedEntries[i] = skipValidationEvaluator
+                    .skipValidation(facesContext, uiComponent, validationStrategies[i], entry);
+
+            //the skip-validation flag is checked after the transformation - it's just set by the evaluator
+            skipState[i] = (char) ('1' + (skippedEntries[i] ? 1 : 0) +
+                    (Boolean.TRUE.equals(entry.getProperty(PropertyInformationKeys.SKIP_VALIDATION, Boolean.class))
+                            ? 2 : 0));
+        }
+
+        PropertyDetails propertyDetails = getPropertyDetails(propertyInformation);
+        Class targetClass = getTargetClass(propertyDetails);
+        Object moduleKey = properties != null ? properties.get(ValidationModuleKey.class.getName()) : null;
+
+        if (targetClass == null || (moduleKey != null && !(moduleKey instanceof Class)))
+        {
+            return transformMetaData(facesContext, uiComponent, metaDataEntries, validationStrategies, skippedEntries);
+        }
+
+        TransformedMetaDataStorage transformedMetaDataStorage = getTransformedMetaDataStorage();
+        Locale locale = getViewLocale(facesContext);
+        String skipStateKey = new String(skipState);
+
+        TransformedMetaData transformedMetaData = transformedMetaDataStorage.getTransformedMetaData(
+                targetClass, propertyDetails.getProperty(), (Class) moduleKey, locale, skipStateKey);
+
+        if (transformedMetaData == null || !transformedMetaData.isApplicableTo(metaDataEntries))
+        {
+            transformedMetaData = new TransformedMetaData(metaDataEntries, transformMetaData(
+                    facesContext, uiComponent, metaDataEntries, validationStrategies, skippedEntries));
+
+            transformedMetaDataStorage.storeTransformedMetaData(targetClass, propertyDetails.getProperty(),
+                    (Class) moduleKey, locale, skipStateKey, transformedMetaData);
+        }
+        return new HashMap<String, Object>(transformedMetaData.getMetaData());
+    }
+
+    private static Locale getViewLocale(FacesContext facesContext)
+    {
+        if (facesContext == null || facesContext.getViewRoot() == null)
+        {
+            return null;
+        }
+        return facesContext.getViewRoot().getLocale();
+    }
+
+    private static Map<String, Object> transformMetaData(FacesContext facesContext,
+                                                         UIComponent uiComponent,
+                                                         MetaDataEntry[] metaDataEntries,
+                                                         ValidationStrategy[] validationStrategies,
+                                                         boolean[] skippedEntries)
+    {
         Map<String, Object> metaData;
         Map<String, Object> metaDataResult = new HashMap<String, Object>();
 
-        for (MetaDataEntry entry : propertyInformation.getMetaDataEntries())
+        for (int i = 0; i < metaDataEntries.length; i++)
         {
-            metaData = new HashMap<String, Object>();
-            validationStrategy = getValidationStrategyForMetaData(entry.getKey());
-
-            if (validationStrategy != null)
+            if (validationStrategies[i] != null)
             {
-                metaData = transformMetaData(
-                        facesContext, null, validationStrategy, skipValidationEvaluator, metaData, entry);
+                metaData = new HashMap<String, Object>();
 
-                if (!isComponentInitializationSkipped(metaData, entry, validationStrategy))
+                if (!skippedEntries[i])
+                {
+                    metaData = transformMetaData(validationStrategies[i], metaDataEntries[i]);
+                }
+
+                if (!isComponentInitializationSkipped(metaData, metaDataEntries[i], validationStrategies[i]))
                 {
                     //don't break maybe there are constraints which don't support the skip-mechanism
                     metaDataResult.putAll(metaData);
@@ -807,34 +926,46 @@ public class ExtValUtils
         return metaDataResult;
     }
 
-    private static Map<String, Object> transformMetaData(FacesContext facesContext, UIComponent uiComponent,
-                                                         ValidationStrategy validationStrategy,
-                                                         SkipValidationEvaluator skipValidationEvaluator,
-                                                         Map<String, Object> metaData, MetaDataEntry entry)
+    private static Map<String, Object> transformMetaData(ValidationStrategy validationStrategy, MetaDataEntry entry)
     {
-        if (!skipValidationEvaluator.skipValidation(facesContext, uiComponent, validationStrategy, entry))
-        {
-            MetaDataTransformer metaDataTransformer = getMetaDataTransformerForValidationStrategy(validationStrategy);
+        MetaDataTransformer metaDataTransformer = getMetaDataTransformerForValidationStrategy(validationStrategy);
+        Map<String, Object> metaData = null;
 
-            if (metaDataTransformer != null)
-            {
-                LOGGER.fine(metaDataTransformer.getClass().getName() + " instantiated");
+        if (metaDataTransformer != null)
+        {
+            LOGGER.fine(metaDataTransformer.getClass().getName() + " instantiated");
 
-                metaData = metaDataTransformer.convertMetaData(entry);
-            }
-            else
-            {
-                metaData = null;
-            }
+            metaData = metaDataTransformer.convertMetaData(entry);
+        }
 
-            if (metaData == null)
-            {
-                return new HashMap<String, Object>();
-            }
+        if (metaData == null)
+        {
+            return new HashMap<String, Object>();
         }
         return metaData;
     }
 
+    private static Class getTargetClass(PropertyDetails propertyDetails)
+    {
+        if (propertyDetails == null || propertyDetails.getBaseObject() == null ||
+                propertyDetails.getProperty() == null)
+        {
+            return null;
+        }
+
+        //e.g. in case of constraint sources the base object is the class which hosts the constraints
+        if (propertyDetails.getBaseObject() instanceof Class)
+        {
+            return (Class) propertyDetails.getBaseObject();
+        }
+        return ProxyUtils.getUnproxiedClass(propertyDetails.getBaseObject().getClass());
+    }
+
+    private static TransformedMetaDataStorage getTransformedMetaDataStorage()
+    {
+        return getStorage(TransformedMetaDataStorage.class, TransformedMetaDataStorage.class.getName());
+    }
+
     private static boolean isComponentInitializationSkipped(Map<String, Object> metaData, MetaDataEntry entry,
                                                             ValidationStrategy validationStrategy)
     {
@@ -25,11 +25,21 @@ import java.beans.PropertyDescriptor;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.StringTokenizer;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import org.apache.myfaces.extensions.validator.core.ExtValContext;
+import org.apache.myfaces.extensions.validator.core.ExtValCoreConfiguration;
+import org.apache.myfaces.extensions.validator.core.property.PropertyAccessor;
+import org.apache.myfaces.extensions.validator.core.storage.CachedMember;
+import org.apache.myfaces.extensions.validator.core.storage.ClassKeyedCache;
+import org.apache.myfaces.extensions.validator.core.storage.EvictionAwarePropertyStorage;
+import org.apache.myfaces.extensions.validator.core.storage.KeyedCache;
 import org.apache.myfaces.extensions.validator.core.storage.PropertyStorage;
 import org.apache.myfaces.extensions.validator.internal.UsageCategory;
 import org.apache.myfaces.extensions.validator.internal.UsageInformation;
@@ -42,6 +52,13 @@ public class ReflectionUtils
 {
     private static final Logger LOGGER = Logger.getLogger(ReflectionUtils.class.getName());
 
+    //classes are referenced weakly - no eviction needed
+    private static final ClassKeyedCache<Map<String, PropertyAccessor>> PROPERTY_ACCESSOR_CACHE =
+            new ClassKeyedCache<Map<String, PropertyAccessor>>(0);
+
+    //created lazily - the max. size is configured per application
+    private static volatile KeyedCache<String, String[]> propertyChainCache;
+
     public static Method tryToGetMethod(Class targetClass, String targetMethodName)
     {
         return tryToGetMethod(targetClass, targetMethodName, null);
@@ -172,35 +189,131 @@ public class ReflectionUtils
     public static Object invokeMethod(Object target, Method method, Object... args)
         throws InvocationTargetException, IllegalAccessException
     {
-        method.setAccessible(true);
+        //the access check is expensive - it's only needed once per method instance
+        if (!method.isAccessible())
+        {
+            method.setAccessible(true);
+        }
         return method.invoke(target, args);
     }
 
+    /**
+     * Resolves the object which hosts the last property of the given property chain.
+     * If a property of the chain is null, the result is null.
+     *
+     * @param baseObject the object which hosts the first property of the chain
+     * @param propertyChain dot separated property chain (e.g. property1.property2.property3)
+     * @return the object which hosts the last property of the chain (or null)
+     */
     public static Object getBaseOfPropertyChain(Object baseObject, String propertyChain)
     {
-        StringTokenizer tokenizer = new StringTokenizer(propertyChain, ".");
+        String[] properties = getPropertiesOfChain(propertyChain);
+
+        //ignore the last property
+        return walkPropertyChain(baseObject, properties, properties.length - 1);
+    }
+
+    /**
+     * Resolves the value of the last property of the given property chain.
+     * If a property of the chain is null, the result is null.
+     *
+     * @param baseObject the object which hosts the first property of the chain
+     * @param propertyChain dot separated property chain (e.g. property1.property2.property3)
+     * @return the value of the last property of the chain (or null)
+     * @since r7
+     */
+    public static Object getValueOfPropertyChain(Object baseObject, String propertyChain)
+    {
+        String[] properties = getPropertiesOfChain(propertyChain);
 
+        return walkPropertyChain(baseObject, properties, properties.length);
+    }
+
+    private static Object walkPropertyChain(Object baseObject, String[] properties, int numberOfProperties)
+    {
         Object currentBase = baseObject;
-        String currentProperty;
-        Method currentMethod;
 
-        while(tokenizer.hasMoreTokens())
+        for (int i = 0; i < numberOfProperties && currentBase != null; i++)
         {
-            currentProperty = tokenizer.nextToken();
+            currentBase = getPropertyAccessor(ProxyUtils.getUnproxiedClass(currentBase.getClass()), properties[i])
+                    .getValue(currentBase);
+        }
+        return currentBase;
+    }
+
+    private static String[] getPropertiesOfChain(String propertyChain)
+    {
+        KeyedCache<String, String[]> cache = getPropertyChainCache();
+        String[] result = cache.get(propertyChain);
 
-            //ignore the last property
-            if(!tokenizer.hasMoreTokens())
+        if (result == null)
+        {
+            StringTokenizer tokenizer = new StringTokenizer(propertyChain, ".");
+            List<String> properties = new ArrayList<String>();
+
+            while (tokenizer.hasMoreTokens())
             {
-                break;
+                properties.add(tokenizer.nextToken());
             }
 
-            //no is - it's only possible at properties not at bean level
-            currentMethod = tryToGetMethod(ProxyUtils.getUnproxiedClass(currentBase.getClass()),
-                "get" + currentProperty.substring(0, 1).toUpperCase() + currentProperty.substring(1));
-            currentBase = tryToInvokeMethod(currentBase, currentMethod);
+            result = cache.putIfAbsent(propertyChain, properties.toArray(new String[properties.size()]));
         }
+        return result;
+    }
 
-        return currentBase;
+    private static KeyedCache<String, String[]> getPropertyChainCache()
+    {
+        KeyedCache<String, String[]> cache = propertyChainCache;
+
+        if (cache == null)
+        {
+            //in the worst case the cache is created twice
+            cache = new KeyedCache<String, String[]>(ExtValCoreConfiguration.get().storageCacheMaxSize());
+            propertyChainCache = cache;
+        }
+        return cache;
+    }
+
+    /**
+     * Resolves the {@link PropertyAccessor} for the given property (public get or is method).
+     * The result is cached per class and property.
+     *
+     * @param targetClass the (unproxied) class which hosts the property
+     * @param property name of the property
+     * @return the accessor of the property - it isn't readable if there is no getter
+     * @since r7
+     */
+    public static PropertyAccessor getPropertyAccessor(Class targetClass, String property)
+    {
+        Map<String, PropertyAccessor> propertyAccessors = PROPERTY_ACCESSOR_CACHE.get(targetClass);
+
+        if (propertyAccessors == null)
+        {
+            propertyAccessors = PROPERTY_ACCESSOR_CACHE.putIfAbsent(
+                    targetClass, new ConcurrentHashMap<String, PropertyAccessor>());
+        }
+
+        PropertyAccessor propertyAccessor = propertyAccessors.get(property);
+
+        if (propertyAccessor == null)
+        {
+            propertyAccessor = createPropertyAccessor(targetClass, property);
+            propertyAccessors.put(property, propertyAccessor);
+        }
+        return propertyAccessor;
+    }
+
+    private static PropertyAccessor createPropertyAccessor(Class targetClass, String property)
+    {
+        String capitalizedProperty = property.substring(0, 1).toUpperCase() + property.substring(1);
+
+        Method readMethod = tryToGetMethod(targetClass, "get" + capitalizedProperty);
+
+        if (readMethod == null)
+        {
+            readMethod = tryToGetMethod(targetClass, "is" + capitalizedProperty);
+        }
+        return new PropertyAccessor(property, readMethod);
     }
 
     public static PropertyStorage getPropertyStorage()
@@ -216,9 +329,11 @@ public class ReflectionUtils
 
     public static Method tryToGetMethodOfProperty(PropertyStorage storage, Class entity, String property)
     {
-        if (isCachedMethod(storage, entity, property))
+        CachedMember<Method> cachedMethod = findCachedMethod(storage, entity, property);
+
+        if (cachedMethod != null)
         {
-            return getCachedMethod(storage, entity, property);
+            return cachedMethod.getMember();
         }
 
         Method method = tryToGetReadMethod(entity, property);
@@ -236,9 +351,11 @@ public class ReflectionUtils
 
     public static Field tryToGetFieldOfProperty(PropertyStorage storage, Class entity, String property)
     {
-        if (isCachedField(storage, entity, property))
+        CachedMember<Field> cachedField = findCachedField(storage, entity, property);
+
+        if (cachedField != null)
         {
-            return getCachedField(storage, entity, property);
+            return cachedField.getMember();
         }
 
         Field field = null;
@@ -289,6 +406,24 @@ public class ReflectionUtils
         }
     }
 
+    /*
+     * a storage with a size limit might drop the entry between #containsField and #getField
+     * -> a single lookup which returns null for a miss
+     */
+    private static CachedMember<Field> findCachedField(PropertyStorage storage, Class entity, String property)
+    {
+        if (storage instanceof EvictionAwarePropertyStorage)
+        {
+            return ((EvictionAwarePropertyStorage) storage).findField(entity, property);
+        }
+
+        if (!isCachedField(storage, entity, property))
+        {
+            return null;
+        }
+        return new CachedMember<Field>(getCachedField(storage, entity, property));
+    }
+
     private static boolean isCachedField(PropertyStorage storage, Class entity, String property)
     {
         return storage.containsField(entity, property);
@@ -365,6 +500,24 @@ public class ReflectionUtils
         return storage.getField(entity, property);
     }
 
+    /*
+     * a storage with a size limit might drop the entry between #containsMethod and #getMethod
+     * -> a single lookup which returns null for a miss
+     */
+    private static CachedMember<Method> findCachedMethod(PropertyStorage storage, Class entity, String property)
+    {
+        if (storage instanceof EvictionAwarePropertyStorage)
+        {
+            return ((EvictionAwarePropertyStorage) storage).findMethod(entity, property);
+        }
+
+        if (!isCachedMethod(storage, entity, property))
+        {
+            return null;
+        }
+        return new CachedMember<Method>(getCachedMethod(storage, entity, property));
+    }
+
     private static boolean isCachedMethod(PropertyStorage storage, Class entity, String property)
     {
         return storage.containsMethod(entity, property);
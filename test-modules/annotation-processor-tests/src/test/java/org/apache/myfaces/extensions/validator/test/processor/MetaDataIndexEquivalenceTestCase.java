@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.myfaces.extensions.validator.test.processor;
+
+import org.apache.myfaces.extensions.validator.core.metadata.MetaDataEntry;
+import org.apache.myfaces.extensions.validator.core.metadata.MetaDataIndex;
+import org.apache.myfaces.extensions.validator.core.property.PropertyDetails;
+import org.apache.myfaces.extensions.validator.test.core.AbstractExValCoreTestCase;
+import org.apache.myfaces.extensions.validator.util.ExtValAnnotationUtils;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+
+/**
+ * The test classes of this module are indexed by the annotation processor at build-time.
+ * The meta-data found via the index has to be the same as the meta-data found via the reflection based lookup.
+ */
+public class MetaDataIndexEquivalenceTestCase extends AbstractExValCoreTestCase
+{
+    private static final String[] PROPERTIES =
+            {"firstName", "lastName", "nickName", "street", "comment", "url", "zipCode", "unknown"};
+
+    @Test
+    public void testTestClassesAreIndexed()
+    {
+        Assert.assertTrue(MetaDataIndex.getInstance().isIndexed(IndexedTestBean.class));
+        Assert.assertTrue(MetaDataIndex.getInstance().isIndexed(IndexedTestSuperBean.class));
+        Assert.assertFalse(MetaDataIndex.getInstance().isIndexed(IndexedTestInterface.class));
+    }
+
+    @Test
+    public void testIndexedMetaDataEqualsReflectionBasedMetaData()
+    {
+        List<Object> indexedMetaData;
+        for (String property : PROPERTIES)
+        {
+            indexedMetaData = extractMetaData(property);
+
+            Assert.assertEquals(property, extractMetaDataWithoutIndex(property), indexedMetaData);
+        }
+    }
+
+    @Test
+    public void testMetaDataOfAllLocationsIsFound()
+    {
+        Assert.assertEquals(1, extractMetaData("firstName").size());
+        Assert.assertEquals(0, extractMetaData("lastName").size());
+        Assert.assertEquals(2, extractMetaData("nickName").size());
+        Assert.assertEquals(1, extractMetaData("street").size());
+        Assert.assertEquals(0, extractMetaData("comment").size());
+        Assert.assertEquals(1, extractMetaData("url").size());
+        Assert.assertEquals(1, extractMetaData("zipCode").size());
+    }
+
+    private List<Object> extractMetaDataWithoutIndex(String property)
+    {
+        Thread currentThread = Thread.currentThread();
+        ClassLoader originalClassLoader = currentThread.getContextClassLoader();
+
+        currentThread.setContextClassLoader(new IndexHidingClassLoader(originalClassLoader));
+        try
+        {
+            Assert.assertFalse(MetaDataIndex.getInstance().isIndexed(IndexedTestBean.class));
+
+            return extractMetaData(property);
+        }
+        finally
+        {
+            currentThread.setContextClassLoader(originalClassLoader);
+        }
+    }
+
+    private List<Object> extractMetaData(String property)
+    {
+        MetaDataEntry[] metaDataEntries = ExtValAnnotationUtils.extractAnnotations(IndexedTestBean.class,
+                new PropertyDetails(null, new IndexedTestBean(), property)).getMetaDataEntries();
+
+        List<Object> result = new ArrayList<Object>();
+        for (MetaDataEntry metaDataEntry : metaDataEntries)
+        {
+            result.add(metaDataEntry.getValue());
+        }
+        return result;
+    }
+
+    private static class IndexHidingClassLoader extends ClassLoader
+    {
+        private IndexHidingClassLoader(ClassLoader parent)
+        {
+            super(parent);
+        }
+
+        @Override
+        public Enumeration<URL> getResources(String name) throws IOException
+        {
+            if (MetaDataIndex.INDEX_RESOURCE.equals(name))
+            {
+                return Collections.enumeration(Collections.<URL>emptyList());
+            }
+            return super.getResources(name);
+        }
+    }
+}
@@ -0,0 +1,239 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.myfaces.extensions.validator.test.processor;
+
+import org.apache.myfaces.extensions.validator.processor.MetaDataIndexProcessor;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.tools.JavaCompiler;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+
+public class MetaDataIndexProcessorTestCase
+{
+    private static final String INDEX_RESOURCE = "META-INF/extval/meta-data-index.properties";
+
+    private static final String BEAN_CLASS = "test.ProcessorTestBean";
+    private static final String SUPER_BEAN_CLASS = "test.ProcessorTestSuperBean";
+    private static final String INTERFACE = "test.ProcessorTestInterface";
+
+    private File workDirectory;
+    private List<File> sourceFiles;
+
+    @Before
+    public void createSources() throws IOException
+    {
+        this.workDirectory = File.createTempFile("extval-processor-test", "");
+        Assert.assertTrue(this.workDirectory.delete());
+        Assert.assertTrue(this.workDirectory.mkdirs());
+
+        this.sourceFiles = new ArrayList<File>();
+
+        createSource("ProcessorTestInterface",
+                "public interface ProcessorTestInterface\n" +
+                "{\n" +
+                "    @Deprecated String getUrl();\n" +
+                "}\n");
+
+        createSource("ProcessorTestSuperBean",
+                "public class ProcessorTestSuperBean\n" +
+                "{\n" +
+                "    @Deprecated public String getUrl() { return null; }\n" +
+                "}\n");
+
+        createSource("ProcessorTestBean",
+                "public class ProcessorTestBean extends ProcessorTestSuperBean implements ProcessorTestInterface\n" +
+                "{\n" +
+                "    @Deprecated private String firstName;\n" +
+                "    private String lastName;\n" +
+                "    @SuppressWarnings(\"unused\") private String _comment;\n" +
+                "    public static class Nested { @Deprecated private String _value; }\n" +
+                "}\n");
+    }
+
+    @After
+    public void deleteWorkDirectory()
+    {
+        delete(this.workDirectory);
+    }
+
+    @Test
+    public void testIndexedClasses() throws IOException
+    {
+        Properties index = loadIndex(compile("classes"));
+
+        Assert.assertEquals("firstname,url", index.getProperty(BEAN_CLASS));
+        Assert.assertEquals("url", index.getProperty(SUPER_BEAN_CLASS));
+        Assert.assertEquals("value", index.getProperty(BEAN_CLASS + "$Nested"));
+        Assert.assertNull(index.getProperty(INTERFACE));
+    }
+
+    @Test
+    public void testIndexedLocations() throws IOException
+    {
+        Properties index = loadIndex(compile("classes"));
+
+        Assert.assertEquals("FIELD:" + BEAN_CLASS + ":java.lang.Deprecated",
+                index.getProperty(BEAN_CLASS + "#firstname"));
+        Assert.assertEquals("INTERFACE_GETTER:" + INTERFACE + ":java.lang.Deprecated," +
+                "GETTER:" + SUPER_BEAN_CLASS + ":java.lang.Deprecated",
+                index.getProperty(BEAN_CLASS + "#url"));
+        Assert.assertEquals("FIELD:" + BEAN_CLASS + "$Nested:java.lang.Deprecated",
+                index.getProperty(BEAN_CLASS + "$Nested#value"));
+    }
+
+    @Test
+    public void testPropertiesWithoutRuntimeAnnotationsAreNotIndexed() throws IOException
+    {
+        Properties index = loadIndex(compile("classes"));
+
+        Assert.assertNull(index.getProperty(BEAN_CLASS + "#lastname"));
+        Assert.assertNull(index.getProperty(BEAN_CLASS + "#comment"));
+    }
+
+    @Test
+    public void testIndexIsReproducible() throws IOException
+    {
+        byte[] firstIndex = read(compile("classes1"));
+        byte[] secondIndex = read(compile("classes2"));
+
+        Assert.assertTrue(Arrays.equals(firstIndex, secondIndex));
+
+        List<String> commentLines = new ArrayList<String>();
+        for (String line : new String(firstIndex, "ISO-8859-1").split("\\n"))
+        {
+            if (line.startsWith("#"))
+            {
+                commentLines.add(line);
+            }
+        }
+        Assert.assertEquals(Collections.singletonList("#generated by " + MetaDataIndexProcessor.class.getName()),
+                commentLines);
+    }
+
+    private void createSource(String className, String body) throws IOException
+    {
+        File packageDirectory = new File(this.workDirectory, "src/test");
+        Assert.assertTrue(packageDirectory.isDirectory() || packageDirectory.mkdirs());
+
+        File sourceFile = new File(packageDirectory, className + ".java");
+        Writer writer = new FileWriter(sourceFile);
+        try
+        {
+            writer.write("package test;\n\n" + body);
+        }
+        finally
+        {
+            writer.close();
+        }
+        this.sourceFiles.add(sourceFile);
+    }
+
+    private File compile(String outputDirectoryName) throws IOException
+    {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        Assert.assertNotNull("the test requires a jdk", compiler);
+
+        File outputDirectory = new File(this.workDirectory, outputDirectoryName);
+        Assert.assertTrue(outputDirectory.mkdirs());
+
+        StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, null);
+        try
+        {
+            JavaCompiler.CompilationTask compilationTask = compiler.getTask(null, fileManager, null,
+                    Arrays.asList("-proc:only", "-d", outputDirectory.getAbsolutePath()), null,
+                    fileManager.getJavaFileObjectsFromFiles(this.sourceFiles));
+            compilationTask.setProcessors(Collections.singletonList(new MetaDataIndexProcessor()));
+
+            Assert.assertTrue(compilationTask.call());
+        }
+        finally
+        {
+            fileManager.close();
+        }
+
+        File indexFile = new File(outputDirectory, INDEX_RESOURCE);
+        Assert.assertTrue(indexFile.isFile());
+        return indexFile;
+    }
+
+    private Properties loadIndex(File indexFile) throws IOException
+    {
+        Properties index = new Properties();
+        InputStream inputStream = new FileInputStream(indexFile);
+        try
+        {
+            index.load(inputStream);
+        }
+        finally
+        {
+            inputStream.close();
+        }
+        return index;
+    }
+
+    private byte[] read(File file) throws IOException
+    {
+        ByteArrayOutputStream result = new ByteArrayOutputStream();
+        InputStream inputStream = new FileInputStream(file);
+        try
+        {
+            byte[] buffer = new byte[1024];
+            int length;
+            while ((length = inputStream.read(buffer)) != -1)
+            {
+                result.write(buffer, 0, length);
+            }
+        }
+        finally
+        {
+            inputStream.close();
+        }
+        return result.toByteArray();
+    }
+
+    private void delete(File file)
+    {
+        File[] children = file.listFiles();
+
+        if (children != null)
+        {
+            for (File child : children)
+            {
+                delete(child);
+            }
+        }
+        file.delete();
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.myfaces.extensions.validator.test.beanval;
+
+import org.apache.myfaces.extensions.validator.beanval.BeanAwareValidatorFactory;
+import org.junit.Assert;
+import org.junit.Test;
+
+import javax.validation.Constraint;
+import javax.validation.ConstraintValidator;
+import javax.validation.ConstraintValidatorContext;
+import javax.validation.ConstraintValidatorFactory;
+import javax.validation.Payload;
+import javax.validation.Validation;
+import javax.validation.Validator;
+import javax.validation.constraints.NotNull;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.Map;
+
+public class BeanAwareConstraintValidatorFactoryTestCase extends AbstractBeanValidationTestCase
+{
+    @Test
+    public void testMissingManagedBeanIsCachedByTheValidatorFactory()
+    {
+        BeanAwareValidatorFactory validatorFactory =
+                new BeanAwareValidatorFactory(Validation.buildDefaultValidatorFactory());
+
+        Assert.assertNotNull(validatorFactory.getConstraintValidatorFactory()
+                .getInstance(CustomConstraintValidator.class));
+
+        //a bean which is added later isn't looked up again
+        facesContext.getExternalContext().getRequestMap()
+                .put("customConstraintValidator", new CustomConstraintValidator());
+
+        Assert.assertNotSame(facesContext.getExternalContext().getRequestMap().get("customConstraintValidator"),
+                validatorFactory.getConstraintValidatorFactory().getInstance(CustomConstraintValidator.class));
+    }
+
+    @Test
+    public void testRequestScopedConstraintValidatorIsLookedUpPerValidator()
+    {
+        BeanAwareValidatorFactory validatorFactory =
+                new BeanAwareValidatorFactory(Validation.buildDefaultValidatorFactory());
+        Map<String, Object> requestMap = facesContext.getExternalContext().getRequestMap();
+
+        RequestScopedConstraintValidator firstConstraintValidator = new RequestScopedConstraintValidator();
+        requestMap.put("requestScopedConstraintValidator", firstConstraintValidator);
+
+        Assert.assertEquals(1, createValidator(validatorFactory).validate(new ValidatedBean()).size());
+
+        //next request
+        requestMap.clear();
+        RequestScopedConstraintValidator secondConstraintValidator = new RequestScopedConstraintValidator();
+        requestMap.put("requestScopedConstraintValidator", secondConstraintValidator);
+
+        Assert.assertEquals(1, createValidator(validatorFactory).validate(new ValidatedBean()).size());
+
+        Assert.assertEquals(1, firstConstraintValidator.validationCount);
+        Assert.assertEquals(1, secondConstraintValidator.validationCount);
+    }
+
+    //like ExtValBeanValidationContext#getValidator
+    private Validator createValidator(BeanAwareValidatorFactory validatorFactory)
+    {
+        return validatorFactory.usingContext()
+                .constraintValidatorFactory(validatorFactory.getConstraintValidatorFactory())
+                .getValidator();
+    }
+
+    @Test
+    public void testManagedBeanIsUsedAsConstraintValidator()
+    {
+        ConstraintValidatorFactory constraintValidatorFactory =
+                new BeanAwareValidatorFactory(Validation.buildDefaultValidatorFactory())
+                        .getConstraintValidatorFactory();
+
+        CustomConstraintValidator constraintValidator = new CustomConstraintValidator();
+        facesContext.getExternalContext().getRequestMap().put("customConstraintValidator", constraintValidator);
+
+        Assert.assertSame(constraintValidator, constraintValidatorFactory.getInstance(CustomConstraintValidator.class));
+        Assert.assertSame(constraintValidator, constraintValidatorFactory.getInstance(CustomConstraintValidator.class));
+    }
+
+    @Test
+    public void testMissingManagedBeanIsCached()
+    {
+        ConstraintValidatorFactory constraintValidatorFactory =
+                new BeanAwareValidatorFactory(Validation.buildDefaultValidatorFactory())
+                        .getConstraintValidatorFactory();
+
+        CustomConstraintValidator constraintValidator =
+                constraintValidatorFactory.getInstance(CustomConstraintValidator.class);
+
+        Assert.assertNotNull(constraintValidator);
+
+        //a bean which is added later isn't looked up again
+        facesContext.getExternalContext().getRequestMap()
+                .put("customConstraintValidator", new CustomConstraintValidator());
+
+        Assert.assertNotSame(facesContext.getExternalContext().getRequestMap().get("customConstraintValidator"),
+                constraintValidatorFactory.getInstance(CustomConstraintValidator.class));
+    }
+
+    public static class CustomConstraintValidator implements ConstraintValidator<NotNull, Object>
+    {
+        public void initialize(NotNull constraintAnnotation)
+        {
+        }
+
+        public boolean isValid(Object value, ConstraintValidatorContext context)
+        {
+            return value != null;
+        }
+    }
+
+    @Target(ElementType.FIELD)
+    @Retention(RetentionPolicy.RUNTIME)
+    @Constraint(validatedBy = RequestScopedConstraintValidator.class)
+    public static @interface RequestScopedConstraint
+    {
+        String message() default "invalid";
+
+        Class<?>[] groups() default {};
+
+        Class<? extends Payload>[] payload() default {};
+    }
+
+    public static class RequestScopedConstraintValidator
+            implements ConstraintValidator<RequestScopedConstraint, Object>
+    {
+        private int validationCount;
+
+        public void initialize(RequestScopedConstraint constraintAnnotation)
+        {
+        }
+
+        public boolean isValid(Object value, ConstraintValidatorContext context)
+        {
+            this.validationCount++;
+            return false;
+        }
+    }
+
+    public static class ValidatedBean
+    {
+        @RequestScopedConstraint
+        private String property;
+
+        public String getProperty()
+        {
+            return this.property;
+        }
+    }
+}
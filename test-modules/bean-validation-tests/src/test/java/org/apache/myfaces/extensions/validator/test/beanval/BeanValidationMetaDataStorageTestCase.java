@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.myfaces.extensions.validator.test.beanval;
+
+import org.apache.myfaces.extensions.validator.beanval.storage.PropertyConstraintEntry;
+import org.apache.myfaces.extensions.validator.beanval.util.BeanValidationUtils;
+import org.apache.myfaces.extensions.validator.test.beanval.model.CascadedValidationTestCase1Bean;
+import org.apache.myfaces.extensions.validator.test.beanval.model.CustomTypeForCascadedValidationTestCase1Bean;
+import org.junit.Assert;
+import org.junit.Test;
+
+import javax.validation.groups.Default;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class BeanValidationMetaDataStorageTestCase extends AbstractBeanValidationTestCase
+{
+    @Test
+    public void testPropertyConstraintEntryIsCached()
+    {
+        PropertyConstraintEntry entry = BeanValidationUtils.getPropertyConstraintEntry(
+                CascadedValidationTestCase1Bean.class, "property");
+
+        Assert.assertNotNull(entry.getElementDescriptor());
+        Assert.assertTrue(entry.isCascaded());
+        Assert.assertSame(entry, BeanValidationUtils.getPropertyConstraintEntry(
+                CascadedValidationTestCase1Bean.class, "property"));
+    }
+
+    @Test
+    public void testPropertyWithoutConstraintsIsCached()
+    {
+        PropertyConstraintEntry entry = BeanValidationUtils.getPropertyConstraintEntry(
+                CustomTypeForCascadedValidationTestCase1Bean.class, "unknownProperty");
+
+        Assert.assertNull(entry.getElementDescriptor());
+        Assert.assertFalse(entry.isCascaded());
+        Assert.assertSame(entry, BeanValidationUtils.getPropertyConstraintEntry(
+                CustomTypeForCascadedValidationTestCase1Bean.class, "unknownProperty"));
+        Assert.assertNull(BeanValidationUtils.getElementDescriptor(
+                CustomTypeForCascadedValidationTestCase1Bean.class, "unknownProperty"));
+    }
+
+    @Test
+    public void testComponentMetaDataIsCachedPerGroupSet()
+    {
+        PropertyConstraintEntry entry = BeanValidationUtils.getPropertyConstraintEntry(
+                CustomTypeForCascadedValidationTestCase1Bean.class, "property2");
+
+        Assert.assertFalse(entry.isCascaded());
+
+        List<Map<String, Object>> metaData = new ArrayList<Map<String, Object>>();
+        metaData.add(new HashMap<String, Object>());
+        entry.setComponentMetaData(new Class[]{Default.class}, metaData);
+
+        Assert.assertEquals(1, entry.getComponentMetaData(new Class[]{Default.class}).size());
+        Assert.assertNull(entry.getComponentMetaData(new Class[]{Default.class, Object.class}));
+        Assert.assertNull(entry.getComponentMetaData(new Class[]{}));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testCachedComponentMetaDataIsReadOnly()
+    {
+        PropertyConstraintEntry entry = BeanValidationUtils.getPropertyConstraintEntry(
+                CustomTypeForCascadedValidationTestCase1Bean.class, "property1");
+
+        entry.setComponentMetaData(new Class[]{Default.class}, new ArrayList<Map<String, Object>>());
+        entry.getComponentMetaData(new Class[]{Default.class}).add(Collections.<String, Object>emptyMap());
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.myfaces.extensions.validator.test.beanval;
+
+import org.apache.myfaces.extensions.validator.beanval.ExtValBeanValidationContext;
+import org.apache.myfaces.extensions.validator.beanval.util.BeanValidationUtils;
+import org.junit.Assert;
+import org.junit.Test;
+
+import javax.validation.Validation;
+import javax.validation.Validator;
+
+public class ExtValBeanValidationContextTestCase extends AbstractBeanValidationTestCase
+{
+    @Test
+    public void testValidatorIsReused()
+    {
+        ExtValBeanValidationContext context = ExtValBeanValidationContext.getCurrentInstance();
+
+        Assert.assertSame(context.getMessageInterpolator(), context.getMessageInterpolator());
+        Assert.assertSame(context.getValidator(), context.getValidator());
+    }
+
+    @Test
+    public void testValidatorIsRecreatedForNewValidatorFactory()
+    {
+        TestBeanValidationContext context = new TestBeanValidationContext();
+        context.setValidatorFactory(BeanValidationUtils.getDefaultValidatorFactory());
+
+        Validator validator = context.getValidator();
+
+        context.setValidatorFactory(Validation.buildDefaultValidatorFactory());
+
+        Assert.assertNotSame(validator, context.getValidator());
+        Assert.assertSame(context.getValidator(), context.getValidator());
+    }
+
+    private static class TestBeanValidationContext extends ExtValBeanValidationContext
+    {
+        private void setValidatorFactory(javax.validation.ValidatorFactory validatorFactory)
+        {
+            this.validatorFactory = validatorFactory;
+        }
+    }
+}
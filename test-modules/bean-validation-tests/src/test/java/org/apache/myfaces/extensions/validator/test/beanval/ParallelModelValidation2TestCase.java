@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.myfaces.extensions.validator.test.beanval;
+
+import org.apache.myfaces.extensions.validator.beanval.DefaultExtValBeanValidationModuleConfiguration;
+import org.apache.myfaces.extensions.validator.core.ExtValModuleConfiguration;
+import org.apache.myfaces.extensions.validator.test.beanval.model.ModelValidationTestCase1Bean;
+import org.apache.myfaces.extensions.validator.test.beanval.view.ModelValidationTestCase5PageBean;
+import org.junit.Test;
+
+import javax.faces.application.FacesMessage;
+
+/**
+ * several validation targets - every target is validated by an own partition
+ */
+public class ParallelModelValidation2TestCase extends
+        BaseBeanValPropertyValidationTestCase<ModelValidationTestCase5PageBean>
+{
+    @Override
+    protected ExtValModuleConfiguration[] getCustomConfigObjects()
+    {
+        return new ExtValModuleConfiguration[]{new DefaultExtValBeanValidationModuleConfiguration()
+        {
+            @Override
+            public int parallelModelValidationThreadCount()
+            {
+                return 4;
+            }
+        }};
+    }
+
+    protected ModelValidationTestCase5PageBean getBeanToTest()
+    {
+        return new ModelValidationTestCase5PageBean();
+    }
+
+    @Test
+    public void testModelValidation()
+    {
+        createValueBindingForComponent(this.inputComponent1, "#{testBean.model1.property1}");
+        setValueToValidate(this.inputComponent1, "123");
+
+        createValueBindingForComponent(this.inputComponent2, "#{testBean.model1.property2}");
+        setValueToValidate(this.inputComponent2, "123");
+
+        validateComponents();
+        updateComponents();
+        processModelValidation();
+
+        assertNavigationBlocked(false);
+
+        checkMessageCount(0);
+    }
+
+    @Test
+    public void testViolationsOfAllPartitionsAreCollected()
+    {
+        invalidate(this.bean.getModel2());
+        invalidate(this.bean.getModel3());
+        invalidate(this.bean.getModel4());
+
+        createValueBindingForComponent(this.inputComponent1, "#{testBean.model1.property1}");
+        setValueToValidate(this.inputComponent1, "123");
+
+        createValueBindingForComponent(this.inputComponent2, "#{testBean.model1.property2}");
+        setValueToValidate(this.inputComponent2, "456");
+
+        validateComponents();
+        updateComponents();
+        processModelValidation();
+
+        assertNavigationBlocked(true);
+
+        checkMessageCount(4);
+        checkMessageSeverities(FacesMessage.SEVERITY_ERROR, FacesMessage.SEVERITY_ERROR,
+                FacesMessage.SEVERITY_ERROR, FacesMessage.SEVERITY_ERROR);
+    }
+
+    @Test
+    public void testViolationsOfWorkerThreadsAreCollected()
+    {
+        invalidate(this.bean.getModel3());
+        invalidate(this.bean.getModel4());
+
+        createValueBindingForComponent(this.inputComponent1, "#{testBean.model1.property1}");
+        setValueToValidate(this.inputComponent1, "123");
+
+        createValueBindingForComponent(this.inputComponent2, "#{testBean.model1.property2}");
+        setValueToValidate(this.inputComponent2, "123");
+
+        validateComponents();
+        updateComponents();
+        processModelValidation();
+
+        assertNavigationBlocked(true);
+
+        checkMessageCount(2);
+        checkMessageSeverities(FacesMessage.SEVERITY_ERROR, FacesMessage.SEVERITY_ERROR);
+    }
+
+    private void invalidate(ModelValidationTestCase1Bean model)
+    {
+        model.setProperty1("123");
+        model.setProperty2("456");
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.myfaces.extensions.validator.test.benchmark;
+
+import javax.faces.component.UIViewRoot;
+import javax.faces.component.html.HtmlForm;
+import javax.faces.component.html.HtmlInputText;
+import javax.faces.context.FacesContext;
+import javax.faces.render.Renderer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Form with the given number of inputs which simulates the relevant phases of a postback.
+ * The renderers are resolved via the render-kit - so decode and validation are processed by the
+ * ExtValRendererWrapper and its renderer-interceptors.
+ */
+class BenchmarkForm
+{
+    private List<HtmlInputText> inputComponents = new ArrayList<HtmlInputText>();
+
+    BenchmarkForm(int inputCount)
+    {
+        UIViewRoot rootComponent = new UIViewRoot();
+        HtmlForm form = new HtmlForm();
+        form.setId("form");
+        rootComponent.getChildren().add(form);
+
+        HtmlInputText inputComponent;
+        for (int i = 0; i < inputCount; i++)
+        {
+            inputComponent = new HtmlInputText();
+            inputComponent.setId("input" + i);
+            form.getChildren().add(inputComponent);
+            this.inputComponents.add(inputComponent);
+        }
+    }
+
+    List<HtmlInputText> getInputComponents()
+    {
+        return this.inputComponents;
+    }
+
+    /**
+     * Removes everything (e.g. the storages of extval) except the given beans from the request scope.
+     *
+     * @param facesContext current faces-context
+     * @param requestScopedBeanNames names of the beans which should survive
+     */
+    @SuppressWarnings({"unchecked"})
+    void startRequest(FacesContext facesContext, Set<String> requestScopedBeanNames)
+    {
+        Map<String, Object> requestMap = facesContext.getExternalContext().getRequestMap();
+
+        for (String key : new ArrayList<String>(requestMap.keySet()))
+        {
+            if (!requestScopedBeanNames.contains(key))
+            {
+                requestMap.remove(key);
+            }
+        }
+    }
+
+    void decode(FacesContext facesContext, String submittedValue)
+    {
+        Renderer renderer;
+        for (HtmlInputText inputComponent : this.inputComponents)
+        {
+            renderer = facesContext.getRenderKit()
+                    .getRenderer(inputComponent.getFamily(), inputComponent.getRendererType());
+
+            renderer.decode(facesContext, inputComponent);
+            inputComponent.setSubmittedValue(submittedValue);
+        }
+    }
+
+    void processValidators(FacesContext facesContext)
+    {
+        for (HtmlInputText inputComponent : this.inputComponents)
+        {
+            inputComponent.processValidators(facesContext);
+        }
+    }
+
+    void processUpdates(FacesContext facesContext)
+    {
+        for (HtmlInputText inputComponent : this.inputComponents)
+        {
+            inputComponent.processUpdates(facesContext);
+        }
+    }
+
+    boolean isValid()
+    {
+        for (HtmlInputText inputComponent : this.inputComponents)
+        {
+            if (!inputComponent.isValid())
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.myfaces.extensions.validator.test.benchmark;
+
+import org.apache.myfaces.extensions.validator.test.propval.AbstractPropertyValidationTestCase;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.faces.component.html.HtmlInputText;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Postback of a form with pairs of inputs (@Required + @Length and @Equals) which are processed by
+ * the renderer-wrapper (decode), the validation-interceptor and the cross-validation phase-listener.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class PropertyValidationBenchmark extends AbstractPropertyValidationTestCase
+{
+    private static final String SUBMITTED_VALUE = "extval";
+
+    @Param({"10", "100", "1000"})
+    public int inputCount;
+
+    private BenchmarkForm form;
+    private Set<String> beanNames = new HashSet<String>();
+
+    @Setup(Level.Trial)
+    public void setUpEnvironment() throws Exception
+    {
+        setUp();
+    }
+
+    @Override
+    protected void setUpTestCase()
+    {
+        super.setUpTestCase();
+
+        this.form = new BenchmarkForm(this.inputCount);
+
+        List<HtmlInputText> inputComponents = this.form.getInputComponents();
+        String beanName;
+        for (int i = 0; i < inputComponents.size(); i += 2)
+        {
+            beanName = "bean" + (i / 2);
+            createRequestScopedBean(beanName, new PropertyValidationBenchmarkBean());
+            this.beanNames.add(beanName);
+
+            createValueBinding(inputComponents.get(i), "value", "#{" + beanName + ".password}");
+
+            if (i + 1 < inputComponents.size())
+            {
+                createValueBinding(inputComponents.get(i + 1), "value", "#{" + beanName + ".passwordRepeated}");
+            }
+        }
+    }
+
+    @Benchmark
+    public boolean decodeValidateAndCrossValidate()
+    {
+        this.form.startRequest(facesContext, this.beanNames);
+        this.form.decode(facesContext, SUBMITTED_VALUE);
+        this.form.processValidators(facesContext);
+
+        processCrossValidation();
+
+        return this.form.isValid();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDownEnvironment() throws Exception
+    {
+        reset();
+        tearDown();
+    }
+}
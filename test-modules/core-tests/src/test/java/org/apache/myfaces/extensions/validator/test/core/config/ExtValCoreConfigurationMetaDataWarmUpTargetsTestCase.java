@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.myfaces.extensions.validator.test.core.config;
+
+import org.apache.myfaces.extensions.validator.ExtValInformation;
+import org.apache.myfaces.extensions.validator.core.DefaultExtValCoreConfiguration;
+import org.apache.myfaces.extensions.validator.core.ExtValCoreConfiguration;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * 
+ * since r7
+ *
+ */
+public class ExtValCoreConfigurationMetaDataWarmUpTargetsTestCase extends ExtValCoreConfigurationTestCase
+{
+    private static final String WEB_XML_TARGETS = "org.apache.myfaces.extensions.validator.test.core.*";
+    private static final String CUSTOM_CONFIG_TARGETS =
+            "org.apache.myfaces.extensions.validator.test.core.config.ExtValCoreConfigurationTestCase";
+
+    protected void addInitializationParameters()
+    {
+        super.addInitializationParameters();
+        if (needXmlParameters())
+        {
+            addInitParameter(ExtValInformation.WEBXML_PARAM_PREFIX + ".META_DATA_WARM_UP_TARGETS", WEB_XML_TARGETS);
+        }
+    }
+
+    @Override
+    protected ExtValCoreConfiguration getCustomExtValCoreConfiguration()
+    {
+        if (needCustomConfig())
+        {
+            return new DefaultExtValCoreConfiguration()
+            {
+                @Override
+                public String metaDataWarmUpTargets()
+                {
+                    return CUSTOM_CONFIG_TARGETS;
+                }
+            };
+        }
+        else
+        {
+            return null;
+        }
+    }
+
+    @Test
+    public void testMetaDataWarmUpTargetsDefault()
+    {
+        Assert.assertNull(ExtValCoreConfiguration.get().metaDataWarmUpTargets());
+    }
+
+    @Test
+    public void testMetaDataWarmUpTargetsWebXml()
+    {
+        Assert.assertEquals(WEB_XML_TARGETS, ExtValCoreConfiguration.get().metaDataWarmUpTargets());
+    }
+
+    @Test
+    public void testMetaDataWarmUpTargetsCustomConfig()
+    {
+        Assert.assertEquals(CUSTOM_CONFIG_TARGETS, ExtValCoreConfiguration.get().metaDataWarmUpTargets());
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.myfaces.extensions.validator.test.core.interceptor;
+
+import org.apache.myfaces.extensions.validator.core.ExtValContext;
+import org.apache.myfaces.extensions.validator.core.interceptor.AbstractRendererInterceptor;
+import org.apache.myfaces.extensions.validator.core.renderkit.ExtValRendererWrapper;
+import org.apache.myfaces.extensions.validator.test.core.AbstractExValCoreTestCase;
+import org.junit.Assert;
+import org.junit.Test;
+
+import javax.faces.component.UIComponent;
+import javax.faces.component.UIViewRoot;
+import javax.faces.component.html.HtmlForm;
+import javax.faces.component.html.HtmlInputText;
+import javax.faces.context.FacesContext;
+import javax.faces.render.Renderer;
+import java.util.ArrayList;
+import java.util.List;
+
+public class RendererInterceptorDispatchTestCase extends AbstractExValCoreTestCase
+{
+    private static List<String> invokedInterceptorMethods = new ArrayList<String>();
+
+    private HtmlInputText inputComponent;
+    private Renderer renderer;
+
+    @Override
+    protected void setUpTestCase()
+    {
+        super.setUpTestCase();
+
+        invokedInterceptorMethods.clear();
+
+        UIViewRoot rootComponent = new UIViewRoot();
+        HtmlForm form = new HtmlForm();
+        form.setId("form");
+        rootComponent.getChildren().add(form);
+
+        this.inputComponent = new HtmlInputText();
+        this.inputComponent.setId("input1");
+        form.getChildren().add(this.inputComponent);
+
+        this.renderer = new ExtValRendererWrapper(new Renderer()
+        {
+        });
+    }
+
+    @Test
+    public void testOverriddenMethodsAreInvoked()
+    {
+        ExtValContext.getContext().registerRendererInterceptor(new TestDecodeRendererInterceptor());
+        ExtValContext.getContext().registerRendererInterceptor(new TestEncodeRendererInterceptor());
+
+        this.renderer.decode(facesContext, this.inputComponent);
+
+        Assert.assertEquals(2, invokedInterceptorMethods.size());
+        Assert.assertEquals("beforeDecode", invokedInterceptorMethods.get(0));
+        Assert.assertEquals("afterDecode", invokedInterceptorMethods.get(1));
+    }
+
+    @Test
+    public void testInterceptorRegisteredAfterFirstUsageIsInvoked()
+    {
+        ExtValContext.getContext().registerRendererInterceptor(new TestEncodeRendererInterceptor());
+
+        this.renderer.decode(facesContext, this.inputComponent);
+        Assert.assertTrue(invokedInterceptorMethods.isEmpty());
+
+        ExtValContext.getContext().registerRendererInterceptor(new TestDecodeRendererInterceptor());
+
+        this.renderer.decode(facesContext, this.inputComponent);
+        Assert.assertEquals(2, invokedInterceptorMethods.size());
+    }
+
+    public static class TestDecodeRendererInterceptor extends AbstractRendererInterceptor
+    {
+        @Override
+        public void beforeDecode(FacesContext facesContext, UIComponent uiComponent, Renderer wrapped)
+        {
+            invokedInterceptorMethods.add("beforeDecode");
+        }
+
+        @Override
+        public void afterDecode(FacesContext facesContext, UIComponent uiComponent, Renderer wrapped)
+        {
+            invokedInterceptorMethods.add("afterDecode");
+        }
+    }
+
+    public static class TestEncodeRendererInterceptor extends AbstractRendererInterceptor
+    {
+        @Override
+        public void afterEncodeEnd(FacesContext facesContext, UIComponent uiComponent, Renderer wrapped)
+        {
+            invokedInterceptorMethods.add("afterEncodeEnd");
+        }
+    }
+}
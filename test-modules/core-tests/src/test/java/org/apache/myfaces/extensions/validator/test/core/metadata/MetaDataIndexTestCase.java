@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.myfaces.extensions.validator.test.core.metadata;
+
+import org.apache.myfaces.extensions.validator.core.metadata.MetaDataIndex;
+import org.apache.myfaces.extensions.validator.test.core.AbstractExValCoreTestCase;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Locale;
+import java.util.Properties;
+
+public class MetaDataIndexTestCase extends AbstractExValCoreTestCase
+{
+    private MetaDataIndex createIndex()
+    {
+        Properties indexEntries = new Properties();
+        indexEntries.setProperty(IndexedBean.class.getName(), "firstname,url");
+        indexEntries.setProperty(IndexedBean.class.getName() + "#firstname",
+                "FIELD:" + IndexedBean.class.getName() + ":" + Deprecated.class.getName());
+        indexEntries.setProperty(IndexedBean.class.getName() + "#url",
+                "GETTER:" + Object.class.getName() + ":" + Deprecated.class.getName() +
+                ",INTERFACE_GETTER:" + Runnable.class.getName() + ":" + Deprecated.class.getName());
+        return new MetaDataIndex(indexEntries);
+    }
+
+    @Test
+    public void testIndexedClass()
+    {
+        MetaDataIndex index = createIndex();
+
+        Assert.assertTrue(index.isIndexed(IndexedBean.class));
+        Assert.assertFalse(index.isIndexed(String.class));
+    }
+
+    @Test
+    public void testPropertyWithoutMetaData()
+    {
+        MetaDataIndex index = createIndex();
+
+        Assert.assertTrue(index.containsMetaDataFor(IndexedBean.class, "firstName"));
+        Assert.assertTrue(index.containsMetaDataFor(IndexedBean.class, "_firstName"));
+        Assert.assertTrue(index.containsMetaDataFor(IndexedBean.class, "URL"));
+        Assert.assertFalse(index.containsMetaDataFor(IndexedBean.class, "lastName"));
+    }
+
+    @Test
+    public void testPropertyNameIsNormalizedIndependentOfTheDefaultLocale()
+    {
+        Locale defaultLocale = Locale.getDefault();
+
+        try
+        {
+            //the dotted and dotless i of the turkish locale
+            Locale.setDefault(new Locale("tr", "TR"));
+
+            Assert.assertEquals("userid", MetaDataIndex.normalizePropertyName("userId"));
+            Assert.assertTrue(createIndex().containsMetaDataFor(IndexedBean.class, "FIRSTNAME"));
+        }
+        finally
+        {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
+    @Test
+    public void testMetaDataLocations()
+    {
+        MetaDataIndex index = createIndex();
+
+        Assert.assertTrue(index.containsMetaDataAt(IndexedBean.class, "firstName", "FIELD", IndexedBean.class));
+        Assert.assertFalse(index.containsMetaDataAt(IndexedBean.class, "firstName", "GETTER", IndexedBean.class));
+        Assert.assertTrue(index.containsMetaDataAt(IndexedBean.class, "url", "GETTER", Object.class));
+        Assert.assertTrue(index.containsMetaDataAt(IndexedBean.class, "url", "INTERFACE_GETTER", Runnable.class));
+        Assert.assertFalse(index.containsMetaDataAt(IndexedBean.class, "lastName", "FIELD", IndexedBean.class));
+    }
+
+    @Test
+    public void testUnknownClassIsScannedCompletely()
+    {
+        MetaDataIndex index = createIndex();
+
+        Assert.assertTrue(index.containsMetaDataFor(String.class, "value"));
+        Assert.assertTrue(index.containsMetaDataAt(String.class, "value", "FIELD", String.class));
+    }
+
+    public static class IndexedBean
+    {
+    }
+}
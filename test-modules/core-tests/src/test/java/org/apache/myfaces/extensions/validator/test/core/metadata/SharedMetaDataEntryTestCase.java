@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.myfaces.extensions.validator.test.core.metadata;
+
+import org.apache.myfaces.extensions.validator.core.metadata.ImmutableMetaDataEntry;
+import org.apache.myfaces.extensions.validator.core.metadata.MetaDataEntry;
+import org.apache.myfaces.extensions.validator.core.property.DefaultPropertyInformation;
+import org.apache.myfaces.extensions.validator.core.property.PropertyDetails;
+import org.apache.myfaces.extensions.validator.core.property.PropertyInformation;
+import org.apache.myfaces.extensions.validator.core.property.PropertyInformationKeys;
+import org.apache.myfaces.extensions.validator.core.storage.MetaDataStorage;
+import org.apache.myfaces.extensions.validator.test.core.AbstractExValCoreTestCase;
+import org.apache.myfaces.extensions.validator.util.ExtValUtils;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.logging.Logger;
+
+public class SharedMetaDataEntryTestCase extends AbstractExValCoreTestCase
+{
+    @Test
+    public void testOverlayDoesNotChangeSharedEntry()
+    {
+        Object value = new Object();
+        ImmutableMetaDataEntry sharedEntry = new ImmutableMetaDataEntry("key", value);
+
+        MetaDataEntry overlay = sharedEntry.createOverlay();
+        Assert.assertEquals("key", overlay.getKey());
+        Assert.assertSame(value, overlay.getValue());
+
+        overlay.setValue("new value");
+        overlay.setProperty(PropertyInformationKeys.LABEL, "label");
+
+        Assert.assertEquals("new value", overlay.getValue());
+        Assert.assertEquals("label", overlay.getProperty(PropertyInformationKeys.LABEL));
+        Assert.assertSame(value, sharedEntry.getValue());
+        Assert.assertNull(sharedEntry.getProperty(PropertyInformationKeys.LABEL));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testSharedEntryIsReadOnly()
+    {
+        new ImmutableMetaDataEntry("key", "value").setProperty(PropertyInformationKeys.LABEL, "label");
+    }
+
+    @Test
+    public void testMetaDataStorageSharesValues()
+    {
+        MetaDataStorage storage = ExtValUtils.getStorage(MetaDataStorage.class, MetaDataStorage.class.getName());
+
+        Object value = new Object();
+        MetaDataEntry entry = new MetaDataEntry();
+        entry.setKey("key");
+        entry.setValue(value);
+
+        PropertyInformation propertyInformation = new DefaultPropertyInformation();
+        propertyInformation.setInformation(PropertyInformationKeys.PROPERTY_DETAILS,
+                new PropertyDetails("bean.property", this, "property"));
+        propertyInformation.addMetaDataEntry(entry);
+
+        storage.storeMetaDataOf(propertyInformation);
+
+        MetaDataEntry[] result1 = storage.getMetaData(getClass(), "property");
+        MetaDataEntry[] result2 = storage.getMetaData(getClass(), "property");
+
+        Assert.assertEquals(1, result1.length);
+        Assert.assertSame(value, result1[0].getValue());
+        Assert.assertSame(value, result2[0].getValue());
+
+        result1[0].setProperty(PropertyInformationKeys.LABEL, "label");
+        Assert.assertNull(result2[0].getProperty(PropertyInformationKeys.LABEL));
+    }
+
+    @Test
+    public void testLoggerOfEntryUsesTheCategoryOfTheEntryClass()
+    {
+        Logger logger = new TestMetaDataEntry().getLogger();
+
+        Assert.assertEquals(TestMetaDataEntry.class.getName(), logger.getName());
+        Assert.assertSame(logger, new TestMetaDataEntry().getLogger());
+    }
+
+    private static class TestMetaDataEntry extends MetaDataEntry
+    {
+        private Logger getLogger()
+        {
+            return this.logger;
+        }
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.myfaces.extensions.validator.test.core.property;
+
+import org.apache.myfaces.extensions.validator.core.property.PropertyAccessor;
+import org.apache.myfaces.extensions.validator.test.core.AbstractExValCoreTestCase;
+import org.apache.myfaces.extensions.validator.util.ReflectionUtils;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class PropertyAccessorTestCase extends AbstractExValCoreTestCase
+{
+    public static class Person
+    {
+        private String name;
+        private boolean active;
+        private Person manager;
+
+        public Person(String name, Person manager)
+        {
+            this.name = name;
+            this.manager = manager;
+        }
+
+        public String getName()
+        {
+            return name;
+        }
+
+        public boolean isActive()
+        {
+            return active;
+        }
+
+        public Person getManager()
+        {
+            return manager;
+        }
+    }
+
+    public static class FailingBean
+    {
+        public String getName()
+        {
+            throw new UnsupportedOperationException("name isn't available");
+        }
+
+        public String getDescription() throws Exception
+        {
+            throw new Exception("description isn't available");
+        }
+    }
+
+    @Test
+    public void testPropertyAccessor()
+    {
+        PropertyAccessor nameAccessor = ReflectionUtils.getPropertyAccessor(Person.class, "name");
+
+        Assert.assertTrue(nameAccessor.isReadable());
+        Assert.assertEquals("test", nameAccessor.getValue(new Person("test", null)));
+        Assert.assertNull(nameAccessor.getValue(null));
+        Assert.assertSame(nameAccessor, ReflectionUtils.getPropertyAccessor(Person.class, "name"));
+
+        Assert.assertEquals(Boolean.FALSE,
+                ReflectionUtils.getPropertyAccessor(Person.class, "active").getValue(new Person("test", null)));
+        Assert.assertFalse(ReflectionUtils.getPropertyAccessor(Person.class, "unknown").isReadable());
+    }
+
+    @Test
+    public void testExceptionOfGetterIsPropagated()
+    {
+        try
+        {
+            ReflectionUtils.getPropertyAccessor(FailingBean.class, "name").getValue(new FailingBean());
+            Assert.fail("exception of the getter expected");
+        }
+        catch (UnsupportedOperationException e)
+        {
+            Assert.assertEquals("name isn't available", e.getMessage());
+        }
+
+        try
+        {
+            ReflectionUtils.getPropertyAccessor(FailingBean.class, "description").getValue(new FailingBean());
+            Assert.fail("exception of the getter expected");
+        }
+        catch (IllegalStateException e)
+        {
+            Assert.assertEquals("description isn't available", e.getCause().getMessage());
+        }
+    }
+
+    @Test
+    public void testPropertyChain()
+    {
+        Person manager = new Person("manager", null);
+        Person person = new Person("person", manager);
+
+        Assert.assertSame(manager, ReflectionUtils.getBaseOfPropertyChain(person, "manager.name"));
+        Assert.assertEquals("manager", ReflectionUtils.getValueOfPropertyChain(person, "manager.name"));
+    }
+
+    @Test
+    public void testNullSafePropertyChain()
+    {
+        Person person = new Person("person", null);
+
+        Assert.assertNull(ReflectionUtils.getBaseOfPropertyChain(person, "manager.manager.name"));
+        Assert.assertNull(ReflectionUtils.getValueOfPropertyChain(person, "manager.name"));
+    }
+}
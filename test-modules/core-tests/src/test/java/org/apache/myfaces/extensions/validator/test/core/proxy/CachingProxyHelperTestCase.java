@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.myfaces.extensions.validator.test.core.proxy;
+
+import org.apache.myfaces.extensions.validator.core.proxy.CachingProxyHelper;
+import org.apache.myfaces.extensions.validator.core.proxy.DefaultProxyHelper;
+import org.apache.myfaces.extensions.validator.core.proxy.ProxyHelper;
+import org.apache.myfaces.extensions.validator.test.core.AbstractExValCoreTestCase;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class CachingProxyHelperTestCase extends AbstractExValCoreTestCase
+{
+    public static class Bean
+    {
+    }
+
+    public static class Bean$$EnhancerByCGLIB$$1 extends Bean
+    {
+    }
+
+    public static class Bean$Proxy$_$$_WeldClientProxy extends Bean
+    {
+    }
+
+    public static class Bean$ByteBuddy$1 extends Bean
+    {
+    }
+
+    public static class CountingProxyHelper extends DefaultProxyHelper
+    {
+        private int callCount;
+
+        @Override
+        public Class getUnproxiedClass(Class currentClass)
+        {
+            this.callCount++;
+            return super.getUnproxiedClass(currentClass);
+        }
+    }
+
+    @Test
+    public void testSupportedProxyClasses()
+    {
+        ProxyHelper proxyHelper = new DefaultProxyHelper();
+
+        Assert.assertFalse(proxyHelper.isProxiedClass(Bean.class));
+        Assert.assertTrue(proxyHelper.isProxiedClass(Bean$$EnhancerByCGLIB$$1.class));
+        Assert.assertTrue(proxyHelper.isProxiedClass(Bean$Proxy$_$$_WeldClientProxy.class));
+        Assert.assertTrue(proxyHelper.isProxiedClass(Bean$ByteBuddy$1.class));
+    }
+
+    @Test
+    public void testCachedUnproxiedClass()
+    {
+        CountingProxyHelper countingProxyHelper = new CountingProxyHelper();
+        ProxyHelper proxyHelper = new CachingProxyHelper(countingProxyHelper);
+
+        Assert.assertEquals(Bean.class, proxyHelper.getUnproxiedClass(Bean$$EnhancerByCGLIB$$1.class));
+        Assert.assertEquals(Bean.class.getName(), proxyHelper.getNameOfClass(Bean$$EnhancerByCGLIB$$1.class));
+        Assert.assertTrue(proxyHelper.isProxiedClass(Bean$$EnhancerByCGLIB$$1.class));
+        Assert.assertFalse(proxyHelper.isProxiedObject(new Bean()));
+        Assert.assertTrue(proxyHelper.isProxiedObject(new Bean$$EnhancerByCGLIB$$1()));
+
+        Assert.assertEquals(2, countingProxyHelper.callCount);
+    }
+}
@@ -0,0 +1,196 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.myfaces.extensions.validator.test.core.renderkit;
+
+import org.apache.myfaces.extensions.validator.core.ExtValContext;
+import org.apache.myfaces.extensions.validator.core.interceptor.AbstractRendererInterceptor;
+import org.apache.myfaces.extensions.validator.core.renderkit.ConvertedValueCache;
+import org.apache.myfaces.extensions.validator.core.renderkit.ExtValRendererWrapper;
+import org.apache.myfaces.extensions.validator.core.renderkit.RendererProxy;
+import org.apache.myfaces.extensions.validator.test.core.AbstractExValCoreTestCase;
+import org.junit.Assert;
+import org.junit.Test;
+
+import javax.faces.component.UIComponent;
+import javax.faces.component.UIInput;
+import javax.faces.component.UIViewRoot;
+import javax.faces.component.html.HtmlForm;
+import javax.faces.component.html.HtmlInputText;
+import javax.faces.context.FacesContext;
+import javax.faces.render.Renderer;
+
+/**
+ * The interceptors of the validation convert the submitted value before the renderer does it.
+ * Without a renderer-proxy the result is kept by the {@link ConvertedValueCache}.
+ */
+public class ConvertedValueCacheTestCase extends AbstractExValCoreTestCase
+{
+    private HtmlInputText inputComponent;
+    private HtmlInputText otherInputComponent;
+    private Renderer renderer;
+    private TestConvertingRendererInterceptor rendererInterceptor;
+    private int conversionCount;
+
+    @Override
+    protected void setUpTestCase()
+    {
+        super.setUpTestCase();
+
+        UIViewRoot rootComponent = new UIViewRoot();
+        HtmlForm form = new HtmlForm();
+        form.setId("form");
+        rootComponent.getChildren().add(form);
+
+        this.inputComponent = new HtmlInputText();
+        this.inputComponent.setId("input1");
+        form.getChildren().add(this.inputComponent);
+
+        //e.g. the same input in a different view
+        this.otherInputComponent = new HtmlInputText();
+        this.otherInputComponent.setId("input1");
+
+        this.conversionCount = 0;
+        this.renderer = new ExtValRendererWrapper(new Renderer()
+        {
+            @Override
+            public void decode(FacesContext facesContext, UIComponent uiComponent)
+            {
+                ((UIInput) uiComponent).setSubmittedValue("submitted value");
+            }
+
+            @Override
+            public Object getConvertedValue(FacesContext facesContext, UIComponent uiComponent, Object submittedValue)
+            {
+                conversionCount++;
+                return new StringBuilder(submittedValue.toString());
+            }
+        });
+
+        this.rendererInterceptor = new TestConvertingRendererInterceptor();
+        ExtValContext.getContext().registerRendererInterceptor(this.rendererInterceptor);
+    }
+
+    @Override
+    protected void resetTestCase()
+    {
+        super.resetTestCase();
+        this.inputComponent = null;
+        this.otherInputComponent = null;
+        this.renderer = null;
+        this.rendererInterceptor = null;
+    }
+
+    @Test
+    public void testConvertedValueIsReusedFromDecodeToValidation()
+    {
+        this.renderer.decode(facesContext, this.inputComponent);
+
+        Object convertedValue = this.renderer.getConvertedValue(
+                facesContext, this.inputComponent, this.inputComponent.getSubmittedValue());
+
+        Assert.assertEquals(1, this.conversionCount);
+        Assert.assertSame(this.rendererInterceptor.convertedValue, convertedValue);
+        Assert.assertEquals("submitted value", convertedValue.toString());
+    }
+
+    @Test
+    public void testConvertedValueIsNotReusedForOtherComponent()
+    {
+        this.rendererInterceptor.otherComponent = this.otherInputComponent;
+
+        Object convertedValue = this.renderer.getConvertedValue(facesContext, this.inputComponent, "value");
+
+        Assert.assertEquals(2, this.conversionCount);
+        Assert.assertSame(this.rendererInterceptor.convertedValue, convertedValue);
+        Assert.assertNotSame(convertedValue, this.rendererInterceptor.convertedValueOfOtherComponent);
+    }
+
+    @Test
+    public void testConvertedValueIsNotCarriedIntoNextRequest()
+    {
+        Object convertedValue = this.renderer.getConvertedValue(facesContext, this.inputComponent, "value");
+
+        assertNoConvertedValueCacheInRequest();
+
+        //next request
+        facesContext.getExternalContext().getRequestMap().clear();
+
+        Assert.assertNotSame(convertedValue,
+                this.renderer.getConvertedValue(facesContext, this.inputComponent, "value"));
+        Assert.assertEquals(2, this.conversionCount);
+    }
+
+    @Test
+    public void testConvertedValueIsRemovedAfterFailedValidation()
+    {
+        this.rendererInterceptor.failAfterConversion = true;
+
+        try
+        {
+            this.renderer.getConvertedValue(facesContext, this.inputComponent, "value");
+            Assert.fail();
+        }
+        catch (IllegalStateException e)
+        {
+            //expected
+        }
+
+        assertNoConvertedValueCacheInRequest();
+
+        this.rendererInterceptor.failAfterConversion = false;
+        this.renderer.getConvertedValue(facesContext, this.inputComponent, "value");
+
+        Assert.assertEquals(2, this.conversionCount);
+    }
+
+    private void assertNoConvertedValueCacheInRequest()
+    {
+        for (Object value : facesContext.getExternalContext().getRequestMap().values())
+        {
+            Assert.assertFalse(value instanceof ConvertedValueCache);
+        }
+    }
+
+    //converts the value like the validation-interceptor
+    public static class TestConvertingRendererInterceptor extends AbstractRendererInterceptor
+    {
+        private UIComponent otherComponent;
+        private boolean failAfterConversion;
+        private Object convertedValue;
+        private Object convertedValueOfOtherComponent;
+
+        @Override
+        public void beforeGetConvertedValue(FacesContext facesContext, UIComponent uiComponent, Object o,
+                                            Renderer wrapped)
+        {
+            this.convertedValue = ((RendererProxy) wrapped).getCachedConvertedValue(facesContext, uiComponent, o);
+
+            if (this.otherComponent != null)
+            {
+                this.convertedValueOfOtherComponent =
+                        ((RendererProxy) wrapped).getCachedConvertedValue(facesContext, this.otherComponent, o);
+            }
+
+            if (this.failAfterConversion)
+            {
+                throw new IllegalStateException("validation failed");
+            }
+        }
+    }
+}
@@ -0,0 +1,230 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.myfaces.extensions.validator.test.core.storage;
+
+import org.apache.myfaces.extensions.validator.core.DefaultExtValCoreConfiguration;
+import org.apache.myfaces.extensions.validator.core.ExtValCoreConfiguration;
+import org.apache.myfaces.extensions.validator.core.metadata.MetaDataEntry;
+import org.apache.myfaces.extensions.validator.core.metadata.extractor.DefaultComponentMetaDataExtractor;
+import org.apache.myfaces.extensions.validator.core.property.DefaultPropertyInformation;
+import org.apache.myfaces.extensions.validator.core.property.PropertyDetails;
+import org.apache.myfaces.extensions.validator.core.property.PropertyInformation;
+import org.apache.myfaces.extensions.validator.core.property.PropertyInformationKeys;
+import org.apache.myfaces.extensions.validator.core.storage.CachedMember;
+import org.apache.myfaces.extensions.validator.core.storage.DefaultMappedConstraintSourceStorage;
+import org.apache.myfaces.extensions.validator.core.storage.DefaultMetaDataStorage;
+import org.apache.myfaces.extensions.validator.core.storage.DefaultPropertyStorage;
+import org.apache.myfaces.extensions.validator.core.storage.EvictionAwareMappedConstraintSourceStorage;
+import org.apache.myfaces.extensions.validator.core.storage.EvictionAwareMetaDataStorage;
+import org.apache.myfaces.extensions.validator.core.storage.EvictionAwarePropertyStorage;
+import org.apache.myfaces.extensions.validator.core.storage.MetaDataStorage;
+import org.apache.myfaces.extensions.validator.test.core.AbstractExValCoreTestCase;
+import org.apache.myfaces.extensions.validator.util.ReflectionUtils;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+public class EvictionAwareStorageTestCase extends AbstractExValCoreTestCase
+{
+    @Override
+    protected ExtValCoreConfiguration getCustomExtValCoreConfiguration()
+    {
+        return new DefaultExtValCoreConfiguration()
+        {
+            @Override
+            public int storageCacheMaxSize()
+            {
+                return 1;
+            }
+        };
+    }
+
+    @Test
+    public void testEvictedMetaDataIsReportedAsMiss()
+    {
+        EvictionAwareMetaDataStorage metaDataStorage = new DefaultMetaDataStorage();
+
+        Assert.assertNull(metaDataStorage.findMetaData(TestBean1.class, "property"));
+
+        metaDataStorage.storeMetaDataOf(createPropertyInformation(new TestBean1()));
+
+        MetaDataEntry[] metaDataEntries = metaDataStorage.findMetaData(TestBean1.class, "property");
+        Assert.assertNotNull(metaDataEntries);
+        Assert.assertEquals(0, metaDataEntries.length);
+
+        //evicts the entry of TestBean1
+        metaDataStorage.storeMetaDataOf(createPropertyInformation(new TestBean2()));
+
+        Assert.assertNull(metaDataStorage.findMetaData(TestBean1.class, "property"));
+        Assert.assertEquals(0, metaDataStorage.getMetaData(TestBean1.class, "property").length);
+    }
+
+    @Test
+    public void testEvictedMappingIsReportedAsMiss()
+    {
+        EvictionAwareMappedConstraintSourceStorage mappingStorage = new DefaultMappedConstraintSourceStorage();
+
+        Assert.assertNull(mappingStorage.findMappedConstraintSource(TestBean1.class, "property"));
+
+        mappingStorage.storeMapping(TestBean1.class, "property", null);
+
+        PropertyDetails cachedMapping = mappingStorage.findMappedConstraintSource(TestBean1.class, "property");
+        Assert.assertNotNull(cachedMapping);
+        Assert.assertNull(cachedMapping.getBaseObject());
+
+        mappingStorage.storeMapping(TestBean2.class, "property", new PropertyDetails(null, TestBean1.class, "other"));
+
+        cachedMapping = mappingStorage.findMappedConstraintSource(TestBean2.class, "property");
+        Assert.assertEquals(TestBean1.class, cachedMapping.getBaseObject());
+        Assert.assertEquals("other", cachedMapping.getProperty());
+
+        //the entry of TestBean1 was evicted by the mapping of TestBean2
+        Assert.assertNull(mappingStorage.findMappedConstraintSource(TestBean1.class, "property"));
+    }
+
+    @Test
+    public void testEvictedPropertyIsReportedAsMiss() throws Exception
+    {
+        EvictionAwarePropertyStorage propertyStorage = new DefaultPropertyStorage();
+
+        Assert.assertNull(propertyStorage.findMethod(TestBean1.class, "property"));
+        Assert.assertNull(propertyStorage.findField(TestBean1.class, "property"));
+
+        propertyStorage.storeMethod(TestBean1.class, "property", null);
+        propertyStorage.storeField(TestBean1.class, "property", TestBean1.class.getDeclaredField("property"));
+
+        CachedMember<Method> cachedMethod = propertyStorage.findMethod(TestBean1.class, "property");
+        Assert.assertNotNull(cachedMethod);
+        Assert.assertNull(cachedMethod.getMember());
+
+        CachedMember<Field> cachedField = propertyStorage.findField(TestBean1.class, "property");
+        Assert.assertNotNull(cachedField);
+        Assert.assertEquals(TestBean1.class.getDeclaredField("property"), cachedField.getMember());
+
+        //evicts the entry of TestBean1
+        propertyStorage.storeMethod(TestBean2.class, "property", null);
+
+        Assert.assertNull(propertyStorage.findMethod(TestBean1.class, "property"));
+        Assert.assertNull(propertyStorage.findField(TestBean1.class, "property"));
+    }
+
+    @Test
+    public void testPropertyIsFoundAfterEviction() throws Exception
+    {
+        EvictionAwarePropertyStorage propertyStorage = new DefaultPropertyStorage();
+
+        Assert.assertEquals(TestBean1.class.getDeclaredMethod("getProperty"),
+                ReflectionUtils.tryToGetMethodOfProperty(propertyStorage, TestBean1.class, "property"));
+        Assert.assertEquals(TestBean1.class.getDeclaredField("property"),
+                ReflectionUtils.tryToGetFieldOfProperty(propertyStorage, TestBean1.class, "property"));
+
+        //evicts the entry of TestBean1
+        ReflectionUtils.tryToGetMethodOfProperty(propertyStorage, TestBean2.class, "property");
+
+        Assert.assertEquals(TestBean1.class.getDeclaredMethod("getProperty"),
+                ReflectionUtils.tryToGetMethodOfProperty(propertyStorage, TestBean1.class, "property"));
+        Assert.assertEquals(TestBean1.class.getDeclaredField("property"),
+                ReflectionUtils.tryToGetFieldOfProperty(propertyStorage, TestBean1.class, "property"));
+    }
+
+    @Test
+    public void testCachedMetaDataIsLookedUpViaTheExtractorHooks()
+    {
+        TestComponentMetaDataExtractor extractor = new TestComponentMetaDataExtractor(false);
+
+        extractor.extract(new TestBean1());
+        Assert.assertEquals(0, extractor.cachedLookupCount);
+
+        extractor.extract(new TestBean1());
+        Assert.assertEquals(1, extractor.cachedLookupCount);
+    }
+
+    @Test
+    public void testDroppedMetaDataLeadsToNewExtraction()
+    {
+        //simulates an entry which gets evicted between #isCached and #getCachedMetaData
+        TestComponentMetaDataExtractor extractor = new TestComponentMetaDataExtractor(true);
+
+        PropertyInformation propertyInformation = extractor.extract(new TestBean1());
+
+        Assert.assertEquals(1, extractor.cachedLookupCount);
+        Assert.assertNotNull(propertyInformation.getInformation(PropertyInformationKeys.PROPERTY_DETAILS));
+        Assert.assertNotNull(extractor.storage.findMetaData(TestBean1.class, "property"));
+    }
+
+    private PropertyInformation createPropertyInformation(Object bean)
+    {
+        PropertyInformation propertyInformation = new DefaultPropertyInformation();
+        propertyInformation.setInformation(
+                PropertyInformationKeys.PROPERTY_DETAILS, new PropertyDetails(null, bean, "property"));
+        return propertyInformation;
+    }
+
+    public static class TestBean1
+    {
+        private String property;
+
+        public String getProperty()
+        {
+            return this.property;
+        }
+    }
+
+    public static class TestBean2
+    {
+    }
+
+    private static class TestComponentMetaDataExtractor extends DefaultComponentMetaDataExtractor
+    {
+        private final EvictionAwareMetaDataStorage storage = new DefaultMetaDataStorage();
+        private final boolean reportEveryPropertyAsCached;
+        private int cachedLookupCount;
+
+        private TestComponentMetaDataExtractor(boolean reportEveryPropertyAsCached)
+        {
+            this.reportEveryPropertyAsCached = reportEveryPropertyAsCached;
+        }
+
+        private PropertyInformation extract(Object bean)
+        {
+            return getPropertyInformation(bean.getClass(), new PropertyDetails(null, bean, "property"));
+        }
+
+        @Override
+        protected boolean isCached(MetaDataStorage storage, Class entityClass, String property)
+        {
+            return this.reportEveryPropertyAsCached || super.isCached(storage, entityClass, property);
+        }
+
+        @Override
+        protected MetaDataEntry[] getCachedMetaData(MetaDataStorage storage, Class entityClass, String property)
+        {
+            this.cachedLookupCount++;
+            return super.getCachedMetaData(storage, entityClass, property);
+        }
+
+        @Override
+        protected MetaDataStorage getMetaDataStorage()
+        {
+            return this.storage;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.myfaces.extensions.validator.test.core.storage;
+
+import org.apache.myfaces.extensions.validator.core.storage.CacheStatistics;
+import org.apache.myfaces.extensions.validator.core.storage.KeyedCache;
+import org.apache.myfaces.extensions.validator.test.core.AbstractExValCoreTestCase;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class KeyedCacheTestCase extends AbstractExValCoreTestCase
+{
+    @Test
+    public void testCacheStatistics()
+    {
+        KeyedCache<String, String> cache = new KeyedCache<String, String>(10);
+
+        Assert.assertNull(cache.get("key"));
+        Assert.assertEquals("value", cache.putIfAbsent("key", "value"));
+        Assert.assertEquals("value", cache.putIfAbsent("key", "other value"));
+        Assert.assertEquals("value", cache.get("key"));
+
+        CacheStatistics statistics = cache.getStatistics();
+        Assert.assertEquals(1, statistics.getHitCount());
+        Assert.assertEquals(1, statistics.getMissCount());
+        Assert.assertEquals(0, statistics.getEvictionCount());
+        Assert.assertEquals(1, statistics.getSize());
+    }
+
+    @Test
+    public void testLeastRecentlyUsedEntriesGetEvicted() throws Exception
+    {
+        KeyedCache<String, String> cache = new KeyedCache<String, String>(2);
+
+        cache.putIfAbsent("key1", "1");
+        Thread.sleep(1);
+        cache.putIfAbsent("key2", "2");
+        Thread.sleep(1);
+        cache.get("key1");
+        Thread.sleep(1);
+        cache.putIfAbsent("key3", "3");
+
+        Assert.assertEquals(2, cache.size());
+        Assert.assertEquals("1", cache.get("key1"));
+        Assert.assertNull(cache.get("key2"));
+        Assert.assertEquals("3", cache.get("key3"));
+        Assert.assertEquals(1, cache.getStatistics().getEvictionCount());
+    }
+}
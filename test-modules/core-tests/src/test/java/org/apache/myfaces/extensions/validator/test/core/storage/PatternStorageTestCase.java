@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.myfaces.extensions.validator.test.core.storage;
+
+import org.apache.myfaces.extensions.validator.core.storage.CacheStatistics;
+import org.apache.myfaces.extensions.validator.core.storage.DefaultPatternStorage;
+import org.apache.myfaces.extensions.validator.core.storage.PatternStorage;
+import org.apache.myfaces.extensions.validator.test.core.AbstractExValCoreTestCase;
+import org.apache.myfaces.extensions.validator.util.ExtValUtils;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.regex.Pattern;
+
+public class PatternStorageTestCase extends AbstractExValCoreTestCase
+{
+    @Test
+    public void testDefaultPatternStorage()
+    {
+        PatternStorage patternStorage =
+                ExtValUtils.getStorage(PatternStorage.class, PatternStorage.class.getName());
+
+        Assert.assertTrue(patternStorage instanceof DefaultPatternStorage);
+        Assert.assertSame(patternStorage,
+                ExtValUtils.getStorage(PatternStorage.class, PatternStorage.class.getName()));
+    }
+
+    @Test
+    public void testCompiledPatternIsShared()
+    {
+        PatternStorage patternStorage = new DefaultPatternStorage();
+
+        Pattern pattern = patternStorage.getPattern("[a-z]+");
+
+        Assert.assertTrue(pattern.matcher("extval").matches());
+        Assert.assertSame(pattern, patternStorage.getPattern("[a-z]+"));
+
+        Pattern caseInsensitivePattern = patternStorage.getPattern("[a-z]+", Pattern.CASE_INSENSITIVE);
+
+        Assert.assertNotSame(pattern, caseInsensitivePattern);
+        Assert.assertTrue(caseInsensitivePattern.matcher("ExtVal").matches());
+
+        CacheStatistics statistics = patternStorage.getCacheStatistics();
+
+        Assert.assertEquals(1, statistics.getHitCount());
+        Assert.assertEquals(2, statistics.getMissCount());
+        Assert.assertEquals(2, statistics.getSize());
+    }
+
+    @Test
+    public void testConcurrentLookupsShareOnePattern() throws Exception
+    {
+        final PatternStorage patternStorage = new DefaultPatternStorage();
+        final Pattern[] results = new Pattern[8];
+        final CountDownLatch startSignal = new CountDownLatch(1);
+
+        Thread[] threads = new Thread[results.length];
+
+        for (int i = 0; i < threads.length; i++)
+        {
+            final int index = i;
+            threads[i] = new Thread()
+            {
+                @Override
+                public void run()
+                {
+                    try
+                    {
+                        startSignal.await();
+                    }
+                    catch (InterruptedException e)
+                    {
+                        return;
+                    }
+                    results[index] = patternStorage.getPattern("[0-9]+");
+                }
+            };
+            threads[i].start();
+        }
+
+        startSignal.countDown();
+
+        for (Thread thread : threads)
+        {
+            thread.join();
+        }
+
+        for (Pattern result : results)
+        {
+            Assert.assertSame(results[0], result);
+        }
+
+        Assert.assertEquals(1, patternStorage.getCacheStatistics().getSize());
+        Assert.assertEquals(results.length, patternStorage.getCacheStatistics().getHitCount() +
+                patternStorage.getCacheStatistics().getMissCount());
+    }
+}
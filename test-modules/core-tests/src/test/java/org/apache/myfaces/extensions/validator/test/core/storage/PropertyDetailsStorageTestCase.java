@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.myfaces.extensions.validator.test.core.storage;
+
+import org.apache.myfaces.extensions.validator.core.property.PropertyDetails;
+import org.apache.myfaces.extensions.validator.core.storage.PropertyDetailsStorage;
+import org.apache.myfaces.extensions.validator.test.core.AbstractExValCoreTestCase;
+import org.apache.myfaces.extensions.validator.util.ExtValUtils;
+import org.junit.Assert;
+import org.junit.Test;
+
+import javax.faces.component.NamingContainer;
+import javax.faces.component.UIColumn;
+import javax.faces.component.UIComponent;
+import javax.faces.component.UIComponentBase;
+import javax.faces.component.UIInput;
+import javax.faces.component.html.HtmlDataTable;
+import javax.faces.component.html.HtmlInputText;
+import java.util.Arrays;
+
+public class PropertyDetailsStorageTestCase extends AbstractExValCoreTestCase
+{
+    private PropertyDetailsStorage getPropertyDetailsStorage()
+    {
+        return ExtValUtils.getStorage(PropertyDetailsStorage.class, PropertyDetailsStorage.class.getName());
+    }
+
+    @Test
+    public void testStoredPropertyDetailsAreCopied()
+    {
+        UIInput uiComponent = new HtmlInputText();
+        uiComponent.setId("input1");
+        createValueBinding(uiComponent, "value", "#{testBean.property1}");
+
+        Object bean = new Object();
+        PropertyDetails propertyDetails = new PropertyDetails("testBean.property1", bean, "property1");
+
+        getPropertyDetailsStorage().storePropertyDetails(uiComponent, propertyDetails);
+        propertyDetails.setProperty("property2");
+
+        PropertyDetails result = getPropertyDetailsStorage().getPropertyDetails(uiComponent);
+        Assert.assertEquals("property1", result.getProperty());
+        Assert.assertSame(bean, result.getBaseObject());
+
+        result.setProperty("property2");
+        Assert.assertEquals("property1", getPropertyDetailsStorage().getPropertyDetails(uiComponent).getProperty());
+    }
+
+    @Test
+    public void testChangedValueBindingInvalidatesEntry()
+    {
+        UIInput uiComponent = new HtmlInputText();
+        uiComponent.setId("input1");
+        createValueBinding(uiComponent, "value", "#{testBean.property1}");
+
+        getPropertyDetailsStorage().storePropertyDetails(uiComponent,
+                new PropertyDetails("testBean.property1", new Object(), "property1"));
+
+        createValueBinding(uiComponent, "value", "#{testBean.property2}");
+
+        Assert.assertNull(getPropertyDetailsStorage().getPropertyDetails(uiComponent));
+    }
+
+    @Test
+    public void testChangedRowIndexInvalidatesEntry()
+    {
+        HtmlDataTable dataTable = new HtmlDataTable();
+        dataTable.setId("table1");
+        dataTable.setValue(Arrays.asList("row1", "row2"));
+        UIColumn column = new UIColumn();
+        dataTable.getChildren().add(column);
+
+        UIInput uiComponent = new HtmlInputText();
+        uiComponent.setId("input1");
+        column.getChildren().add(uiComponent);
+        createValueBinding(uiComponent, "value", "#{row.property1}");
+
+        dataTable.setRowIndex(0);
+        getPropertyDetailsStorage().storePropertyDetails(uiComponent,
+                new PropertyDetails("row.property1", new Object(), "property1"));
+        Assert.assertNotNull(getPropertyDetailsStorage().getPropertyDetails(uiComponent));
+
+        dataTable.setRowIndex(1);
+        Assert.assertNull(getPropertyDetailsStorage().getPropertyDetails(uiComponent));
+    }
+
+    @Test
+    public void testNoEntryWithinUnknownNamingContainer()
+    {
+        UIComponent namingContainer = new TestNamingContainer();
+        UIInput uiComponent = new HtmlInputText();
+        uiComponent.setId("input1");
+        namingContainer.getChildren().add(uiComponent);
+        createValueBinding(uiComponent, "value", "#{testBean.property1}");
+
+        getPropertyDetailsStorage().storePropertyDetails(uiComponent,
+                new PropertyDetails("testBean.property1", new Object(), "property1"));
+
+        //e.g. ui:repeat - the client-id would change without an UIData component
+        Assert.assertNull(getPropertyDetailsStorage().getPropertyDetails(uiComponent));
+    }
+
+    public static class TestNamingContainer extends UIComponentBase implements NamingContainer
+    {
+        @Override
+        public String getFamily()
+        {
+            return "test";
+        }
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.myfaces.extensions.validator.test.core.storage;
+
+import org.apache.myfaces.extensions.validator.core.renderkit.ExtValRendererProxy;
+import org.apache.myfaces.extensions.validator.core.storage.DefaultRendererProxyStorage;
+import org.apache.myfaces.extensions.validator.core.storage.IdentityAwareRendererProxyStorage;
+import org.apache.myfaces.extensions.validator.core.storage.RendererProxyStorage;
+import org.apache.myfaces.extensions.validator.core.storage.RendererProxyStorageEntry;
+import org.apache.myfaces.extensions.validator.test.core.AbstractExValCoreTestCase;
+import org.apache.myfaces.extensions.validator.util.ExtValUtils;
+import org.junit.Assert;
+import org.junit.Test;
+
+import javax.faces.component.UIComponent;
+import javax.faces.component.UIViewRoot;
+import javax.faces.component.html.HtmlDataTable;
+import javax.faces.component.html.HtmlForm;
+import javax.faces.component.html.HtmlInputText;
+import javax.faces.context.FacesContext;
+import javax.faces.render.Renderer;
+
+public class RendererProxyStorageTestCase extends AbstractExValCoreTestCase
+{
+    @Test
+    public void testDefaultRendererProxyStorage()
+    {
+        RendererProxyStorage rendererProxyStorage =
+                ExtValUtils.getStorage(RendererProxyStorage.class, RendererProxyStorage.class.getName());
+
+        Assert.assertTrue(rendererProxyStorage instanceof IdentityAwareRendererProxyStorage);
+    }
+
+    @Test
+    public void testEntryIsResolvedByIdentity()
+    {
+        IdentityAwareRendererProxyStorage rendererProxyStorage = new DefaultRendererProxyStorage();
+        Renderer renderer = new Renderer()
+        {
+        };
+        UIComponent uiComponent = new HtmlInputText();
+
+        RendererProxyStorageEntry entry = rendererProxyStorage.getOrCreateEntry(renderer, uiComponent, "");
+
+        Assert.assertSame(entry, rendererProxyStorage.getOrCreateEntry(renderer, uiComponent, ""));
+        Assert.assertNotSame(entry, rendererProxyStorage.getOrCreateEntry(renderer, uiComponent, "1:"));
+        Assert.assertNotSame(entry, rendererProxyStorage.getOrCreateEntry(renderer, new HtmlInputText(), ""));
+        Assert.assertNotSame(entry, rendererProxyStorage.getOrCreateEntry(new Renderer()
+        {
+        }, uiComponent, ""));
+    }
+
+    @Test
+    public void testDoubleCallFilterWithinTable()
+    {
+        UIViewRoot rootComponent = new UIViewRoot();
+        HtmlForm form = new HtmlForm();
+        form.setId("form");
+        rootComponent.getChildren().add(form);
+
+        HtmlDataTable dataTable = new HtmlDataTable();
+        dataTable.setId("table");
+        form.getChildren().add(dataTable);
+
+        HtmlInputText inputComponent = new HtmlInputText();
+        inputComponent.setId("input1");
+        dataTable.getChildren().add(inputComponent);
+
+        DecodeCounterRenderer wrappedRenderer = new DecodeCounterRenderer();
+        Renderer renderer = new ExtValRendererProxy(wrappedRenderer);
+
+        dataTable.setRowIndex(0);
+        renderer.decode(facesContext, inputComponent);
+        renderer.decode(facesContext, inputComponent);
+
+        dataTable.setRowIndex(1);
+        renderer.decode(facesContext, inputComponent);
+
+        Assert.assertEquals(2, wrappedRenderer.decodeCount);
+    }
+
+    private static class DecodeCounterRenderer extends Renderer
+    {
+        private int decodeCount = 0;
+
+        @Override
+        public void decode(FacesContext facesContext, UIComponent uiComponent)
+        {
+            this.decodeCount++;
+        }
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.myfaces.extensions.validator.test.core.storage;
+
+import org.apache.myfaces.extensions.validator.core.metadata.MetaDataEntry;
+import org.apache.myfaces.extensions.validator.core.metadata.transformer.TransformedMetaData;
+import org.apache.myfaces.extensions.validator.core.storage.DefaultTransformedMetaDataStorage;
+import org.apache.myfaces.extensions.validator.core.storage.TransformedMetaDataStorage;
+import org.apache.myfaces.extensions.validator.test.core.AbstractExValCoreTestCase;
+import org.apache.myfaces.extensions.validator.util.ExtValUtils;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+public class TransformedMetaDataStorageTestCase extends AbstractExValCoreTestCase
+{
+    @Test
+    public void testDefaultTransformedMetaDataStorage()
+    {
+        TransformedMetaDataStorage storage = ExtValUtils.getStorage(
+                TransformedMetaDataStorage.class, TransformedMetaDataStorage.class.getName());
+
+        Assert.assertTrue(storage instanceof DefaultTransformedMetaDataStorage);
+    }
+
+    @Test
+    public void testTransformedMetaDataIsStoredPerModuleLocaleAndSkipState()
+    {
+        TransformedMetaDataStorage storage = new DefaultTransformedMetaDataStorage();
+        TransformedMetaData transformedMetaData =
+                new TransformedMetaData(new MetaDataEntry[]{createEntry("key", "value")}, createMetaData());
+
+        storage.storeTransformedMetaData(getClass(), "property", null, Locale.ENGLISH, "1", transformedMetaData);
+
+        Assert.assertSame(transformedMetaData,
+                storage.getTransformedMetaData(getClass(), "property", null, Locale.ENGLISH, "1"));
+        Assert.assertNull(storage.getTransformedMetaData(getClass(), "property", null, Locale.ENGLISH, "2"));
+        Assert.assertNull(storage.getTransformedMetaData(getClass(), "property", String.class, Locale.ENGLISH, "1"));
+        Assert.assertNull(storage.getTransformedMetaData(getClass(), "property2", null, Locale.ENGLISH, "1"));
+        Assert.assertNull(storage.getTransformedMetaData(getClass(), "property", null, Locale.GERMAN, "1"));
+    }
+
+    @Test
+    public void testTransformedMetaDataIsApplicableToEqualEntries()
+    {
+        TransformedMetaData transformedMetaData =
+                new TransformedMetaData(new MetaDataEntry[]{createEntry("key", "value")}, createMetaData());
+
+        Assert.assertTrue(transformedMetaData.isApplicableTo(new MetaDataEntry[]{createEntry("key", "value")}));
+        Assert.assertFalse(transformedMetaData.isApplicableTo(new MetaDataEntry[]{createEntry("key", "other")}));
+        Assert.assertFalse(transformedMetaData.isApplicableTo(new MetaDataEntry[]{createEntry("other", "value")}));
+        Assert.assertFalse(transformedMetaData.isApplicableTo(new MetaDataEntry[0]));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testTransformedMetaDataIsReadOnly()
+    {
+        Map<String, Object> metaData = createMetaData();
+        TransformedMetaData transformedMetaData = new TransformedMetaData(new MetaDataEntry[0], metaData);
+
+        //changes of the original map don't affect the shared result
+        metaData.clear();
+        Assert.assertEquals(Boolean.TRUE, transformedMetaData.getMetaData().get("required"));
+
+        transformedMetaData.getMetaData().put("required", Boolean.FALSE);
+    }
+
+    private MetaDataEntry createEntry(String key, Object value)
+    {
+        MetaDataEntry metaDataEntry = new MetaDataEntry();
+        metaDataEntry.setKey(key);
+        metaDataEntry.setValue(value);
+        return metaDataEntry;
+    }
+
+    private Map<String, Object> createMetaData()
+    {
+        Map<String, Object> metaData = new HashMap<String, Object>();
+        metaData.put("required", Boolean.TRUE);
+        return metaData;
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.myfaces.extensions.validator.test.core.validation;
+
+import org.apache.myfaces.extensions.validator.core.validation.message.resolver.AbstractValidationErrorMessageResolver;
+import org.apache.myfaces.extensions.validator.test.core.AbstractExValCoreTestCase;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.ListResourceBundle;
+import java.util.Locale;
+import java.util.ResourceBundle;
+
+public class MessageResolverCacheTestCase extends AbstractExValCoreTestCase
+{
+    @Test
+    public void testMissingMessageIsCached()
+    {
+        TestMessageResolver messageResolver = new TestMessageResolver();
+        String marker = AbstractValidationErrorMessageResolver.MISSING_RESOURCE_MARKER;
+        CountingMessages.lookupCount = 0;
+
+        Assert.assertEquals(marker + "key" + marker, messageResolver.getMessage("key", Locale.ENGLISH));
+        int lookupCount = CountingMessages.lookupCount;
+        Assert.assertTrue(lookupCount > 0);
+
+        Assert.assertEquals(marker + "key" + marker, messageResolver.getMessage("key", Locale.ENGLISH));
+        Assert.assertEquals(lookupCount, CountingMessages.lookupCount);
+
+        //other locale -> new lookup
+        messageResolver.getMessage("key", Locale.GERMAN);
+        Assert.assertTrue(CountingMessages.lookupCount > lookupCount);
+    }
+
+    @Test
+    public void testInlineMessageIsNotCached()
+    {
+        TestMessageResolver messageResolver = new TestMessageResolver();
+        CountingMessages.lookupCount = 0;
+
+        Assert.assertEquals("inline message", messageResolver.getMessage("inline message_detail", Locale.ENGLISH));
+        Assert.assertEquals(0, CountingMessages.lookupCount);
+    }
+
+    @Test
+    public void testMessagesAreCachedPerBundle()
+    {
+        TestMessageResolver messageResolver = new TestMessageResolver();
+
+        messageResolver.baseName = TestMessages1.class.getName();
+        Assert.assertEquals("message 1", messageResolver.getMessage("key", Locale.ENGLISH));
+
+        //e.g. a resolver which provides the bundle dynamically
+        messageResolver.baseName = TestMessages2.class.getName();
+        Assert.assertEquals("message 2", messageResolver.getMessage("key", Locale.ENGLISH));
+
+        messageResolver.baseName = TestMessages1.class.getName();
+        Assert.assertEquals("message 1", messageResolver.getMessage("key", Locale.ENGLISH));
+    }
+
+    static class TestMessageResolver extends AbstractValidationErrorMessageResolver
+    {
+        private String baseName = CountingMessages.class.getName();
+
+        @Override
+        protected boolean isDefaultMessageBundleConventionActive()
+        {
+            return false;
+        }
+
+        protected String getBaseName()
+        {
+            return this.baseName;
+        }
+    }
+
+    //bundle without messages which counts the lookups
+    public static class CountingMessages extends ResourceBundle
+    {
+        private static int lookupCount = 0;
+
+        protected Object handleGetObject(String key)
+        {
+            lookupCount++;
+            return null;
+        }
+
+        public Enumeration<String> getKeys()
+        {
+            return Collections.enumeration(Collections.<String>emptyList());
+        }
+    }
+
+    public static class TestMessages1 extends ListResourceBundle
+    {
+        protected Object[][] getContents()
+        {
+            return new Object[][] {{"key", "message 1"}};
+        }
+    }
+
+    public static class TestMessages2 extends ListResourceBundle
+    {
+        protected Object[][] getContents()
+        {
+            return new Object[][] {{"key", "message 2"}};
+        }
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.myfaces.extensions.validator.test.core.validation;
+
+import org.apache.myfaces.extensions.validator.core.mapper.NameMapper;
+import org.apache.myfaces.extensions.validator.core.metadata.MetaDataEntry;
+import org.apache.myfaces.extensions.validator.core.metadata.transformer.MetaDataTransformer;
+import org.apache.myfaces.extensions.validator.core.validation.message.resolver.DefaultValidationErrorMessageResolver;
+import org.apache.myfaces.extensions.validator.core.validation.message.resolver.MessageResolver;
+import org.apache.myfaces.extensions.validator.core.validation.strategy.ValidationStrategy;
+import org.apache.myfaces.extensions.validator.test.core.AbstractExValCoreTestCase;
+import org.apache.myfaces.extensions.validator.util.ExtValUtils;
+import org.junit.Assert;
+import org.junit.Test;
+
+import javax.faces.component.UIComponent;
+import javax.faces.context.FacesContext;
+import java.util.HashMap;
+import java.util.Map;
+
+public class SharedResolverAndTransformerTestCase extends AbstractExValCoreTestCase
+{
+    @Override
+    protected void setUpTestCase()
+    {
+        ExtValUtils.registerValidationStrategyToMetaDataTransformerNameMapper(new TestMetaDataTransformerNameMapper());
+    }
+
+    @Test
+    public void testMessageResolverIsShared()
+    {
+        MessageResolver messageResolver = ExtValUtils.getMessageResolverForValidationStrategy(new TestStrategy());
+
+        Assert.assertTrue(messageResolver instanceof DefaultValidationErrorMessageResolver);
+        Assert.assertSame(messageResolver, ExtValUtils.getMessageResolverForValidationStrategy(new TestStrategy()));
+    }
+
+    @Test
+    public void testMetaDataTransformerIsShared()
+    {
+        MetaDataTransformer metaDataTransformer =
+                ExtValUtils.getMetaDataTransformerForValidationStrategy(new TestStrategy());
+
+        Assert.assertTrue(metaDataTransformer instanceof TestMetaDataTransformer);
+        Assert.assertSame(metaDataTransformer,
+                ExtValUtils.getMetaDataTransformerForValidationStrategy(new TestStrategy()));
+    }
+
+    public static class TestMetaDataTransformerNameMapper implements NameMapper<ValidationStrategy>
+    {
+        public String createName(ValidationStrategy source)
+        {
+            return source instanceof TestStrategy ? TestMetaDataTransformer.class.getName() : null;
+        }
+    }
+
+    public static class TestMetaDataTransformer implements MetaDataTransformer
+    {
+        public Map<String, Object> convertMetaData(MetaDataEntry metaData)
+        {
+            return new HashMap<String, Object>();
+        }
+    }
+
+    public static class TestStrategy implements ValidationStrategy
+    {
+        public void validate(FacesContext facesContext, UIComponent uiComponent, MetaDataEntry metaDataEntry,
+                             Object convertedObject)
+        {
+        }
+    }
+}
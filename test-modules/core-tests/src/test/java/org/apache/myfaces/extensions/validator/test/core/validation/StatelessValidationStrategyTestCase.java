@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.myfaces.extensions.validator.test.core.validation;
+
+import org.apache.myfaces.extensions.validator.core.metadata.MetaDataEntry;
+import org.apache.myfaces.extensions.validator.core.validation.StatelessValidationStrategy;
+import org.apache.myfaces.extensions.validator.core.validation.strategy.ValidationStrategy;
+import org.apache.myfaces.extensions.validator.core.validation.strategy.mapper
+        .AbstractMetaDataToValidationStrategyNameMapper;
+import org.apache.myfaces.extensions.validator.test.core.AbstractExValCoreTestCase;
+import org.apache.myfaces.extensions.validator.util.ExtValUtils;
+import org.junit.Assert;
+import org.junit.Test;
+
+import javax.faces.component.UIComponent;
+import javax.faces.context.FacesContext;
+
+public class StatelessValidationStrategyTestCase extends AbstractExValCoreTestCase
+{
+    private static final String STATELESS_KEY = "stateless";
+    private static final String STATEFUL_KEY = "stateful";
+
+    @Override
+    protected void setUpTestCase()
+    {
+        ExtValUtils.registerMetaDataToValidationStrategyNameMapper(new TestValidationStrategyNameMapper());
+    }
+
+    @Test
+    public void testStatelessValidationStrategyIsShared()
+    {
+        ValidationStrategy validationStrategy = ExtValUtils.getValidationStrategyForMetaData(STATELESS_KEY);
+
+        Assert.assertTrue(validationStrategy instanceof TestStatelessStrategy);
+        Assert.assertSame(validationStrategy, ExtValUtils.getValidationStrategyForMetaData(STATELESS_KEY));
+    }
+
+    @Test
+    public void testStatefulValidationStrategyIsNotShared()
+    {
+        ValidationStrategy validationStrategy = ExtValUtils.getValidationStrategyForMetaData(STATEFUL_KEY);
+
+        Assert.assertTrue(validationStrategy instanceof TestStatefulStrategy);
+        Assert.assertNotSame(validationStrategy, ExtValUtils.getValidationStrategyForMetaData(STATEFUL_KEY));
+    }
+
+    public static class TestValidationStrategyNameMapper extends AbstractMetaDataToValidationStrategyNameMapper
+    {
+        public String createName(String source)
+        {
+            if (STATELESS_KEY.equals(source))
+            {
+                return TestStatelessStrategy.class.getName();
+            }
+            if (STATEFUL_KEY.equals(source))
+            {
+                return TestStatefulStrategy.class.getName();
+            }
+            return null;
+        }
+    }
+
+    @StatelessValidationStrategy
+    public static class TestStatelessStrategy implements ValidationStrategy
+    {
+        public void validate(FacesContext facesContext, UIComponent uiComponent, MetaDataEntry metaDataEntry,
+                             Object convertedObject)
+        {
+        }
+    }
+
+    public static class TestStatefulStrategy implements ValidationStrategy
+    {
+        public void validate(FacesContext facesContext, UIComponent uiComponent, MetaDataEntry metaDataEntry,
+                             Object convertedObject)
+        {
+        }
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.myfaces.extensions.validator.test.core.validation;
+
+import org.apache.myfaces.extensions.validator.core.metadata.MetaDataEntry;
+import org.apache.myfaces.extensions.validator.core.storage.ValidationPlanStorage;
+import org.apache.myfaces.extensions.validator.core.validation.NullValueAwareValidationStrategy;
+import org.apache.myfaces.extensions.validator.core.validation.ValidationPlan;
+import org.apache.myfaces.extensions.validator.core.validation.ValidationPlanEntry;
+import org.apache.myfaces.extensions.validator.core.validation.strategy.ValidationStrategy;
+import org.apache.myfaces.extensions.validator.test.core.AbstractExValCoreTestCase;
+import org.apache.myfaces.extensions.validator.util.ExtValUtils;
+import org.junit.Assert;
+import org.junit.Test;
+
+import javax.faces.component.UIComponent;
+import javax.faces.context.FacesContext;
+
+public class ValidationPlanTestCase extends AbstractExValCoreTestCase
+{
+    @Test
+    public void testValueCompatibility()
+    {
+        ValidationPlanEntry entry = new ValidationPlanEntry("key", null, TestStrategy.class, null);
+
+        Assert.assertTrue(entry.isValidationStrategyAvailable());
+        Assert.assertFalse(entry.isCompatibleWithValue(null));
+        Assert.assertFalse(entry.isCompatibleWithValue(""));
+        Assert.assertTrue(entry.isCompatibleWithValue("value"));
+
+        entry = new ValidationPlanEntry("key", null, TestNullValueAwareStrategy.class, null);
+
+        Assert.assertTrue(entry.isCompatibleWithValue(null));
+        Assert.assertFalse(entry.isCompatibleWithValue(""));
+
+        entry = new ValidationPlanEntry("key", null, null, null);
+
+        Assert.assertFalse(entry.isValidationStrategyAvailable());
+    }
+
+    @Test
+    public void testPlanApplicability()
+    {
+        Object value = new Object();
+        ValidationPlan validationPlan = new ValidationPlan(new ValidationPlanEntry[] {
+                new ValidationPlanEntry("key1", value, TestStrategy.class, null)});
+
+        Assert.assertTrue(validationPlan.isApplicableTo(new MetaDataEntry[] {createEntry("key1", value)}));
+        Assert.assertFalse(validationPlan.isApplicableTo(new MetaDataEntry[] {createEntry("key2", value)}));
+        Assert.assertFalse(validationPlan.isApplicableTo(new MetaDataEntry[] {createEntry("key1", new Object())}));
+        Assert.assertFalse(validationPlan.isApplicableTo(new MetaDataEntry[] {}));
+    }
+
+    @Test
+    public void testValidationPlanStorage()
+    {
+        ValidationPlanStorage storage =
+                ExtValUtils.getStorage(ValidationPlanStorage.class, ValidationPlanStorage.class.getName());
+
+        ValidationPlan validationPlan = new ValidationPlan(new ValidationPlanEntry[] {});
+        storage.storeValidationPlan(TestStrategy.class, "property", null, validationPlan);
+
+        Assert.assertSame(validationPlan, storage.getValidationPlan(TestStrategy.class, "property", null));
+        Assert.assertNull(storage.getValidationPlan(TestStrategy.class, "property", TestStrategy.class));
+        Assert.assertNull(storage.getValidationPlan(TestStrategy.class, "property2", null));
+    }
+
+    private MetaDataEntry createEntry(String key, Object value)
+    {
+        MetaDataEntry entry = new MetaDataEntry();
+        entry.setKey(key);
+        entry.setValue(value);
+        return entry;
+    }
+
+    class TestStrategy implements ValidationStrategy
+    {
+        public void validate(FacesContext facesContext, UIComponent uiComponent,
+                             MetaDataEntry metaDataEntry, Object convertedObject)
+        {
+        }
+    }
+
+    @NullValueAwareValidationStrategy
+    class TestNullValueAwareStrategy extends TestStrategy
+    {
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.myfaces.extensions.validator.generic.renderkit;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import javax.faces.component.UIComponent;
+import javax.faces.context.FacesContext;
+import javax.faces.render.Renderer;
+
+/**
+ * The index returned by the filter selects the callback of the generated proxy.
+ */
+public class SignatureCallbackFilterTestCase
+{
+    private final SignatureCallbackFilter callbackFilter = new SignatureCallbackFilter(
+            SignatureCallbackFilter.getMethod(Renderer.class, "decode", FacesContext.class, UIComponent.class),
+            SignatureCallbackFilter.getMethod(Renderer.class, "encodeEnd", FacesContext.class, UIComponent.class),
+            SignatureCallbackFilter.getMethod(Renderer.class, "getRendersChildren"));
+
+    @Test
+    public void testInterceptedMethodsAreMappedToTheirIndex() throws Exception
+    {
+        Assert.assertEquals(0, this.callbackFilter.accept(
+                Renderer.class.getMethod("decode", FacesContext.class, UIComponent.class)));
+        Assert.assertEquals(1, this.callbackFilter.accept(
+                Renderer.class.getMethod("encodeEnd", FacesContext.class, UIComponent.class)));
+        Assert.assertEquals(2, this.callbackFilter.accept(Renderer.class.getMethod("getRendersChildren")));
+    }
+
+    @Test
+    public void testOverriddenInterceptedMethodsAreMappedToTheirIndex() throws Exception
+    {
+        Assert.assertEquals(0, this.callbackFilter.accept(
+                TestRenderer.class.getMethod("decode", FacesContext.class, UIComponent.class)));
+        Assert.assertEquals(2, this.callbackFilter.accept(TestRenderer.class.getMethod("getRendersChildren")));
+    }
+
+    @Test
+    public void testObjectMethodsAreMappedToTheObjectMethodCallback() throws Exception
+    {
+        Assert.assertEquals(3, this.callbackFilter.getObjectMethodCallbackIndex());
+
+        Assert.assertEquals(3, this.callbackFilter.accept(Object.class.getMethod("hashCode")));
+        Assert.assertEquals(3, this.callbackFilter.accept(Renderer.class.getMethod("equals", Object.class)));
+        Assert.assertEquals(3, this.callbackFilter.accept(Object.class.getDeclaredMethod("finalize")));
+    }
+
+    @Test
+    public void testUnlistedMethodsArePassedThrough() throws Exception
+    {
+        Assert.assertEquals(4, this.callbackFilter.getPassThroughCallbackIndex());
+
+        //not intercepted by this filter
+        Assert.assertEquals(4, this.callbackFilter.accept(Renderer.class.getMethod(
+                "encodeBegin", FacesContext.class, UIComponent.class)));
+        //same name but a different signature
+        Assert.assertEquals(4, this.callbackFilter.accept(
+                TestRenderer.class.getMethod("decode", FacesContext.class)));
+        //methods of java.lang.Object which are overridden
+        Assert.assertEquals(4, this.callbackFilter.accept(TestRenderer.class.getMethod("toString")));
+        //custom methods
+        Assert.assertEquals(4, this.callbackFilter.accept(TestRenderer.class.getMethod("getDecodeCount")));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testUnknownMethod()
+    {
+        SignatureCallbackFilter.getMethod(Renderer.class, "decode", FacesContext.class);
+    }
+
+    public static class TestRenderer extends Renderer
+    {
+        private int decodeCount;
+
+        @Override
+        public void decode(FacesContext facesContext, UIComponent uiComponent)
+        {
+            this.decodeCount++;
+        }
+
+        public void decode(FacesContext facesContext)
+        {
+            this.decodeCount++;
+        }
+
+        @Override
+        public boolean getRendersChildren()
+        {
+            return true;
+        }
+
+        public int getDecodeCount()
+        {
+            return this.decodeCount;
+        }
+
+        @Override
+        public String toString()
+        {
+            return "test renderer";
+        }
+    }
+}
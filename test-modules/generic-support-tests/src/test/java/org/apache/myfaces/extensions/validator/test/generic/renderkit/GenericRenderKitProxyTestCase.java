@@ -0,0 +1,330 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.myfaces.extensions.validator.test.generic.renderkit;
+
+import org.apache.myfaces.extensions.validator.core.ExtValContext;
+import org.apache.myfaces.extensions.validator.core.interceptor.AbstractRendererInterceptor;
+import org.apache.myfaces.extensions.validator.generic.renderkit.ExtValGenericRenderKit;
+import org.apache.myfaces.extensions.validator.generic.renderkit.ExtValGenericRendererWrapper;
+import org.apache.myfaces.extensions.validator.test.core.AbstractExValCoreTestCase;
+import org.apache.myfaces.extensions.validator.util.ProxyUtils;
+import org.apache.myfaces.test.mock.MockResponseStateManager;
+import org.junit.Assert;
+import org.junit.Test;
+
+import javax.faces.component.UIComponent;
+import javax.faces.component.html.HtmlInputText;
+import javax.faces.context.FacesContext;
+import javax.faces.context.ResponseStream;
+import javax.faces.context.ResponseWriter;
+import javax.faces.render.RenderKit;
+import javax.faces.render.Renderer;
+import javax.faces.render.ResponseStateManager;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The cglib proxies of the generic support have to route the methods handled by extval to the
+ * extval implementation and all other methods to the wrapped instance.
+ */
+public class GenericRenderKitProxyTestCase extends AbstractExValCoreTestCase
+{
+    private HtmlInputText inputComponent;
+    private TestRenderer renderer;
+    private TestRendererInterceptor rendererInterceptor;
+
+    @Override
+    protected void setUpTestCase()
+    {
+        super.setUpTestCase();
+
+        this.inputComponent = new HtmlInputText();
+        this.inputComponent.setId("input1");
+
+        this.renderer = new TestRenderer();
+
+        this.rendererInterceptor = new TestRendererInterceptor();
+        ExtValContext.getContext().registerRendererInterceptor(this.rendererInterceptor);
+    }
+
+    @Override
+    protected void resetTestCase()
+    {
+        super.resetTestCase();
+        this.inputComponent = null;
+        this.renderer = null;
+        this.rendererInterceptor = null;
+    }
+
+    @Test
+    public void testInterceptedRendererMethodsAreRoutedToTheInterceptors() throws Exception
+    {
+        Renderer rendererProxy = ExtValGenericRendererWrapper.newInstance(this.renderer);
+
+        Assert.assertTrue(ProxyUtils.isProxiedObject(rendererProxy));
+        Assert.assertTrue(rendererProxy instanceof TestRenderer);
+
+        rendererProxy.decode(facesContext, this.inputComponent);
+        rendererProxy.encodeBegin(facesContext, this.inputComponent);
+        rendererProxy.encodeChildren(facesContext, this.inputComponent);
+        rendererProxy.encodeEnd(facesContext, this.inputComponent);
+        Object convertedValue = rendererProxy.getConvertedValue(facesContext, this.inputComponent, "value");
+
+        Assert.assertEquals(Arrays.asList("decode", "encodeBegin", "encodeChildren", "encodeEnd",
+                "getConvertedValue"), this.rendererInterceptor.interceptedMethods);
+        Assert.assertEquals(Arrays.asList("decode", "encodeBegin", "encodeChildren", "encodeEnd",
+                "getConvertedValue"), this.renderer.invokedMethods);
+        Assert.assertEquals("converted value", convertedValue);
+    }
+
+    @Test
+    public void testDelegatedRendererMethodsAreRoutedToTheWrappedRenderer()
+    {
+        Renderer rendererProxy = ExtValGenericRendererWrapper.newInstance(this.renderer);
+
+        Assert.assertEquals("client-id:input1", rendererProxy.convertClientId(facesContext, "input1"));
+        Assert.assertTrue(rendererProxy.getRendersChildren());
+
+        Assert.assertEquals(Arrays.asList("convertClientId", "getRendersChildren"), this.renderer.invokedMethods);
+        Assert.assertTrue(this.rendererInterceptor.interceptedMethods.isEmpty());
+    }
+
+    @Test
+    public void testUnlistedRendererMethodsArePassedToTheWrappedRenderer()
+    {
+        TestRenderer rendererProxy = (TestRenderer) ExtValGenericRendererWrapper.newInstance(this.renderer);
+
+        rendererProxy.setMarker("marker");
+
+        Assert.assertEquals("marker", this.renderer.getMarker());
+        Assert.assertEquals("marker", rendererProxy.getMarker());
+        Assert.assertEquals(Arrays.asList("setMarker", "getMarker", "getMarker"), this.renderer.invokedMethods);
+        Assert.assertTrue(this.rendererInterceptor.interceptedMethods.isEmpty());
+    }
+
+    @Test
+    public void testObjectMethodsAreInvokedOnTheRendererProxy()
+    {
+        Renderer rendererProxy = ExtValGenericRendererWrapper.newInstance(this.renderer);
+
+        Assert.assertEquals(System.identityHashCode(rendererProxy), rendererProxy.hashCode());
+        Assert.assertTrue(rendererProxy.equals(rendererProxy));
+        Assert.assertFalse(rendererProxy.equals(this.renderer));
+    }
+
+    @Test
+    public void testRendererProxyIsNotWrappedAgain()
+    {
+        Renderer rendererProxy = ExtValGenericRendererWrapper.newInstance(this.renderer);
+
+        Assert.assertSame(rendererProxy, ExtValGenericRendererWrapper.newInstance(rendererProxy));
+    }
+
+    @Test
+    public void testInterceptedRenderKitMethodsWrapTheRenderers()
+    {
+        TestRenderKit renderKit = new TestRenderKit();
+        RenderKit renderKitProxy = ExtValGenericRenderKit.newInstance(renderKit);
+
+        Assert.assertTrue(ProxyUtils.isProxiedObject(renderKitProxy));
+        Assert.assertTrue(renderKitProxy instanceof TestRenderKit);
+
+        renderKitProxy.addRenderer("family", "type", this.renderer);
+
+        Renderer addedRenderer = renderKit.getRenderer("family", "type");
+        Assert.assertNotSame(this.renderer, addedRenderer);
+        Assert.assertTrue(ProxyUtils.isProxiedObject(addedRenderer));
+        Assert.assertSame(addedRenderer, renderKitProxy.getRenderer("family", "type"));
+
+        Assert.assertSame(renderKit.responseStateManager, renderKitProxy.getResponseStateManager());
+        Assert.assertNull(renderKitProxy.createResponseStream(null));
+        Assert.assertNull(renderKitProxy.createResponseWriter(null, null, null));
+
+        Assert.assertEquals(Arrays.asList("addRenderer", "getRenderer", "getRenderer", "getResponseStateManager",
+                "createResponseStream", "createResponseWriter"), renderKit.invokedMethods);
+    }
+
+    @Test
+    public void testUnlistedRenderKitMethodsArePassedToTheWrappedRenderKit()
+    {
+        TestRenderKit renderKit = new TestRenderKit();
+        TestRenderKit renderKitProxy = (TestRenderKit) ExtValGenericRenderKit.newInstance(renderKit);
+
+        renderKitProxy.setMarker("marker");
+
+        Assert.assertEquals("marker", renderKit.getMarker());
+        Assert.assertEquals(Arrays.asList("setMarker"), renderKit.invokedMethods);
+
+        Assert.assertEquals(System.identityHashCode(renderKitProxy), renderKitProxy.hashCode());
+        Assert.assertFalse(renderKitProxy.equals(renderKit));
+    }
+
+    public static class TestRenderer extends Renderer
+    {
+        private List<String> invokedMethods = new ArrayList<String>();
+        private String marker;
+
+        @Override
+        public void decode(FacesContext facesContext, UIComponent uiComponent)
+        {
+            this.invokedMethods.add("decode");
+        }
+
+        @Override
+        public void encodeBegin(FacesContext facesContext, UIComponent uiComponent)
+        {
+            this.invokedMethods.add("encodeBegin");
+        }
+
+        @Override
+        public void encodeChildren(FacesContext facesContext, UIComponent uiComponent)
+        {
+            this.invokedMethods.add("encodeChildren");
+        }
+
+        @Override
+        public void encodeEnd(FacesContext facesContext, UIComponent uiComponent)
+        {
+            this.invokedMethods.add("encodeEnd");
+        }
+
+        @Override
+        public String convertClientId(FacesContext facesContext, String clientId)
+        {
+            this.invokedMethods.add("convertClientId");
+            return "client-id:" + clientId;
+        }
+
+        @Override
+        public boolean getRendersChildren()
+        {
+            this.invokedMethods.add("getRendersChildren");
+            return true;
+        }
+
+        @Override
+        public Object getConvertedValue(FacesContext facesContext, UIComponent uiComponent, Object submittedValue)
+        {
+            this.invokedMethods.add("getConvertedValue");
+            return "converted " + submittedValue;
+        }
+
+        public String getMarker()
+        {
+            this.invokedMethods.add("getMarker");
+            return this.marker;
+        }
+
+        public void setMarker(String marker)
+        {
+            this.invokedMethods.add("setMarker");
+            this.marker = marker;
+        }
+    }
+
+    public static class TestRenderKit extends RenderKit
+    {
+        private List<String> invokedMethods = new ArrayList<String>();
+        private Map<String, Renderer> renderers = new HashMap<String, Renderer>();
+        private ResponseStateManager responseStateManager = new MockResponseStateManager();
+        private String marker;
+
+        public void addRenderer(String family, String rendererType, Renderer renderer)
+        {
+            this.invokedMethods.add("addRenderer");
+            this.renderers.put(family + ":" + rendererType, renderer);
+        }
+
+        public Renderer getRenderer(String family, String rendererType)
+        {
+            this.invokedMethods.add("getRenderer");
+            return this.renderers.get(family + ":" + rendererType);
+        }
+
+        public ResponseStateManager getResponseStateManager()
+        {
+            this.invokedMethods.add("getResponseStateManager");
+            return this.responseStateManager;
+        }
+
+        public ResponseWriter createResponseWriter(Writer writer, String contentTypeList, String characterEncoding)
+        {
+            this.invokedMethods.add("createResponseWriter");
+            return null;
+        }
+
+        public ResponseStream createResponseStream(OutputStream outputStream)
+        {
+            this.invokedMethods.add("createResponseStream");
+            return null;
+        }
+
+        public String getMarker()
+        {
+            return this.marker;
+        }
+
+        public void setMarker(String marker)
+        {
+            this.invokedMethods.add("setMarker");
+            this.marker = marker;
+        }
+    }
+
+    public static class TestRendererInterceptor extends AbstractRendererInterceptor
+    {
+        private List<String> interceptedMethods = new ArrayList<String>();
+
+        @Override
+        public void beforeDecode(FacesContext facesContext, UIComponent uiComponent, Renderer wrapped)
+        {
+            this.interceptedMethods.add("decode");
+        }
+
+        @Override
+        public void beforeEncodeBegin(FacesContext facesContext, UIComponent uiComponent, Renderer wrapped)
+        {
+            this.interceptedMethods.add("encodeBegin");
+        }
+
+        @Override
+        public void beforeEncodeChildren(FacesContext facesContext, UIComponent uiComponent, Renderer wrapped)
+        {
+            this.interceptedMethods.add("encodeChildren");
+        }
+
+        @Override
+        public void beforeEncodeEnd(FacesContext facesContext, UIComponent uiComponent, Renderer wrapped)
+        {
+            this.interceptedMethods.add("encodeEnd");
+        }
+
+        @Override
+        public void beforeGetConvertedValue(FacesContext facesContext, UIComponent uiComponent, Object o,
+                                            Renderer wrapped)
+        {
+            this.interceptedMethods.add("getConvertedValue");
+        }
+    }
+}
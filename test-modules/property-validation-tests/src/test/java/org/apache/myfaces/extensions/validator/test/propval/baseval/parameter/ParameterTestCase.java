@@ -103,6 +103,21 @@ public class ParameterTestCase extends TestCase
         assertEquals(DisableClientSideValidation.class.getName(), extractor.extract(required, DisableClientSideValidation.class, Class.class).iterator().next().getName());
     }
 
+    public void testCachedParameters() throws Exception
+    {
+        ValidationParameterExtractor extractor = new DefaultValidationParameterExtractor();
+
+        TestPerson person = new TestPerson();
+        Required required = person.getClass().getDeclaredField("lastName").getAnnotation(Required.class);
+
+        assertEquals(extractor.extract(required), extractor.extract(required));
+
+        //the cached parameters aren't exposed
+        extractor.extract(required, TestPriority.class).clear();
+        extractor.extract(required).clear();
+        assertEquals(2, extractor.extract(required, TestPriority.class, String.class).size());
+    }
+
     /*
      * TODO these tests work in an ide but not via commandline - it's a Surefire issue
      */
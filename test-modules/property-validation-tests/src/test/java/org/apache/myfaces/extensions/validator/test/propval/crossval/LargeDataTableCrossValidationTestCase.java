@@ -0,0 +1,184 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.myfaces.extensions.validator.test.propval.crossval;
+
+import org.apache.myfaces.extensions.validator.core.metadata.MetaDataEntry;
+import org.apache.myfaces.extensions.validator.core.property.PropertyDetails;
+import org.apache.myfaces.extensions.validator.core.property.PropertyInformationKeys;
+import org.apache.myfaces.extensions.validator.crossval.storage.CrossValidationStorageEntry;
+import org.apache.myfaces.extensions.validator.crossval.storage.DefaultProcessedInformationStorage;
+import org.apache.myfaces.extensions.validator.crossval.storage.ProcessedInformationStorage;
+import org.apache.myfaces.extensions.validator.crossval.storage.ProcessedInformationStorageEntry;
+import org.apache.myfaces.extensions.validator.test.propval.AbstractPropertyValidationTestCase;
+import org.apache.myfaces.extensions.validator.util.CrossValidationUtils;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Resolves the cross-validation targets of a table with 5,000 rows (#{row.date2}).
+ */
+public class LargeDataTableCrossValidationTestCase extends AbstractPropertyValidationTestCase
+{
+    private static final int ROW_COUNT = 5000;
+    private static final String TARGET_KEY = "row.date2";
+
+    private ProcessedInformationStorage processedInformationStorage;
+    private List<ELCrossValTestDateBean> rows;
+    private List<ProcessedInformationStorageEntry> recordedEntries;
+    private int beanAccessCount;
+
+    @Override
+    protected void setUpTestCase()
+    {
+        super.setUpTestCase();
+
+        this.processedInformationStorage = new DefaultProcessedInformationStorage();
+        this.rows = new ArrayList<ELCrossValTestDateBean>();
+        this.recordedEntries = new ArrayList<ProcessedInformationStorageEntry>();
+        this.beanAccessCount = 0;
+
+        for (int i = 0; i < ROW_COUNT; i++)
+        {
+            ELCrossValTestDateBean row = new ELCrossValTestDateBean();
+            this.rows.add(row);
+            recordEntry(row, "form:table:" + i + ":input2");
+        }
+    }
+
+    @Test
+    public void testResolveTargetOfEveryRow()
+    {
+        for (int i = 0; i < ROW_COUNT; i++)
+        {
+            Assert.assertSame(this.recordedEntries.get(i), resolveTargetOf(this.rows.get(i)));
+        }
+    }
+
+    @Test
+    public void testResolveTargetOfEveryRowWithLinearEffort()
+    {
+        this.beanAccessCount = 0;
+
+        for (ELCrossValTestDateBean row : this.rows)
+        {
+            resolveTargetOf(row);
+        }
+
+        //a linear search per row would need about ROW_COUNT * ROW_COUNT / 2 calls
+        Assert.assertTrue("bean accessed " + this.beanAccessCount + " times",
+                this.beanAccessCount <= 3 * ROW_COUNT);
+    }
+
+    @Test
+    public void testResolveTargetOfRowRecordedAfterFirstLookup()
+    {
+        resolveTargetOf(this.rows.get(ROW_COUNT - 1));
+
+        ELCrossValTestDateBean newRow = new ELCrossValTestDateBean();
+        recordEntry(newRow, "form:table:" + ROW_COUNT + ":input2");
+
+        Assert.assertSame(this.recordedEntries.get(ROW_COUNT), resolveTargetOf(newRow));
+    }
+
+    @Test
+    public void testResolveTargetOfUnknownRow()
+    {
+        Assert.assertNull(resolveTargetOf(new ELCrossValTestDateBean()));
+    }
+
+    @Test
+    public void testResolveTargetOfEqualRowsByIdentity()
+    {
+        this.processedInformationStorage = new DefaultProcessedInformationStorage();
+        this.recordedEntries.clear();
+
+        EqualRow row1 = new EqualRow();
+        EqualRow row2 = new EqualRow();
+        recordEntry(row1, "form:table:0:input2");
+        recordEntry(row2, "form:table:1:input2");
+
+        Assert.assertSame(this.recordedEntries.get(0), resolveTargetOf(row1));
+        Assert.assertSame(this.recordedEntries.get(1), resolveTargetOf(row2));
+        Assert.assertNull(resolveTargetOf(new EqualRow()));
+    }
+
+    private ProcessedInformationStorageEntry resolveTargetOf(Object row)
+    {
+        MetaDataEntry metaDataEntry = new MetaDataEntry();
+        metaDataEntry.setProperty(PropertyInformationKeys.PROPERTY_DETAILS,
+                new PropertyDetails("row.date1", row, "date1"));
+
+        CrossValidationStorageEntry crossValidationStorageEntry = new CrossValidationStorageEntry();
+        crossValidationStorageEntry.setMetaDataEntry(metaDataEntry);
+
+        return CrossValidationUtils.resolveValidationTargetEntry(
+                this.processedInformationStorage, TARGET_KEY, crossValidationStorageEntry);
+    }
+
+    //same mapping as CrossValidationUserInputRecorder
+    private void recordEntry(Object row, String clientId)
+    {
+        ProcessedInformationStorageEntry entry = new ProcessedInformationStorageEntry()
+        {
+            @Override
+            public Object getBean()
+            {
+                beanAccessCount++;
+                return super.getBean();
+            }
+        };
+        entry.setBean(row);
+        entry.setClientId(clientId);
+
+        this.recordedEntries.add(entry);
+
+        if (!this.processedInformationStorage.containsEntry(TARGET_KEY))
+        {
+            this.processedInformationStorage.setEntry(TARGET_KEY, entry);
+            return;
+        }
+
+        ProcessedInformationStorageEntry firstEntry = this.processedInformationStorage.getEntry(TARGET_KEY);
+
+        if (firstEntry.getFurtherEntries() == null)
+        {
+            firstEntry.setFurtherEntries(new ArrayList<ProcessedInformationStorageEntry>());
+        }
+        firstEntry.getFurtherEntries().add(entry);
+    }
+
+    //e.g. new entities which are compared by an id which isn't available yet
+    private static class EqualRow
+    {
+        @Override
+        public boolean equals(Object other)
+        {
+            return other instanceof EqualRow;
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.myfaces.extensions.validator.test.propval.interceptor;
+
+import org.apache.myfaces.extensions.validator.PropertyValidationModuleValidationInterceptor;
+import org.apache.myfaces.extensions.validator.core.ExtValContext;
+import org.apache.myfaces.extensions.validator.core.metadata.MetaDataEntry;
+import org.apache.myfaces.extensions.validator.core.validation.strategy.ValidationStrategy;
+import org.apache.myfaces.extensions.validator.test.propval.AbstractPropertyValidationTestCase;
+import org.apache.myfaces.extensions.validator.test.propval.BaseValTestBean;
+import org.junit.Assert;
+import org.junit.Test;
+
+import javax.faces.component.UIViewRoot;
+import javax.faces.component.html.HtmlForm;
+import javax.faces.component.html.HtmlInputText;
+
+public class DeprecatedCompatibilityHookTestCase extends AbstractPropertyValidationTestCase
+{
+    private static int hookCallCount;
+
+    private HtmlInputText inputComponent;
+
+    @Override
+    protected void setUpTestCase()
+    {
+        super.setUpTestCase();
+
+        hookCallCount = 0;
+
+        createRequestScopedBean("testBean", new BaseValTestBean());
+
+        UIViewRoot rootComponent = new UIViewRoot();
+        HtmlForm form = new HtmlForm();
+        form.setId("form");
+        rootComponent.getChildren().add(form);
+        this.inputComponent = new HtmlInputText();
+        this.inputComponent.setId("input1");
+        form.getChildren().add(this.inputComponent);
+    }
+
+    @Test
+    public void testDefaultCompatibilityCheck()
+    {
+        createValueBinding(this.inputComponent, "value", "#{testBean.name}");
+
+        this.inputComponent.setSubmittedValue("");
+        this.inputComponent.validate(facesContext);
+
+        Assert.assertFalse(this.inputComponent.isValid());
+        checkMessageCount(1);
+        Assert.assertEquals(0, hookCallCount);
+    }
+
+    @Test
+    public void testOverriddenDeprecatedCompatibilityCheck()
+    {
+        ExtValContext.getContext().deregisterRendererInterceptor(PropertyValidationModuleValidationInterceptor.class);
+        ExtValContext.getContext().registerRendererInterceptor(new LegacyValidationInterceptor());
+
+        createValueBinding(this.inputComponent, "value", "#{testBean.name}");
+
+        this.inputComponent.setSubmittedValue("");
+        this.inputComponent.validate(facesContext);
+
+        Assert.assertTrue(this.inputComponent.isValid());
+        checkMessageCount(0);
+        Assert.assertEquals(1, hookCallCount);
+    }
+
+    public static class LegacyValidationInterceptor extends PropertyValidationModuleValidationInterceptor
+    {
+        @Override
+        @SuppressWarnings({"deprecation"})
+        protected boolean isValidationStrategyCompatibleWithValue(
+                ValidationStrategy validationStrategy, Object value, MetaDataEntry entry)
+        {
+            hookCallCount++;
+            return false;
+        }
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.myfaces.extensions.validator.test.propval.storage;
+
+import org.apache.myfaces.extensions.validator.baseval.annotation.Length;
+import org.apache.myfaces.extensions.validator.baseval.annotation.Required;
+import org.apache.myfaces.extensions.validator.core.metadata.MetaDataEntry;
+import org.apache.myfaces.extensions.validator.core.property.PropertyInformation;
+import org.apache.myfaces.extensions.validator.core.startup.MetaDataWarmUpPhaseListener;
+import org.apache.myfaces.extensions.validator.core.storage.MetaDataStorage;
+import org.apache.myfaces.extensions.validator.core.storage.MetaDataStorageFilter;
+import org.apache.myfaces.extensions.validator.test.propval.AbstractPropertyValidationTestCase;
+import org.apache.myfaces.extensions.validator.test.propval.BaseValTestBean;
+import org.apache.myfaces.extensions.validator.util.ExtValUtils;
+import org.junit.Assert;
+import org.junit.Test;
+
+import javax.faces.context.FacesContext;
+
+public class MetaDataWarmUpTestCase extends AbstractPropertyValidationTestCase
+{
+    @Test
+    public void testMetaDataIsCachedAfterWarmUp() throws Exception
+    {
+        MetaDataStorage metaDataStorage = getMetaDataStorage();
+
+        Assert.assertFalse(metaDataStorage.containsMetaDataFor(BaseValTestBean.class, "name"));
+        Assert.assertFalse(metaDataStorage.containsMetaDataFor(BaseValTestBean.class, "name1"));
+
+        TestMetaDataWarmUpPhaseListener phaseListener =
+                new TestMetaDataWarmUpPhaseListener(BaseValTestBean.class.getName());
+        phaseListener.afterPhase(null);
+
+        Assert.assertNotNull(phaseListener.warmUpThread);
+        Assert.assertTrue(phaseListener.warmUpThread.isDaemon());
+        phaseListener.warmUpThread.join(10000);
+        Assert.assertFalse(phaseListener.warmUpThread.isAlive());
+
+        //the extracted meta-data is stored by the next request
+        Assert.assertFalse(metaDataStorage.containsMetaDataFor(BaseValTestBean.class, "name"));
+        phaseListener.afterPhase(null);
+
+        Assert.assertTrue(metaDataStorage.containsMetaDataFor(BaseValTestBean.class, "name"));
+        MetaDataEntry[] metaDataEntries = metaDataStorage.getMetaData(BaseValTestBean.class, "name");
+        Assert.assertEquals(1, metaDataEntries.length);
+        Assert.assertTrue(metaDataEntries[0].getValue() instanceof Required);
+
+        Assert.assertTrue(metaDataStorage.containsMetaDataFor(BaseValTestBean.class, "name1"));
+        metaDataEntries = metaDataStorage.getMetaData(BaseValTestBean.class, "name1");
+        Assert.assertEquals(1, metaDataEntries.length);
+        Assert.assertTrue(metaDataEntries[0].getValue() instanceof Length);
+    }
+
+    @Test
+    public void testMetaDataStorageFiltersAreInvokedByTheRequestThread() throws Exception
+    {
+        TestMetaDataStorageFilter storageFilter = new TestMetaDataStorageFilter();
+        getMetaDataStorage().registerFilter(storageFilter);
+
+        TestMetaDataWarmUpPhaseListener phaseListener =
+                new TestMetaDataWarmUpPhaseListener(BaseValTestBean.class.getName());
+        phaseListener.afterPhase(null);
+        phaseListener.warmUpThread.join(10000);
+
+        Assert.assertEquals(0, storageFilter.filterCount);
+
+        phaseListener.afterPhase(null);
+
+        Assert.assertTrue(storageFilter.filterCount > 0);
+        Assert.assertTrue(storageFilter.invokedWithFacesContext);
+        Assert.assertSame(Thread.currentThread(), storageFilter.invokingThread);
+    }
+
+    @Test
+    public void testWarmUpIsExecutedOnce() throws Exception
+    {
+        TestMetaDataWarmUpPhaseListener phaseListener =
+                new TestMetaDataWarmUpPhaseListener(BaseValTestBean.class.getName());
+        phaseListener.afterPhase(null);
+        phaseListener.warmUpThread.join(10000);
+
+        Thread firstWarmUpThread = phaseListener.warmUpThread;
+        phaseListener.afterPhase(null);
+
+        Assert.assertSame(firstWarmUpThread, phaseListener.warmUpThread);
+    }
+
+    private MetaDataStorage getMetaDataStorage()
+    {
+        return ExtValUtils.getStorage(MetaDataStorage.class, MetaDataStorage.class.getName());
+    }
+
+    private static class TestMetaDataStorageFilter implements MetaDataStorageFilter
+    {
+        private int filterCount;
+        private boolean invokedWithFacesContext = true;
+        private Thread invokingThread;
+
+        public void filter(PropertyInformation propertyInformation)
+        {
+            this.filterCount++;
+            this.invokedWithFacesContext &= FacesContext.getCurrentInstance() != null;
+            this.invokingThread = Thread.currentThread();
+        }
+    }
+
+    private static class TestMetaDataWarmUpPhaseListener extends MetaDataWarmUpPhaseListener
+    {
+        private static final long serialVersionUID = 2880463254497136613L;
+
+        private Thread warmUpThread;
+
+        private TestMetaDataWarmUpPhaseListener(String warmUpTargets)
+        {
+            super(warmUpTargets);
+        }
+
+        @Override
+        protected Thread createWarmUpThread(Runnable warmUpTask)
+        {
+            this.warmUpThread = super.createWarmUpThread(warmUpTask);
+            return this.warmUpThread;
+        }
+    }
+}
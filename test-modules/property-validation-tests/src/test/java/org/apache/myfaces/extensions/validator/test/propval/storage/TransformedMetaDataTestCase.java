@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.myfaces.extensions.validator.test.propval.storage;
+
+import org.apache.myfaces.extensions.validator.core.metadata.CommonMetaDataKeys;
+import org.apache.myfaces.extensions.validator.test.propval.AbstractPropertyValidationTestCase;
+import org.apache.myfaces.extensions.validator.test.propval.BaseValTestBean;
+import org.apache.myfaces.extensions.validator.util.ExtValUtils;
+import org.junit.Assert;
+import org.junit.Test;
+
+import javax.faces.component.html.HtmlInputText;
+import java.util.Locale;
+import java.util.Map;
+
+public class TransformedMetaDataTestCase extends AbstractPropertyValidationTestCase
+{
+    private HtmlInputText inputComponent;
+
+    @Override
+    protected void setUpTestCase()
+    {
+        createRequestScopedBean("testBean", new BaseValTestBean());
+
+        inputComponent = new HtmlInputText();
+        inputComponent.setId("input1");
+        facesContext.getViewRoot().getChildren().add(inputComponent);
+        createValueBinding(inputComponent, "value", "#{testBean.patternName}");
+    }
+
+    @Override
+    protected void resetTestCase()
+    {
+        super.resetTestCase();
+        inputComponent = null;
+    }
+
+    @Test
+    public void testTransformedMetaDataIsCachedPerLocale()
+    {
+        facesContext.getViewRoot().setLocale(Locale.ENGLISH);
+        Map<String, Object> englishMetaData = ExtValUtils.getTransformedMetaData(facesContext, inputComponent);
+
+        facesContext.getViewRoot().setLocale(Locale.GERMAN);
+        Map<String, Object> germanMetaData = ExtValUtils.getTransformedMetaData(facesContext, inputComponent);
+
+        Assert.assertEquals("Invalid format",
+                englishMetaData.get(CommonMetaDataKeys.PATTERN_VALIDATION_ERROR_MESSAGE));
+        Assert.assertFalse(englishMetaData.get(CommonMetaDataKeys.PATTERN_VALIDATION_ERROR_MESSAGE)
+                .equals(germanMetaData.get(CommonMetaDataKeys.PATTERN_VALIDATION_ERROR_MESSAGE)));
+    }
+
+    @Test
+    public void testTransformedMetaDataIsCopiedPerCall()
+    {
+        Map<String, Object> metaData = ExtValUtils.getTransformedMetaData(facesContext, inputComponent);
+        Assert.assertTrue(metaData.containsKey(CommonMetaDataKeys.PATTERN));
+
+        //e.g. a component initializer
+        metaData.remove(CommonMetaDataKeys.PATTERN);
+
+        Assert.assertTrue(ExtValUtils.getTransformedMetaData(facesContext, inputComponent)
+                .containsKey(CommonMetaDataKeys.PATTERN));
+    }
+}
@@ -18,27 +18,50 @@
  */
 package org.apache.myfaces.extensions.validator.beanval;
 
+import org.apache.myfaces.extensions.validator.core.ExtValCoreConfiguration;
+import org.apache.myfaces.extensions.validator.core.storage.ClassKeyedCache;
 import org.apache.myfaces.extensions.validator.internal.UsageInformation;
 import org.apache.myfaces.extensions.validator.internal.UsageCategory;
-import org.apache.myfaces.extensions.validator.internal.ToDo;
-import org.apache.myfaces.extensions.validator.internal.Priority;
 import org.apache.myfaces.extensions.validator.util.ExtValUtils;
 
+import javax.faces.context.ExternalContext;
+import javax.faces.context.FacesContext;
 import javax.validation.ConstraintValidatorFactory;
 import javax.validation.ConstraintValidator;
 import java.beans.Introspector;
 
 /**
+ * Uses managed beans as constraint-validators (if there is a bean with the name of the validator class).
+ * <p/>
+ * The result of the bean lookup is cached per validator class. Validators which aren't managed beans are created
+ * via the wrapped factory without a further lookup. Validators which are managed beans are looked up in the scopes
+ * of the current request before the el-resolvers get used.
+ * The cache of the bean lookups can be shared by multiple instances.
+ *
  * @since x.x.3
  */
 @UsageInformation(UsageCategory.INTERNAL)
 class BeanAwareConstraintValidatorFactory implements ConstraintValidatorFactory
 {
     private ConstraintValidatorFactory constraintValidatorFactory;
+    private final String beanNamePrefix;
+
+    private final ClassKeyedCache<Boolean> managedBeanAvailability;
 
     public BeanAwareConstraintValidatorFactory(ConstraintValidatorFactory constraintValidatorFactory)
+    {
+        this(constraintValidatorFactory,
+                new ClassKeyedCache<Boolean>(ExtValCoreConfiguration.get().storageCacheMaxSize()));
+    }
+
+    BeanAwareConstraintValidatorFactory(ConstraintValidatorFactory constraintValidatorFactory,
+                                        ClassKeyedCache<Boolean> managedBeanAvailability)
     {
         setConstraintValidatorFactory(constraintValidatorFactory);
+        this.managedBeanAvailability = managedBeanAvailability;
+
+        String prefix = ExtValBeanValidationModuleConfiguration.get().constraintValidatorBeanNamePrefix();
+        this.beanNamePrefix = (prefix != null) ? prefix.trim() : "";
     }
 
     public void setConstraintValidatorFactory(ConstraintValidatorFactory constraintValidatorFactory)
@@ -50,22 +73,80 @@ class BeanAwareConstraintValidatorFactory implements ConstraintValidatorFactory
         this.constraintValidatorFactory = constraintValidatorFactory;
     }
 
-    @SuppressWarnings({"unchecked"})
-    @ToDo(value = Priority.MEDIUM, description = "allow the registration of a custom prefix")
     public <T extends ConstraintValidator<?, ?>> T getInstance(Class<T> targetClass)
     {
-        String validatorClassName = targetClass.getSimpleName();
-        Object result = ExtValUtils.getELHelper().getBean(createBeanName(validatorClassName));
+        Boolean managedBeanAvailable = this.managedBeanAvailability.get(targetClass);
+
+        if(!Boolean.FALSE.equals(managedBeanAvailable))
+        {
+            T result = resolveManagedBean(targetClass, Boolean.TRUE.equals(managedBeanAvailable));
+
+            if(result != null)
+            {
+                return result;
+            }
+        }
+        return this.constraintValidatorFactory.getInstance(targetClass);
+    }
+
+    @SuppressWarnings({"unchecked"})
+    private <T extends ConstraintValidator<?, ?>> T resolveManagedBean(Class<T> targetClass, boolean knownBean)
+    {
+        FacesContext facesContext = FacesContext.getCurrentInstance();
+
+        //e.g. validators which are created outside of a request
+        if(facesContext == null)
+        {
+            return null;
+        }
+
+        String beanName = createBeanName(targetClass.getSimpleName());
+        Object result = null;
+
+        if(knownBean)
+        {
+            result = findScopedBean(facesContext.getExternalContext(), beanName);
+        }
+
+        if(result == null)
+        {
+            result = ExtValUtils.getELHelper().getBean(beanName);
+        }
 
         if(result != null && targetClass.isAssignableFrom(result.getClass()))
         {
+            if(!knownBean)
+            {
+                this.managedBeanAvailability.putIfAbsent(targetClass, Boolean.TRUE);
+            }
             return (T)result;
         }
-        return this.constraintValidatorFactory.getInstance(targetClass);
+
+        if(!knownBean)
+        {
+            this.managedBeanAvailability.putIfAbsent(targetClass, Boolean.FALSE);
+        }
+        return null;
+    }
+
+    private Object findScopedBean(ExternalContext externalContext, String beanName)
+    {
+        Object result = externalContext.getRequestMap().get(beanName);
+
+        if(result == null)
+        {
+            result = externalContext.getSessionMap().get(beanName);
+        }
+
+        if(result == null)
+        {
+            result = externalContext.getApplicationMap().get(beanName);
+        }
+        return result;
     }
 
     private String createBeanName(String validatorClassName)
     {
-        return Introspector.decapitalize(validatorClassName);
+        return this.beanNamePrefix + Introspector.decapitalize(validatorClassName);
     }
-}
\ No newline at end of file
+}
@@ -18,6 +18,8 @@
  */
 package org.apache.myfaces.extensions.validator.beanval;
 
+import org.apache.myfaces.extensions.validator.core.ExtValCoreConfiguration;
+import org.apache.myfaces.extensions.validator.core.storage.ClassKeyedCache;
 import org.apache.myfaces.extensions.validator.internal.UsageInformation;
 import org.apache.myfaces.extensions.validator.internal.UsageCategory;
 
@@ -36,6 +38,10 @@ public class BeanAwareValidatorFactory implements ValidatorFactory
 {
     private ValidatorFactory validatorFactory;
 
+    //validator classes which aren't available as managed beans - shared by all constraint-validator factories
+    private final ClassKeyedCache<Boolean> managedBeanAvailability =
+            new ClassKeyedCache<Boolean>(ExtValCoreConfiguration.get().storageCacheMaxSize());
+
     public BeanAwareValidatorFactory(ValidatorFactory validatorFactory)
     {
         setValidatorFactory(validatorFactory);
@@ -70,9 +76,15 @@ public class BeanAwareValidatorFactory implements ValidatorFactory
         return validatorFactory.getTraversableResolver();
     }
 
+    /**
+     * Bean-validation implementations cache the constraint-validators per constraint-validator factory.
+     * So a new factory is created per call - otherwise a validator bean would be reused independent of its scope.
+     * Only the results of failed bean lookups are shared.
+     */
     public ConstraintValidatorFactory getConstraintValidatorFactory()
     {
-        return new BeanAwareConstraintValidatorFactory(validatorFactory.getConstraintValidatorFactory());
+        return new BeanAwareConstraintValidatorFactory(
+                validatorFactory.getConstraintValidatorFactory(), this.managedBeanAvailability);
     }
 
     public <T> T unwrap(Class<T> tClass)
@@ -20,6 +20,7 @@ package org.apache.myfaces.extensions.validator.beanval;
 
 import org.apache.myfaces.extensions.validator.beanval.validation.strategy.BeanValidationVirtualValidationStrategy;
 import org.apache.myfaces.extensions.validator.beanval.util.BeanValidationUtils;
+import org.apache.myfaces.extensions.validator.beanval.storage.PropertyConstraintEntry;
 import org.apache.myfaces.extensions.validator.core.metadata.MetaDataEntry;
 import org.apache.myfaces.extensions.validator.core.metadata.extractor.MetaDataExtractor;
 import org.apache.myfaces.extensions.validator.core.metadata.transformer.MetaDataTransformer;
@@ -39,7 +40,9 @@ import javax.validation.ConstraintViolation;
 import javax.validation.groups.Default;
 import javax.validation.metadata.ConstraintDescriptor;
 import javax.validation.metadata.ElementDescriptor;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.logging.Logger;
@@ -100,22 +103,42 @@ class BeanValidationModuleValidationInterceptorInternals
 
         targetClass = ProxyUtils.getUnproxiedClass(targetClass);
 
-        ElementDescriptor elementDescriptor = BeanValidationUtils.getElementDescriptor(
+        PropertyConstraintEntry propertyConstraintEntry = BeanValidationUtils.getPropertyConstraintEntry(
                 targetClass, propertyDetails.getProperty());
 
-        if (elementDescriptor == null)
+        if (propertyConstraintEntry.getElementDescriptor() == null)
         {
             return;
         }
 
-        processElementDescriptor(facesContext, uiComponent, foundGroups, elementDescriptor);
+        processPropertyConstraintEntry(facesContext, uiComponent, foundGroups, propertyConstraintEntry);
     }
 
-    void processElementDescriptor(FacesContext facesContext,
-                                  UIComponent uiComponent,
-                                  Class[] foundGroups,
-                                  ElementDescriptor elementDescriptor)
+    void processPropertyConstraintEntry(FacesContext facesContext,
+                                        UIComponent uiComponent,
+                                        Class[] foundGroups,
+                                        PropertyConstraintEntry propertyConstraintEntry)
     {
+        List<Map<String, Object>> componentMetaData = propertyConstraintEntry.getComponentMetaData(foundGroups);
+
+        if (componentMetaData == null)
+        {
+            componentMetaData = transformElementDescriptor(foundGroups, propertyConstraintEntry.getElementDescriptor());
+            propertyConstraintEntry.setComponentMetaData(foundGroups, componentMetaData);
+        }
+
+        for (Map<String, Object> metaData : componentMetaData)
+        {
+            //component initializers are allowed to change the map
+            ExtValUtils.configureComponentWithMetaData(
+                    facesContext, uiComponent, new HashMap<String, Object>(metaData));
+        }
+    }
+
+    private List<Map<String, Object>> transformElementDescriptor(Class[] foundGroups,
+                                                                 ElementDescriptor elementDescriptor)
+    {
+        List<Map<String, Object>> result = new ArrayList<Map<String, Object>>();
         Map<String, Object> metaData;
 
         for (ConstraintDescriptor<?> constraintDescriptor :
@@ -126,9 +149,10 @@ class BeanValidationModuleValidationInterceptorInternals
 
             if (metaData != null && !metaData.isEmpty())
             {
-                ExtValUtils.configureComponentWithMetaData(facesContext, uiComponent, metaData);
+                result.add(metaData);
             }
         }
+        return result;
     }
 
     @ToDo(value = Priority.MEDIUM, description = "ConstraintDescriptor#isReportAsSingleViolation")
@@ -50,4 +50,30 @@ public class DefaultExtValBeanValidationModuleConfiguration extends ExtValBeanVa
 
         return null;
     }
+
+    @Override
+    public String constraintValidatorBeanNamePrefix()
+    {
+        return WebXmlParameter.CONSTRAINT_VALIDATOR_BEAN_NAME_PREFIX;
+    }
+
+    @Override
+    public int parallelModelValidationThreadCount()
+    {
+        String threadCount = WebXmlParameter.PARALLEL_MODEL_VALIDATION_THREAD_COUNT;
+
+        if (threadCount == null || threadCount.trim().length() == 0)
+        {
+            return 0;
+        }
+
+        try
+        {
+            return Integer.parseInt(threadCount.trim());
+        }
+        catch (NumberFormatException e)
+        {
+            return 0;
+        }
+    }
 }
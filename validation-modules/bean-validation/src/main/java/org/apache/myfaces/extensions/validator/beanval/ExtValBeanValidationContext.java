@@ -36,6 +36,7 @@ import org.apache.myfaces.extensions.validator.internal.UsageCategory;
 
 import javax.faces.context.FacesContext;
 import javax.validation.MessageInterpolator;
+import javax.validation.Validator;
 import javax.validation.ValidatorFactory;
 import java.util.Map;
 import java.util.List;
@@ -63,6 +64,10 @@ public class ExtValBeanValidationContext implements GroupStorage, ModelValidatio
 
     protected boolean developmentMode = false;
 
+    private volatile MessageInterpolatorEntry messageInterpolatorEntry;
+
+    private volatile ValidatorEntry validatorEntry;
+
     protected ExtValBeanValidationContext()
     {
         initGroupStorage();
@@ -125,12 +130,41 @@ public class ExtValBeanValidationContext implements GroupStorage, ModelValidatio
     {
         if(this.messageResolver != null)
         {
-            return new ExtValMessageInterpolatorAdapter(this.defaultMessageInterpolator, this.messageResolver);
+            MessageInterpolatorEntry entry = this.messageInterpolatorEntry;
+
+            if(entry == null || !entry.isCreatedFor(this.defaultMessageInterpolator, this.messageResolver))
+            {
+                entry = new MessageInterpolatorEntry(this.defaultMessageInterpolator, this.messageResolver);
+                this.messageInterpolatorEntry = entry;
+            }
+            return entry.messageInterpolator;
         }
 
         return this.defaultMessageInterpolator;
     }
 
+    /**
+     * Returns a validator which is configured with the current validator factory and message interpolator.
+     * The validator is created once and re-created as soon as the factory or the interpolator gets replaced.
+     *
+     * @return configured validator
+     * @since r7
+     */
+    public Validator getValidator()
+    {
+        ValidatorFactory currentValidatorFactory = getValidatorFactory();
+        MessageInterpolator currentMessageInterpolator = getMessageInterpolator();
+
+        ValidatorEntry entry = this.validatorEntry;
+
+        if(entry == null || !entry.isCreatedFor(currentValidatorFactory, currentMessageInterpolator))
+        {
+            entry = new ValidatorEntry(currentValidatorFactory, currentMessageInterpolator);
+            this.validatorEntry = entry;
+        }
+        return entry.validator;
+    }
+
     public void addGroup(Class groupClass, String viewId, String clientId)
     {
         this.groupStorage.addGroup(groupClass, viewId, clientId);
@@ -192,4 +226,49 @@ public class ExtValBeanValidationContext implements GroupStorage, ModelValidatio
     {
         return new BeanValidationVirtualValidationStrategy(null, null);
     }
+
+    private static class MessageInterpolatorEntry
+    {
+        private final MessageInterpolator defaultMessageInterpolator;
+        private final MessageResolver messageResolver;
+        private final MessageInterpolator messageInterpolator;
+
+        private MessageInterpolatorEntry(MessageInterpolator defaultMessageInterpolator,
+                                         MessageResolver messageResolver)
+        {
+            this.defaultMessageInterpolator = defaultMessageInterpolator;
+            this.messageResolver = messageResolver;
+            this.messageInterpolator =
+                    new ExtValMessageInterpolatorAdapter(defaultMessageInterpolator, messageResolver);
+        }
+
+        private boolean isCreatedFor(MessageInterpolator defaultMessageInterpolator, MessageResolver messageResolver)
+        {
+            return this.defaultMessageInterpolator == defaultMessageInterpolator &&
+                    this.messageResolver == messageResolver;
+        }
+    }
+
+    private static class ValidatorEntry
+    {
+        private final ValidatorFactory validatorFactory;
+        private final MessageInterpolator messageInterpolator;
+        private final Validator validator;
+
+        private ValidatorEntry(ValidatorFactory validatorFactory, MessageInterpolator messageInterpolator)
+        {
+            this.validatorFactory = validatorFactory;
+            this.messageInterpolator = messageInterpolator;
+            this.validator = validatorFactory.usingContext()
+                    .messageInterpolator(messageInterpolator)
+                    .constraintValidatorFactory(validatorFactory.getConstraintValidatorFactory())
+                    .traversableResolver(validatorFactory.getTraversableResolver())
+                    .getValidator();
+        }
+
+        private boolean isCreatedFor(ValidatorFactory validatorFactory, MessageInterpolator messageInterpolator)
+        {
+            return this.validatorFactory == validatorFactory && this.messageInterpolator == messageInterpolator;
+        }
+    }
 }
@@ -114,4 +114,24 @@ public abstract class ExtValBeanValidationModuleConfiguration implements ExtValM
      * @return an instance of a custom {@link ExtValBeanValidationContext}, null otherwise
      */
     public abstract ExtValBeanValidationContext customExtValBeanValidationContext();
+
+    /**
+     * Constraint-validators can be managed beans. The name of such a bean is the decapitalized simple name of the
+     * validator class with this prefix.
+     *
+     * @return the prefix of the bean-names of constraint-validators, null or an empty string for no prefix
+     * @since r7
+     */
+    public abstract String constraintValidatorBeanNamePrefix();
+
+    /**
+     * Allows to validate the targets of the model-validation in parallel.
+     * The message interpolation, the creation of constraint-validators (e.g. managed beans) and all other parts which
+     * need the FacesContext are processed by the request thread. The constraint-validators themselves are executed by
+     * the worker threads, so they mustn't use the FacesContext in this mode.
+     *
+     * @return the max. number of threads per request, a value less than 2 deactivates the parallel validation
+     * @since r7
+     */
+    public abstract int parallelModelValidationThreadCount();
 }
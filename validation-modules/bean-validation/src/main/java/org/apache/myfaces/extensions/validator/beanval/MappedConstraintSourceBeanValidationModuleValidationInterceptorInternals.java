@@ -25,6 +25,7 @@ import org.apache.myfaces.extensions.validator.internal.UsageInformation;
 import org.apache.myfaces.extensions.validator.util.ExtValUtils;
 import org.apache.myfaces.extensions.validator.util.ConstraintSourceUtils;
 import org.apache.myfaces.extensions.validator.beanval.util.BeanValidationUtils;
+import org.apache.myfaces.extensions.validator.beanval.storage.PropertyConstraintEntry;
 
 import javax.faces.component.UIComponent;
 import javax.faces.context.FacesContext;
@@ -74,16 +75,16 @@ class MappedConstraintSourceBeanValidationModuleValidationInterceptorInternals
             return;
         }
 
-        ElementDescriptor elementDescriptor =
-                BeanValidationUtils.getElementDescriptor((Class) constraintSourcePropertyDetails.getBaseObject(),
+        PropertyConstraintEntry propertyConstraintEntry =
+                BeanValidationUtils.getPropertyConstraintEntry((Class) constraintSourcePropertyDetails.getBaseObject(),
                         constraintSourcePropertyDetails.getProperty());
 
-        if (elementDescriptor == null)
+        if (propertyConstraintEntry.getElementDescriptor() == null)
         {
             return;
         }
 
-        this.bviUtils.processElementDescriptor(facesContext, uiComponent, foundGroups, elementDescriptor);
+        this.bviUtils.processPropertyConstraintEntry(facesContext, uiComponent, foundGroups, propertyConstraintEntry);
     }
 
     Set<ConstraintViolation<Object>> validateMappedConstraintSource(FacesContext facesContext,
@@ -0,0 +1,44 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.myfaces.extensions.validator.beanval;
+
+import org.apache.myfaces.extensions.validator.util.WebXmlUtils;
+import org.apache.myfaces.extensions.validator.internal.UsageInformation;
+import org.apache.myfaces.extensions.validator.internal.UsageCategory;
+
+/**
+ * centralized in order that these information arn't spread over the complete code base
+ *
+ * @since r7
+ */
+@UsageInformation(UsageCategory.INTERNAL)
+interface WebXmlParameter
+{
+    /**
+     * Prefix of the bean-names of constraint-validators which are managed beans (default: no prefix)
+     */
+    static final String CONSTRAINT_VALIDATOR_BEAN_NAME_PREFIX = WebXmlUtils
+            .getInitParameter("CONSTRAINT_VALIDATOR_BEAN_NAME_PREFIX");
+
+    /**
+     * Max. number of threads which validate the targets of the model-validation (default: 0 - no parallel validation)
+     */
+    static final String PARALLEL_MODEL_VALIDATION_THREAD_COUNT = WebXmlUtils
+            .getInitParameter("PARALLEL_MODEL_VALIDATION_THREAD_COUNT");
+}
@@ -28,9 +28,12 @@ import org.apache.myfaces.extensions.validator.beanval.interceptor.ExtValBeanVal
 import org.apache.myfaces.extensions.validator.beanval.validation.ModelValidationPhaseListener;
 import org.apache.myfaces.extensions.validator.beanval.metadata.transformer.mapper.SizeNameMapper;
 import org.apache.myfaces.extensions.validator.beanval.metadata.transformer.mapper.NotNullNameMapper;
+import org.apache.myfaces.extensions.validator.beanval.storage.BeanValidationMetaDataStorage;
+import org.apache.myfaces.extensions.validator.beanval.storage.DefaultBeanValidationMetaDataStorageManager;
 import org.apache.myfaces.extensions.validator.beanval.storage.DefaultModelValidationStorageManager;
 import org.apache.myfaces.extensions.validator.beanval.storage.ModelValidationStorage;
 import org.apache.myfaces.extensions.validator.beanval.storage.mapper.BeanValidationGroupStorageNameMapper;
+import org.apache.myfaces.extensions.validator.beanval.storage.mapper.BeanValidationMetaDataStorageNameMapper;
 import org.apache.myfaces.extensions.validator.beanval.storage.mapper.ModelValidationStorageNameMapper;
 import org.apache.myfaces.extensions.validator.core.ExtValContext;
 import org.apache.myfaces.extensions.validator.core.factory.AbstractNameMapperAwareFactory;
@@ -61,6 +64,7 @@ public class BeanValidationStartupListener extends AbstractStartupListener
         registerMetaDataTransformerNameMapper();
         registerGroupStorageNameMapper();
         registerModelValidationStorageNameMapper();
+        registerBeanValidationMetaDataStorageNameMapper();
         registerComponentInitializers();
         registerMetaDataExtractionInterceptors();
         registerPhaseListeners();
@@ -113,6 +117,15 @@ public class BeanValidationStartupListener extends AbstractStartupListener
         getStorageManagerHolder().setStorageManager(ModelValidationStorage.class, modelValidationStorageManager, false);
     }
 
+    protected void registerBeanValidationMetaDataStorageNameMapper()
+    {
+        DefaultBeanValidationMetaDataStorageManager metaDataStorageManager =
+                new DefaultBeanValidationMetaDataStorageManager();
+        metaDataStorageManager.register(new BeanValidationMetaDataStorageNameMapper());
+        getStorageManagerHolder().setStorageManager(
+                BeanValidationMetaDataStorage.class, metaDataStorageManager, false);
+    }
+
     protected void registerComponentInitializers()
     {
         ExtValContext.getContext().addComponentInitializer(new HtmlCoreComponentsComponentInitializer());
@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.myfaces.extensions.validator.beanval.storage;
+
+import org.apache.myfaces.extensions.validator.core.ExtValCoreConfiguration;
+import org.apache.myfaces.extensions.validator.core.storage.CacheStatistics;
+import org.apache.myfaces.extensions.validator.core.storage.ClassKeyedCache;
+import org.apache.myfaces.extensions.validator.internal.UsageInformation;
+import static org.apache.myfaces.extensions.validator.internal.UsageCategory.INTERNAL;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Keeps the bean-validation meta-data of the properties of the most recently used classes.
+ * The max. number of classes is defined by {@link ExtValCoreConfiguration#storageCacheMaxSize()}.
+ *
+ * @since r7
+ */
+@UsageInformation(INTERNAL)
+public class DefaultBeanValidationMetaDataStorage implements BeanValidationMetaDataStorage
+{
+    private ClassKeyedCache<ConcurrentMap<String, PropertyConstraintEntry>> propertyConstraintEntries =
+            new ClassKeyedCache<ConcurrentMap<String, PropertyConstraintEntry>>(
+                    ExtValCoreConfiguration.get().storageCacheMaxSize());
+
+    public PropertyConstraintEntry getPropertyConstraintEntry(Class targetClass, String property)
+    {
+        ConcurrentMap<String, PropertyConstraintEntry> entriesOfClass = this.propertyConstraintEntries.get(targetClass);
+
+        if (entriesOfClass == null)
+        {
+            return null;
+        }
+        return entriesOfClass.get(property);
+    }
+
+    public void setPropertyConstraintEntry(Class targetClass, String property, PropertyConstraintEntry entry)
+    {
+        ConcurrentMap<String, PropertyConstraintEntry> entriesOfClass = this.propertyConstraintEntries.get(targetClass);
+
+        if (entriesOfClass == null)
+        {
+            entriesOfClass = this.propertyConstraintEntries.putIfAbsent(
+                    targetClass, new ConcurrentHashMap<String, PropertyConstraintEntry>());
+        }
+        entriesOfClass.put(property, entry);
+    }
+
+    public CacheStatistics getCacheStatistics()
+    {
+        return this.propertyConstraintEntries.getStatistics();
+    }
+}
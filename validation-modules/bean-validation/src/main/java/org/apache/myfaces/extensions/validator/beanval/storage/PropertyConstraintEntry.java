@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.myfaces.extensions.validator.beanval.storage;
+
+import org.apache.myfaces.extensions.validator.internal.UsageInformation;
+import org.apache.myfaces.extensions.validator.internal.UsageCategory;
+
+import javax.validation.ValidatorFactory;
+import javax.validation.metadata.ElementDescriptor;
+import javax.validation.metadata.PropertyDescriptor;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Bean-validation meta-data of a property which was resolved via a specific {@link ValidatorFactory}.
+ * <p/>
+ * Besides the element-descriptor (null if the property isn't constrained) it keeps the meta-data which was
+ * transformed for the component initialization - per group-set.
+ *
+ * @since r7
+ */
+@UsageInformation(UsageCategory.INTERNAL)
+public final class PropertyConstraintEntry
+{
+    private final ValidatorFactory validatorFactory;
+    private final ElementDescriptor elementDescriptor;
+    private final boolean cascaded;
+
+    private final ConcurrentMap<String, List<Map<String, Object>>> componentMetaData =
+            new ConcurrentHashMap<String, List<Map<String, Object>>>();
+
+    public PropertyConstraintEntry(ValidatorFactory validatorFactory, ElementDescriptor elementDescriptor)
+    {
+        this.validatorFactory = validatorFactory;
+        this.elementDescriptor = elementDescriptor;
+        this.cascaded = elementDescriptor instanceof PropertyDescriptor &&
+                ((PropertyDescriptor) elementDescriptor).isCascaded();
+    }
+
+    public boolean isCreatedBy(ValidatorFactory validatorFactory)
+    {
+        return this.validatorFactory == validatorFactory;
+    }
+
+    /**
+     * @return the element-descriptor of the property or null if there are no constraints for the property
+     */
+    public ElementDescriptor getElementDescriptor()
+    {
+        return elementDescriptor;
+    }
+
+    public boolean isCascaded()
+    {
+        return cascaded;
+    }
+
+    /**
+     * @param groups the groups which were used to find the matching constraints
+     * @return the transformed (read-only) meta-data of the matching constraints or null if it isn't cached
+     */
+    public List<Map<String, Object>> getComponentMetaData(Class[] groups)
+    {
+        return this.componentMetaData.get(createGroupKey(groups));
+    }
+
+    public void setComponentMetaData(Class[] groups, List<Map<String, Object>> metaData)
+    {
+        this.componentMetaData.put(createGroupKey(groups), Collections.unmodifiableList(metaData));
+    }
+
+    private String createGroupKey(Class[] groups)
+    {
+        StringBuilder groupKey = new StringBuilder();
+
+        for (Class group : groups)
+        {
+            groupKey.append(group.getName()).append(';');
+        }
+        return groupKey.toString();
+    }
+}
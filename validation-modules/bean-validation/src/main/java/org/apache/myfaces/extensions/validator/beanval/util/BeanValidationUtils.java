@@ -19,6 +19,8 @@
 package org.apache.myfaces.extensions.validator.beanval.util;
 
 import org.apache.myfaces.extensions.validator.beanval.storage.ModelValidationEntry;
+import org.apache.myfaces.extensions.validator.beanval.storage.BeanValidationMetaDataStorage;
+import org.apache.myfaces.extensions.validator.beanval.storage.PropertyConstraintEntry;
 import org.apache.myfaces.extensions.validator.beanval.ExtValBeanValidationContext;
 import org.apache.myfaces.extensions.validator.core.el.ELHelper;
 import org.apache.myfaces.extensions.validator.core.property.PropertyDetails;
@@ -32,10 +34,10 @@ import javax.faces.component.UIComponent;
 import javax.faces.context.FacesContext;
 import javax.faces.validator.ValidatorException;
 import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
 import javax.validation.ValidatorFactory;
 import javax.validation.Validation;
 import javax.validation.metadata.ElementDescriptor;
-import javax.validation.metadata.PropertyDescriptor;
 import javax.validation.metadata.BeanDescriptor;
 import java.util.ArrayList;
 import java.util.List;
@@ -65,49 +67,65 @@ public class BeanValidationUtils
                                                             Class[] groups,
                                                             boolean cascadedValidation)
     {
-        ValidatorFactory validatorFactory = ExtValBeanValidationContext.getCurrentInstance().getValidatorFactory();
+        Validator validator = ExtValBeanValidationContext.getCurrentInstance().getValidator();
         Set<ConstraintViolation<Object>> result =
-                validatorFactory.usingContext()
-                .messageInterpolator(ExtValBeanValidationContext.getCurrentInstance().getMessageInterpolator())
-                .constraintValidatorFactory(validatorFactory.getConstraintValidatorFactory())
-                .traversableResolver(validatorFactory.getTraversableResolver())
-                .getValidator()
-                .validateValue(baseClass, propertyName, objectToValidate, groups);
+                validator.validateValue(baseClass, propertyName, objectToValidate, groups);
 
         if(result.isEmpty() && cascadedValidation && objectToValidate != null)
         {
-            result = processCascadedValidation(validatorFactory, baseClass, propertyName, objectToValidate, groups);
+            result = processCascadedValidation(validator, baseClass, propertyName, objectToValidate, groups);
         }
 
         return result;
     }
 
-    private static Set<ConstraintViolation<Object>> processCascadedValidation(ValidatorFactory validatorFactory,
+    private static Set<ConstraintViolation<Object>> processCascadedValidation(Validator validator,
                                                                               Class baseBeanClass,
                                                                               String propertyName,
                                                                               Object objectToValidate,
                                                                               Class[] groups)
     {
-        ElementDescriptor elementDescriptor = getElementDescriptor(baseBeanClass, propertyName);
-
-        if(elementDescriptor instanceof PropertyDescriptor && ((PropertyDescriptor)elementDescriptor).isCascaded())
+        if(getPropertyConstraintEntry(baseBeanClass, propertyName).isCascaded())
         {
-            return validatorFactory.usingContext()
-                .messageInterpolator(ExtValBeanValidationContext.getCurrentInstance().getMessageInterpolator())
-                .constraintValidatorFactory(validatorFactory.getConstraintValidatorFactory())
-                .traversableResolver(validatorFactory.getTraversableResolver())
-                .getValidator()
-                .validate(objectToValidate, groups);
+            return validator.validate(objectToValidate, groups);
         }
         return Collections.emptySet();
     }
 
     public static ElementDescriptor getElementDescriptor(Class targetClass, String property)
     {
-        BeanDescriptor beanDescriptor = ExtValBeanValidationContext.getCurrentInstance().getValidatorFactory()
-                .getValidator().getConstraintsForClass(targetClass);
+        return getPropertyConstraintEntry(targetClass, property).getElementDescriptor();
+    }
+
+    /**
+     * The descriptors of a class don't change, so the result is cached per validator-factory.
+     *
+     * @param targetClass class of the bean
+     * @param property name of the property
+     * @return the bean-validation meta-data of the given property
+     * @since r7
+     */
+    public static PropertyConstraintEntry getPropertyConstraintEntry(Class targetClass, String property)
+    {
+        ValidatorFactory validatorFactory = ExtValBeanValidationContext.getCurrentInstance().getValidatorFactory();
+        BeanValidationMetaDataStorage storage = getBeanValidationMetaDataStorage();
+
+        PropertyConstraintEntry entry = storage.getPropertyConstraintEntry(targetClass, property);
 
-        return beanDescriptor.getConstraintsForProperty(property);
+        if (entry == null || !entry.isCreatedBy(validatorFactory))
+        {
+            BeanDescriptor beanDescriptor = validatorFactory.getValidator().getConstraintsForClass(targetClass);
+
+            entry = new PropertyConstraintEntry(validatorFactory, beanDescriptor.getConstraintsForProperty(property));
+            storage.setPropertyConstraintEntry(targetClass, property, entry);
+        }
+        return entry;
+    }
+
+    private static BeanValidationMetaDataStorage getBeanValidationMetaDataStorage()
+    {
+        return ExtValUtils.getStorage(BeanValidationMetaDataStorage.class,
+                BeanValidationMetaDataStorage.class.getName());
     }
 
     public static void addMetaDataToContext(
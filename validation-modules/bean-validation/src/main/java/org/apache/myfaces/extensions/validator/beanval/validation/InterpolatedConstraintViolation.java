@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.myfaces.extensions.validator.beanval.validation;
+
+import org.apache.myfaces.extensions.validator.internal.UsageInformation;
+import org.apache.myfaces.extensions.validator.internal.UsageCategory;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Path;
+import javax.validation.metadata.ConstraintDescriptor;
+
+/**
+ * wraps a constraint-violation to replace its message
+ *
+ * @since r7
+ */
+@UsageInformation(UsageCategory.INTERNAL)
+class InterpolatedConstraintViolation<T> implements ConstraintViolation<T>
+{
+    private final ConstraintViolation<T> wrapped;
+    private final String message;
+
+    InterpolatedConstraintViolation(ConstraintViolation<T> wrapped, String message)
+    {
+        this.wrapped = wrapped;
+        this.message = message;
+    }
+
+    public String getMessage()
+    {
+        return message;
+    }
+
+    public String getMessageTemplate()
+    {
+        return wrapped.getMessageTemplate();
+    }
+
+    public T getRootBean()
+    {
+        return wrapped.getRootBean();
+    }
+
+    public Class<T> getRootBeanClass()
+    {
+        return wrapped.getRootBeanClass();
+    }
+
+    public Object getLeafBean()
+    {
+        return wrapped.getLeafBean();
+    }
+
+    public Path getPropertyPath()
+    {
+        return wrapped.getPropertyPath();
+    }
+
+    public Object getInvalidValue()
+    {
+        return wrapped.getInvalidValue();
+    }
+
+    public ConstraintDescriptor<?> getConstraintDescriptor()
+    {
+        return wrapped.getConstraintDescriptor();
+    }
+}
@@ -20,6 +20,7 @@ package org.apache.myfaces.extensions.validator.beanval.validation;
 
 import org.apache.myfaces.extensions.validator.beanval.BeanValidationModuleKey;
 import org.apache.myfaces.extensions.validator.beanval.ExtValBeanValidationContext;
+import org.apache.myfaces.extensions.validator.beanval.ExtValBeanValidationModuleConfiguration;
 import org.apache.myfaces.extensions.validator.beanval.annotation.ModelValidation;
 import org.apache.myfaces.extensions.validator.beanval.storage.ModelValidationEntry;
 import org.apache.myfaces.extensions.validator.beanval.util.BeanValidationUtils;
@@ -42,8 +43,6 @@ import javax.faces.event.PhaseId;
 import javax.faces.event.PhaseListener;
 import javax.validation.ConstraintViolation;
 import javax.validation.MessageInterpolator;
-import javax.validation.Path;
-import javax.validation.ValidatorFactory;
 import javax.validation.metadata.ConstraintDescriptor;
 import java.util.Map;
 import java.util.HashMap;
@@ -72,9 +71,18 @@ public class ModelValidationPhaseListener implements PhaseListener
 
         Map<String, ModelValidationResult> results = new HashMap<String, ModelValidationResult>();
 
-        for (ModelValidationEntry modelValidationEntry : getModelValidationEntriesToValidate())
+        int threadCount = ExtValBeanValidationModuleConfiguration.get().parallelModelValidationThreadCount();
+
+        if (threadCount > 1)
+        {
+            processParallelModelValidation(threadCount, processedValidationTargets, results);
+        }
+        else
         {
-            processModelValidation(modelValidationEntry, processedValidationTargets, results);
+            for (ModelValidationEntry modelValidationEntry : getModelValidationEntriesToValidate())
+            {
+                processModelValidation(modelValidationEntry, processedValidationTargets, results, null);
+            }
         }
 
         processModelValidationResults(results);
@@ -89,9 +97,46 @@ public class ModelValidationPhaseListener implements PhaseListener
         return ExtValBeanValidationContext.getCurrentInstance().getModelValidationEntriesToValidate();
     }
 
+    /*
+     * the interceptors and the processing of the results use the FacesContext - so they are executed by the
+     * request thread in the same order as in case of the sequential validation
+     */
+    private void processParallelModelValidation(int threadCount,
+                                                Map<Object, List<Class>> processedValidationTargets,
+                                                Map<String, ModelValidationResult> results)
+    {
+        List<ModelValidationTask> validationTasks = new ArrayList<ModelValidationTask>();
+
+        for (ModelValidationEntry modelValidationEntry : getModelValidationEntriesToValidate())
+        {
+            processModelValidation(modelValidationEntry, processedValidationTargets, results, validationTasks);
+        }
+
+        new ParallelModelValidator(threadCount).validate(validationTasks);
+
+        FacesContext facesContext = FacesContext.getCurrentInstance();
+        Set<ConstraintViolation<Object>> violations;
+
+        for (ModelValidationTask validationTask : validationTasks)
+        {
+            violations = validationTask.getViolations();
+
+            if (violations != null && !violations.isEmpty())
+            {
+                processViolations(facesContext, validationTask.getModelValidationEntry(),
+                        validationTask.getValidationTarget(), violations, results);
+            }
+        }
+    }
+
+    /**
+     * @param deferredValidationTasks null for an immediate validation, otherwise the validation of the targets
+     * is added to the given list
+     */
     private void processModelValidation(ModelValidationEntry modelValidationEntry,
                                         Map<Object, List<Class>> processedValidationTargets,
-                                        Map<String, ModelValidationResult> results)
+                                        Map<String, ModelValidationResult> results,
+                                        List<ModelValidationTask> deferredValidationTasks)
     {
         FacesContext facesContext = FacesContext.getCurrentInstance();
         PropertyInformation propertyInformation;
@@ -128,6 +173,14 @@ public class ModelValidationPhaseListener implements PhaseListener
             }
 
             addProcessedTarget(validationTarget, groupsToValidate, processedValidationTargets);
+
+            if (deferredValidationTasks != null)
+            {
+                deferredValidationTasks.add(
+                        new ModelValidationTask(modelValidationEntry, validationTarget, groupsToValidate));
+                continue;
+            }
+
             violations = validateTarget(validationTarget, groupsToValidate);
 
             if (violations != null && !violations.isEmpty())
@@ -228,14 +281,7 @@ public class ModelValidationPhaseListener implements PhaseListener
             return null;
         }
 
-        ValidatorFactory validatorFactory = ExtValBeanValidationContext.getCurrentInstance().getValidatorFactory();
-        return validatorFactory
-                .usingContext()
-                .messageInterpolator(ExtValBeanValidationContext.getCurrentInstance().getMessageInterpolator())
-                .constraintValidatorFactory(validatorFactory.getConstraintValidatorFactory())
-                .traversableResolver(validatorFactory.getTraversableResolver())
-                .getValidator()
-                .validate(validationTarget, groups);
+        return ExtValBeanValidationContext.getCurrentInstance().getValidator().validate(validationTarget, groups);
     }
 
     private void processViolations(FacesContext facesContext,
@@ -311,50 +357,8 @@ public class ModelValidationPhaseListener implements PhaseListener
         final String newViolationMessage = tryToChangeViolationMessage(
                 modelValidationEntry, validationTarget, violation);
 
-        ConstraintViolation newConstraintViolation = new ConstraintViolation()
-        {
-            private ConstraintViolation wrapped = violation;
-
-            public String getMessage()
-            {
-                return newViolationMessage;
-            }
-
-            public String getMessageTemplate()
-            {
-                return wrapped.getMessageTemplate();
-            }
-
-            public Object getRootBean()
-            {
-                return wrapped.getRootBean();
-            }
-
-            public Class getRootBeanClass()
-            {
-                return wrapped.getRootBeanClass();
-            }
-
-            public Object getLeafBean()
-            {
-                return wrapped.getLeafBean();
-            }
-
-            public Path getPropertyPath()
-            {
-                return wrapped.getPropertyPath();
-            }
-
-            public Object getInvalidValue()
-            {
-                return wrapped.getInvalidValue();
-            }
-
-            public ConstraintDescriptor getConstraintDescriptor()
-            {
-                return wrapped.getConstraintDescriptor();
-            }
-        };
+        ConstraintViolation newConstraintViolation =
+                new InterpolatedConstraintViolation<Object>(violation, newViolationMessage);
 
 
         UIComponent uiComponent = null;
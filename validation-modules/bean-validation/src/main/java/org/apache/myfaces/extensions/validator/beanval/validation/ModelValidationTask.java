@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.myfaces.extensions.validator.beanval.validation;
+
+import org.apache.myfaces.extensions.validator.beanval.storage.ModelValidationEntry;
+import org.apache.myfaces.extensions.validator.internal.UsageInformation;
+import org.apache.myfaces.extensions.validator.internal.UsageCategory;
+
+import javax.validation.ConstraintViolation;
+import java.util.Set;
+
+/**
+ * a validation target of the model-validation which gets validated after all targets are collected
+ *
+ * @since r7
+ */
+@UsageInformation(UsageCategory.INTERNAL)
+class ModelValidationTask
+{
+    private final ModelValidationEntry modelValidationEntry;
+    private final Object validationTarget;
+    private final Class[] groups;
+    private Set<ConstraintViolation<Object>> violations;
+
+    ModelValidationTask(ModelValidationEntry modelValidationEntry, Object validationTarget, Class[] groups)
+    {
+        this.modelValidationEntry = modelValidationEntry;
+        this.validationTarget = validationTarget;
+        this.groups = groups;
+    }
+
+    ModelValidationEntry getModelValidationEntry()
+    {
+        return modelValidationEntry;
+    }
+
+    Object getValidationTarget()
+    {
+        return validationTarget;
+    }
+
+    Class[] getGroups()
+    {
+        return groups;
+    }
+
+    Set<ConstraintViolation<Object>> getViolations()
+    {
+        return violations;
+    }
+
+    void setViolations(Set<ConstraintViolation<Object>> violations)
+    {
+        this.violations = violations;
+    }
+}
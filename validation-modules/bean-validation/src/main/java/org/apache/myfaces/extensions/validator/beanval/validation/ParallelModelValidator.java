@@ -0,0 +1,405 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.myfaces.extensions.validator.beanval.validation;
+
+import org.apache.myfaces.extensions.validator.beanval.ExtValBeanValidationContext;
+import org.apache.myfaces.extensions.validator.internal.UsageInformation;
+import org.apache.myfaces.extensions.validator.internal.UsageCategory;
+
+import javax.validation.ConstraintValidatorFactory;
+import javax.validation.ConstraintViolation;
+import javax.validation.MessageInterpolator;
+import javax.validation.Validator;
+import javax.validation.ValidatorFactory;
+import javax.validation.metadata.ConstraintDescriptor;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Validates the targets of the model-validation in parallel.
+ * <p/>
+ * Every target (compared by identity) gets validated just once per group-set. The targets are partitioned and
+ * all partitions but the first one are validated by a shared and bounded thread-pool. The request thread validates
+ * the first partition. The violation messages are interpolated afterwards by the request thread, because message
+ * interpolation requires the FacesContext. For the same reason constraint-validators are created by the request
+ * thread (see {@link RequestThreadConstraintValidatorFactory}) - it processes the lookups of the worker threads
+ * while it waits for them.
+ *
+ * @since r7
+ */
+@UsageInformation(UsageCategory.INTERNAL)
+class ParallelModelValidator
+{
+    private static final Runnable NO_LOOKUP = new Runnable()
+    {
+        public void run()
+        {
+        }
+    };
+
+    private static ThreadPoolExecutor executorService;
+
+    private final int threadCount;
+
+    ParallelModelValidator(int threadCount)
+    {
+        this.threadCount = threadCount;
+    }
+
+    void validate(List<ModelValidationTask> validationTasks)
+    {
+        Map<ModelValidationTask, ModelValidationTask> duplicatedTasks =
+                new IdentityHashMap<ModelValidationTask, ModelValidationTask>();
+        List<ModelValidationTask> distinctTasks = findDistinctTasks(validationTasks, duplicatedTasks);
+
+        if (distinctTasks.isEmpty())
+        {
+            return;
+        }
+
+        ValidatorFactory validatorFactory = ExtValBeanValidationContext.getCurrentInstance().getValidatorFactory();
+        //created per validation - validator beans have to be looked up in the scopes of the current request
+        RequestThreadConstraintValidatorFactory requestThreadConstraintValidatorFactory =
+                new RequestThreadConstraintValidatorFactory(validatorFactory.getConstraintValidatorFactory());
+        Validator validator = createValidator(validatorFactory, requestThreadConstraintValidatorFactory);
+
+        List<List<ModelValidationTask>> partitions = createPartitions(distinctTasks);
+        List<Future<?>> futures = new ArrayList<Future<?>>(partitions.size());
+        BlockingQueue<Runnable> lookupQueue = new LinkedBlockingQueue<Runnable>();
+
+        try
+        {
+            Thread requestThread = Thread.currentThread();
+            FutureTask<Object> future;
+            for (int i = 1; i < partitions.size(); i++)
+            {
+                future = createValidationFuture(partitions.get(i), validator, requestThread,
+                        requestThreadConstraintValidatorFactory, lookupQueue);
+                futures.add(future);
+                getExecutorService(this.threadCount).execute(future);
+            }
+
+            validatePartition(partitions.get(0), validator);
+        }
+        finally
+        {
+            //the worker threads might wait for lookups - so the request thread has to process them in any case
+            processLookupsUntilDone(futures, lookupQueue);
+        }
+
+        for (Future<?> future : futures)
+        {
+            waitFor(future);
+        }
+
+        for (ModelValidationTask validationTask : distinctTasks)
+        {
+            validationTask.setViolations(interpolateViolations(validationTask));
+        }
+
+        for (Map.Entry<ModelValidationTask, ModelValidationTask> duplicatedTask : duplicatedTasks.entrySet())
+        {
+            duplicatedTask.getKey().setViolations(duplicatedTask.getValue().getViolations());
+        }
+    }
+
+    private List<ModelValidationTask> findDistinctTasks(List<ModelValidationTask> validationTasks,
+                                                        Map<ModelValidationTask, ModelValidationTask> duplicatedTasks)
+    {
+        List<ModelValidationTask> result = new ArrayList<ModelValidationTask>();
+        Map<Object, List<ModelValidationTask>> tasksOfTarget = new IdentityHashMap<Object, List<ModelValidationTask>>();
+
+        List<ModelValidationTask> existingTasks;
+        ModelValidationTask existingTask;
+        for (ModelValidationTask validationTask : validationTasks)
+        {
+            if (validationTask.getGroups() == null || validationTask.getGroups().length == 0)
+            {
+                continue;
+            }
+
+            existingTasks = tasksOfTarget.get(validationTask.getValidationTarget());
+
+            if (existingTasks == null)
+            {
+                existingTasks = new ArrayList<ModelValidationTask>();
+                tasksOfTarget.put(validationTask.getValidationTarget(), existingTasks);
+            }
+
+            existingTask = findTaskForGroups(existingTasks, validationTask.getGroups());
+
+            if (existingTask != null)
+            {
+                duplicatedTasks.put(validationTask, existingTask);
+            }
+            else
+            {
+                existingTasks.add(validationTask);
+                result.add(validationTask);
+            }
+        }
+        return result;
+    }
+
+    private ModelValidationTask findTaskForGroups(List<ModelValidationTask> validationTasks, Class[] groups)
+    {
+        for (ModelValidationTask validationTask : validationTasks)
+        {
+            if (Arrays.equals(validationTask.getGroups(), groups))
+            {
+                return validationTask;
+            }
+        }
+        return null;
+    }
+
+    private List<List<ModelValidationTask>> createPartitions(List<ModelValidationTask> validationTasks)
+    {
+        int partitionCount = Math.min(this.threadCount, validationTasks.size());
+        List<List<ModelValidationTask>> result = new ArrayList<List<ModelValidationTask>>(partitionCount);
+
+        for (int i = 0; i < partitionCount; i++)
+        {
+            result.add(new ArrayList<ModelValidationTask>());
+        }
+
+        for (int i = 0; i < validationTasks.size(); i++)
+        {
+            result.get(i % partitionCount).add(validationTasks.get(i));
+        }
+        return result;
+    }
+
+    /*
+     * if the pool is busy, the request thread executes the future on its own - in this case it isn't a worker thread
+     */
+    private FutureTask<Object> createValidationFuture(
+            final List<ModelValidationTask> partition,
+            final Validator validator,
+            final Thread requestThread,
+            final RequestThreadConstraintValidatorFactory requestThreadConstraintValidatorFactory,
+            final BlockingQueue<Runnable> lookupQueue)
+    {
+        final ClassLoader classLoader = requestThread.getContextClassLoader();
+
+        return new FutureTask<Object>(new Callable<Object>()
+        {
+            public Object call()
+            {
+                Thread currentThread = Thread.currentThread();
+
+                if (currentThread == requestThread)
+                {
+                    validatePartition(partition, validator);
+                    return null;
+                }
+
+                ClassLoader originalClassLoader = currentThread.getContextClassLoader();
+                currentThread.setContextClassLoader(classLoader);
+                requestThreadConstraintValidatorFactory.bindLookupQueue(lookupQueue);
+
+                try
+                {
+                    validatePartition(partition, validator);
+                }
+                finally
+                {
+                    requestThreadConstraintValidatorFactory.bindLookupQueue(null);
+                    currentThread.setContextClassLoader(originalClassLoader);
+                }
+                return null;
+            }
+        })
+        {
+            @Override
+            protected void done()
+            {
+                //wakes up the request thread
+                lookupQueue.add(NO_LOOKUP);
+            }
+        };
+    }
+
+    private void processLookupsUntilDone(List<Future<?>> futures, BlockingQueue<Runnable> lookupQueue)
+    {
+        try
+        {
+            for (Future<?> future : futures)
+            {
+                while (!future.isDone())
+                {
+                    lookupQueue.take().run();
+                }
+            }
+        }
+        catch (InterruptedException e)
+        {
+            for (Future<?> future : futures)
+            {
+                future.cancel(true);
+            }
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void validatePartition(List<ModelValidationTask> partition, Validator validator)
+    {
+        for (ModelValidationTask validationTask : partition)
+        {
+            validationTask.setViolations(
+                    validator.validate(validationTask.getValidationTarget(), validationTask.getGroups()));
+        }
+    }
+
+    private void waitFor(Future<?> future)
+    {
+        try
+        {
+            future.get();
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+        catch (ExecutionException e)
+        {
+            if (e.getCause() instanceof RuntimeException)
+            {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error)
+            {
+                throw (Error) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /*
+     * the messages are interpolated by the request thread
+     */
+    private Validator createValidator(ValidatorFactory validatorFactory,
+                                      ConstraintValidatorFactory constraintValidatorFactory)
+    {
+        return validatorFactory.usingContext()
+                .messageInterpolator(new MessageTemplateInterpolator())
+                .constraintValidatorFactory(constraintValidatorFactory)
+                .traversableResolver(validatorFactory.getTraversableResolver())
+                .getValidator();
+    }
+
+    private Set<ConstraintViolation<Object>> interpolateViolations(ModelValidationTask validationTask)
+    {
+        Set<ConstraintViolation<Object>> violations = validationTask.getViolations();
+
+        if (violations == null || violations.isEmpty())
+        {
+            return violations;
+        }
+
+        MessageInterpolator messageInterpolator =
+                ExtValBeanValidationContext.getCurrentInstance().getMessageInterpolator();
+        Set<ConstraintViolation<Object>> result = new LinkedHashSet<ConstraintViolation<Object>>(violations.size());
+
+        for (final ConstraintViolation<Object> violation : violations)
+        {
+            result.add(new InterpolatedConstraintViolation<Object>(violation, messageInterpolator.interpolate(
+                    violation.getMessageTemplate(), new MessageInterpolator.Context()
+                    {
+                        public ConstraintDescriptor<?> getConstraintDescriptor()
+                        {
+                            return violation.getConstraintDescriptor();
+                        }
+
+                        public Object getValidatedValue()
+                        {
+                            return violation.getInvalidValue();
+                        }
+                    })));
+        }
+        return result;
+    }
+
+    /*
+     * the request thread validates a partition as well
+     */
+    private static synchronized ExecutorService getExecutorService(int threadCount)
+    {
+        int maxPoolSize = Math.max(1, threadCount - 1);
+
+        if (executorService == null)
+        {
+            //threads are created on demand and stop if they aren't used
+            //if all threads are busy, the request thread validates the partition on its own
+            executorService = new ThreadPoolExecutor(0, maxPoolSize, 60L, TimeUnit.SECONDS,
+                    new SynchronousQueue<Runnable>(), new ModelValidationThreadFactory(),
+                    new ThreadPoolExecutor.CallerRunsPolicy());
+        }
+        else if (executorService.getMaximumPoolSize() != maxPoolSize)
+        {
+            executorService.setMaximumPoolSize(maxPoolSize);
+        }
+        return executorService;
+    }
+
+    private static class MessageTemplateInterpolator implements MessageInterpolator
+    {
+        public String interpolate(String messageTemplate, Context context)
+        {
+            return messageTemplate;
+        }
+
+        public String interpolate(String messageTemplate, Context context, Locale locale)
+        {
+            return messageTemplate;
+        }
+    }
+
+    private static class ModelValidationThreadFactory implements ThreadFactory
+    {
+        private final AtomicInteger threadNumber = new AtomicInteger(1);
+
+        public Thread newThread(Runnable runnable)
+        {
+            Thread thread = new Thread(runnable, "extval-model-validation-" + this.threadNumber.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.myfaces.extensions.validator.beanval.validation;
+
+import org.apache.myfaces.extensions.validator.internal.UsageInformation;
+import org.apache.myfaces.extensions.validator.internal.UsageCategory;
+
+import javax.validation.ConstraintValidator;
+import javax.validation.ConstraintValidatorFactory;
+import javax.validation.ValidationException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+
+/**
+ * Constraint-validators might be managed beans and the lookup of such beans requires the FacesContext.
+ * So the worker threads of the parallel model-validation don't create constraint-validators on their own.
+ * They add the lookup to the queue of the request thread and wait for the result.
+ * <p/>
+ * bv implementations cache constraint-validators per factory. So a new instance has to be used per validation.
+ *
+ * @since r7
+ */
+@UsageInformation(UsageCategory.INTERNAL)
+class RequestThreadConstraintValidatorFactory implements ConstraintValidatorFactory
+{
+    private final ConstraintValidatorFactory constraintValidatorFactory;
+    private final ThreadLocal<BlockingQueue<Runnable>> lookupQueue = new ThreadLocal<BlockingQueue<Runnable>>();
+
+    RequestThreadConstraintValidatorFactory(ConstraintValidatorFactory constraintValidatorFactory)
+    {
+        this.constraintValidatorFactory = constraintValidatorFactory;
+    }
+
+    /**
+     * @param lookupQueue queue which is processed by the request thread
+     *                    (null for the request thread itself and to unbind it)
+     */
+    void bindLookupQueue(BlockingQueue<Runnable> lookupQueue)
+    {
+        if (lookupQueue == null)
+        {
+            this.lookupQueue.remove();
+        }
+        else
+        {
+            this.lookupQueue.set(lookupQueue);
+        }
+    }
+
+    public <T extends ConstraintValidator<?, ?>> T getInstance(final Class<T> targetClass)
+    {
+        BlockingQueue<Runnable> currentLookupQueue = this.lookupQueue.get();
+
+        if (currentLookupQueue == null)
+        {
+            return this.constraintValidatorFactory.getInstance(targetClass);
+        }
+
+        FutureTask<T> lookup = new FutureTask<T>(new Callable<T>()
+        {
+            public T call()
+            {
+                return constraintValidatorFactory.getInstance(targetClass);
+            }
+        });
+
+        currentLookupQueue.add(lookup);
+
+        try
+        {
+            return lookup.get();
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            throw new ValidationException(e);
+        }
+        catch (ExecutionException e)
+        {
+            if (e.getCause() instanceof RuntimeException)
+            {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error)
+            {
+                throw (Error) e.getCause();
+            }
+            throw new ValidationException(e.getCause());
+        }
+    }
+}
@@ -128,6 +128,12 @@ public class JoinValidationMetaDataStorageFilter implements MetaDataStorageFilte
 
     private void tryToReplaceMetaDataOfTarget(String target, MetaDataEntry metaDataEntry, List<MetaDataEntry> result)
     {
+        if (!isStaticSyntax(target) && isBeanInstanceUnavailable(metaDataEntry))
+        {
+            //e.g. during the warm-up - the meta-data mustn't be cached without the meta-data of the target
+            throw new IllegalStateException("the meta-data of " + target + " can't be resolved without a bean");
+        }
+
         try
         {
             if (isStaticSyntax(target))
@@ -150,6 +156,14 @@ public class JoinValidationMetaDataStorageFilter implements MetaDataStorageFilte
         Collections.addAll(result, metaDataEntries);
     }
 
+    private boolean isBeanInstanceUnavailable(MetaDataEntry metaDataEntry)
+    {
+        PropertyDetails propertyDetails =
+                metaDataEntry.getProperty(PropertyInformationKeys.PROPERTY_DETAILS, PropertyDetails.class);
+
+        return propertyDetails != null && propertyDetails.getBaseObject() instanceof Class;
+    }
+
     private boolean isStaticSyntax(String target)
     {
         return target.contains(STATIC_SEPARATOR);
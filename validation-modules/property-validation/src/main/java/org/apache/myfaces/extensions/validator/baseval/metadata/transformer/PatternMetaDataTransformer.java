@@ -21,6 +21,7 @@ package org.apache.myfaces.extensions.validator.baseval.metadata.transformer;
 import org.apache.myfaces.extensions.validator.core.metadata.CommonMetaDataKeys;
 import org.apache.myfaces.extensions.validator.core.validation.strategy.ValidationStrategy;
 import org.apache.myfaces.extensions.validator.core.metadata.MetaDataEntry;
+import org.apache.myfaces.extensions.validator.core.storage.PatternStorage;
 import org.apache.myfaces.extensions.validator.baseval.annotation.Pattern;
 import org.apache.myfaces.extensions.validator.util.ExtValUtils;
 import org.apache.myfaces.extensions.validator.internal.UsageInformation;
@@ -30,6 +31,7 @@ import javax.faces.context.FacesContext;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Locale;
+import java.util.regex.PatternSyntaxException;
 
 /**
  * @since 1.x.1
@@ -43,6 +45,7 @@ public class PatternMetaDataTransformer  extends AbstractValidationParameterAwar
         Pattern annotation = metaDataEntry.getValue(Pattern.class);
         
         results.put(CommonMetaDataKeys.PATTERN, (annotation).value());
+        warmUpPatterns(annotation.value());
 
         String validationErrorMsgKey = (annotation).validationErrorMsgKey();
         Locale currentLocale = FacesContext.getCurrentInstance().getViewRoot().getLocale();
@@ -56,4 +59,22 @@ public class PatternMetaDataTransformer  extends AbstractValidationParameterAwar
         results.put(CommonMetaDataKeys.PATTERN_VALIDATION_ERROR_MESSAGE, validationErrorMsg);
         return results;
     }
+
+    //the patterns are compiled during the rendering - so the first postback doesn't have to compile them
+    private void warmUpPatterns(String[] expressions)
+    {
+        PatternStorage patternStorage = ExtValUtils.getStorage(PatternStorage.class, PatternStorage.class.getName());
+
+        for (String expression : expressions)
+        {
+            try
+            {
+                patternStorage.getPattern(expression);
+            }
+            catch (PatternSyntaxException e)
+            {
+                //the violation of an invalid pattern is reported by the PatternStrategy
+            }
+        }
+    }
 }
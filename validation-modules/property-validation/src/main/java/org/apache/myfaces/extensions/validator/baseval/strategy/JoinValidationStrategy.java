@@ -29,6 +29,7 @@ import org.apache.myfaces.extensions.validator.util.ExtValUtils;
 import org.apache.myfaces.extensions.validator.util.ProxyUtils;
 import org.apache.myfaces.extensions.validator.internal.UsageInformation;
 import org.apache.myfaces.extensions.validator.internal.UsageCategory;
+import org.apache.myfaces.extensions.validator.core.validation.StatelessValidationStrategy;
 
 import javax.faces.component.UIComponent;
 import javax.faces.context.FacesContext;
@@ -39,6 +40,7 @@ import java.util.logging.Level;
 /**
  * @since 1.x.1
  */
+@StatelessValidationStrategy
 @UsageInformation(UsageCategory.INTERNAL)
 @Deprecated
 public class JoinValidationStrategy extends AbstractValidationStrategy
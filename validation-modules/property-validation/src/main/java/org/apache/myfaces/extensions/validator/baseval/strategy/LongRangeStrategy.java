@@ -24,6 +24,7 @@ import org.apache.myfaces.extensions.validator.core.metadata.MetaDataEntry;
 import org.apache.myfaces.extensions.validator.core.validation.strategy.AbstractValidationStrategy;
 import org.apache.myfaces.extensions.validator.internal.UsageInformation;
 import org.apache.myfaces.extensions.validator.internal.UsageCategory;
+import org.apache.myfaces.extensions.validator.core.validation.StatelessValidationStrategy;
 
 import javax.faces.component.UIComponent;
 import javax.faces.context.FacesContext;
@@ -34,6 +35,7 @@ import javax.faces.validator.ValidatorException;
  * @since 1.x.1
  */
 @SkipValidationSupport
+@StatelessValidationStrategy
 @UsageInformation(UsageCategory.INTERNAL)
 public class LongRangeStrategy extends AbstractValidationStrategy
 {
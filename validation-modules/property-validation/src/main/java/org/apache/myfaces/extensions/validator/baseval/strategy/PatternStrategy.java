@@ -21,9 +21,12 @@ package org.apache.myfaces.extensions.validator.baseval.strategy;
 import org.apache.myfaces.extensions.validator.baseval.annotation.Pattern;
 import org.apache.myfaces.extensions.validator.baseval.annotation.SkipValidationSupport;
 import org.apache.myfaces.extensions.validator.core.metadata.MetaDataEntry;
+import org.apache.myfaces.extensions.validator.core.storage.PatternStorage;
 import org.apache.myfaces.extensions.validator.core.validation.strategy.AbstractAnnotationValidationStrategy;
 import org.apache.myfaces.extensions.validator.internal.UsageInformation;
 import org.apache.myfaces.extensions.validator.internal.UsageCategory;
+import org.apache.myfaces.extensions.validator.core.validation.StatelessValidationStrategy;
+import org.apache.myfaces.extensions.validator.util.ExtValUtils;
 
 import javax.faces.application.FacesMessage;
 import javax.faces.component.UIComponent;
@@ -34,6 +37,7 @@ import javax.faces.validator.ValidatorException;
  * @since 1.x.1
  */
 @SkipValidationSupport
+@StatelessValidationStrategy
 @UsageInformation(UsageCategory.INTERNAL)
 public class PatternStrategy extends AbstractAnnotationValidationStrategy<Pattern>
 {
@@ -42,10 +46,11 @@ public class PatternStrategy extends AbstractAnnotationValidationStrategy<Patter
             Object convertedObject) throws ValidatorException
     {
         Pattern annotation = metaDataEntry.getValue(Pattern.class);
+        PatternStorage patternStorage = ExtValUtils.getStorage(PatternStorage.class, PatternStorage.class.getName());
 
         for (String expression : annotation.value())
         {
-            if (!java.util.regex.Pattern.compile(expression).matcher(convertedObject.toString()).matches())
+            if (!patternStorage.getPattern(expression).matcher(convertedObject.toString()).matches())
             {
                 throw new ValidatorException(new FacesMessage(
                         FacesMessage.SEVERITY_ERROR,
@@ -22,10 +22,10 @@ import org.apache.myfaces.extensions.validator.baseval.annotation.Required;
 import org.apache.myfaces.extensions.validator.baseval.annotation.SkipValidationSupport;
 import org.apache.myfaces.extensions.validator.core.metadata.MetaDataEntry;
 import org.apache.myfaces.extensions.validator.core.validation.strategy.AbstractAnnotationValidationStrategy;
-import org.apache.myfaces.extensions.validator.core.validation.message.resolver.AbstractValidationErrorMessageResolver;
 import org.apache.myfaces.extensions.validator.core.validation.exception.RequiredValidatorException;
 import org.apache.myfaces.extensions.validator.core.validation.NullValueAwareValidationStrategy;
 import org.apache.myfaces.extensions.validator.core.validation.EmptyValueAwareValidationStrategy;
+import org.apache.myfaces.extensions.validator.core.validation.StatelessValidationStrategy;
 import org.apache.myfaces.extensions.validator.internal.UsageInformation;
 import org.apache.myfaces.extensions.validator.internal.UsageCategory;
 import org.apache.myfaces.extensions.validator.util.ExtValUtils;
@@ -42,11 +42,10 @@ import java.util.Collection;
 @SkipValidationSupport
 @NullValueAwareValidationStrategy
 @EmptyValueAwareValidationStrategy
+@StatelessValidationStrategy
 @UsageInformation(UsageCategory.INTERNAL)
 public class RequiredStrategy extends AbstractAnnotationValidationStrategy<Required>
 {
-    private boolean useFacesBundle = false;
-
     public void processValidation(FacesContext facesContext,
             UIComponent uiComponent, MetaDataEntry metaDataEntry,
             Object convertedObject) throws ValidatorException
@@ -65,20 +64,6 @@ public class RequiredStrategy extends AbstractAnnotationValidationStrategy<Requi
         return annotation.validationErrorMsgKey();
     }
 
-    @Override
-    protected String resolveMessage(String key)
-    {
-        String result = super.resolveMessage(key);
-        String marker = AbstractValidationErrorMessageResolver.MISSING_RESOURCE_MARKER;
-
-        if((marker + key + marker).equals(result))
-        {
-            this.useFacesBundle = true;
-        }
-
-        return result;
-    }
-
     @Override
     protected boolean processAfterValidatorException(FacesContext facesContext,
                                                      UIComponent uiComponent,
@@ -86,7 +71,8 @@ public class RequiredStrategy extends AbstractAnnotationValidationStrategy<Requi
                                                      Object convertedObject,
                                                      ValidatorException e)
     {
-        if(this.useFacesBundle)
+        //the strategy is shared - so the message of the exception is checked instead of keeping a flag
+        if(isUnresolvedMessage(getValidationErrorMsgKey(metaDataEntry.getValue(Required.class)), e.getFacesMessage()))
         {
             ExtValUtils.replaceWithDefaultRequiredMessage(e.getFacesMessage());
         }
@@ -29,6 +29,7 @@ import org.apache.myfaces.extensions.validator.core.el.ValueBindingExpression;
 import org.apache.myfaces.extensions.validator.util.ExtValUtils;
 import org.apache.myfaces.extensions.validator.internal.UsageInformation;
 import org.apache.myfaces.extensions.validator.internal.UsageCategory;
+import org.apache.myfaces.extensions.validator.core.validation.StatelessValidationStrategy;
 
 import javax.faces.component.UIComponent;
 import javax.faces.context.FacesContext;
@@ -39,6 +40,7 @@ import javax.faces.validator.ValidatorException;
  */
 @NullValueAwareValidationStrategy
 @EmptyValueAwareValidationStrategy
+@StatelessValidationStrategy
 @UsageInformation(UsageCategory.INTERNAL)
 public class SkipValidationStrategy implements ValidationStrategy
 {
@@ -20,12 +20,11 @@ package org.apache.myfaces.extensions.validator.crossval;
 
 import org.apache.myfaces.extensions.validator.util.CrossValidationUtils;
 import org.apache.myfaces.extensions.validator.util.JsfUtils;
-import org.apache.myfaces.extensions.validator.util.ReflectionUtils;
 import org.apache.myfaces.extensions.validator.util.ExtValUtils;
-import org.apache.myfaces.extensions.validator.util.ProxyUtils;
 import org.apache.myfaces.extensions.validator.internal.UsageInformation;
 import org.apache.myfaces.extensions.validator.internal.UsageCategory;
 import org.apache.myfaces.extensions.validator.crossval.strategy.AbstractCrossValidationStrategy;
+import org.apache.myfaces.extensions.validator.crossval.strategy.CrossValidationStrategy;
 import org.apache.myfaces.extensions.validator.crossval.storage.CrossValidationStorage;
 import org.apache.myfaces.extensions.validator.crossval.storage.CrossValidationStorageEntry;
 import org.apache.myfaces.extensions.validator.PropertyValidationModuleKey;
@@ -35,7 +34,6 @@ import javax.faces.event.PhaseEvent;
 import javax.faces.event.PhaseId;
 import javax.faces.event.PhaseListener;
 import javax.faces.validator.ValidatorException;
-import javax.faces.FacesException;
 import javax.faces.context.FacesContext;
 
 /**
@@ -55,6 +53,12 @@ public class CrossValidationPhaseListener implements PhaseListener
 
     public void afterPhase(PhaseEvent event)
     {
+        //don't create the storage in phases without cross-validation entries
+        if (!CrossValidationUtils.isCrossValidationStorageAvailable())
+        {
+            return;
+        }
+
         try
         {
             CrossValidationStorage crossValidationStorage = CrossValidationUtils.getOrInitCrossValidationStorage();
@@ -75,16 +79,7 @@ public class CrossValidationPhaseListener implements PhaseListener
                     }
 
                     //call init-method
-                    if(entry.getValidationStrategy() instanceof AbstractCrossValidationStrategy)
-                    {
-                        ReflectionUtils.tryToInvokeMethod(
-                                entry.getValidationStrategy(),
-                                ReflectionUtils.tryToGetMethod(
-                                        ProxyUtils.getUnproxiedClass(entry.getValidationStrategy().getClass()),
-                                        "initCrossValidation",
-                                        CrossValidationStorageEntry.class),
-                                entry);
-                    }
+                    initCrossValidation(entry);
 
                     /*
                      * validation
@@ -93,27 +88,7 @@ public class CrossValidationPhaseListener implements PhaseListener
                 }
                 catch (ValidatorException validatorException)
                 {
-                    boolean addMessage = true;
-
-                    if(entry.getValidationStrategy() instanceof AbstractCrossValidationStrategy)
-                    {
-                        try
-                        {
-                            addMessage = (Boolean)ReflectionUtils.tryToInvokeMethod(
-                                    entry.getValidationStrategy(),
-                                    ReflectionUtils.tryToGetMethod(
-                                            ProxyUtils.getUnproxiedClass(entry.getValidationStrategy().getClass()),
-                                            "processAfterCrossValidatorException",
-                                            CrossValidationStorageEntry.class,
-                                            validatorException.getClass()),
-                                    entry,
-                                    validatorException);
-                        }
-                        catch (Exception e)
-                        {
-                            throw new FacesException(e);
-                        }
-                    }
+                    boolean addMessage = processAfterCrossValidatorException(entry, validatorException);
 
                     if(addMessage)
                     {
@@ -146,6 +121,29 @@ public class CrossValidationPhaseListener implements PhaseListener
         }
     }
 
+    private void initCrossValidation(CrossValidationStorageEntry entry)
+    {
+        CrossValidationStrategy validationStrategy = entry.getValidationStrategy();
+
+        if (validationStrategy instanceof AbstractCrossValidationStrategy)
+        {
+            ((AbstractCrossValidationStrategy) validationStrategy).beforeCrossValidation(entry);
+        }
+    }
+
+    private boolean processAfterCrossValidatorException(CrossValidationStorageEntry entry,
+                                                        ValidatorException validatorException)
+    {
+        CrossValidationStrategy validationStrategy = entry.getValidationStrategy();
+
+        if (validationStrategy instanceof AbstractCrossValidationStrategy)
+        {
+            return ((AbstractCrossValidationStrategy) validationStrategy)
+                    .afterCrossValidatorException(entry, validatorException);
+        }
+        return true;
+    }
+
     public void beforePhase(PhaseEvent event)
     {
         if (!isInitialized)
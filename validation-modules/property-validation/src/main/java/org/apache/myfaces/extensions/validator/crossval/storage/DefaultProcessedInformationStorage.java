@@ -23,19 +23,25 @@ import org.apache.myfaces.extensions.validator.internal.UsageCategory;
 
 import java.util.Map;
 import java.util.HashMap;
+import java.util.List;
+import java.util.IdentityHashMap;
 
 /**
  * @since x.x.3
  */
 @UsageInformation(UsageCategory.INTERNAL)
-public class DefaultProcessedInformationStorage implements ProcessedInformationStorage
+public class DefaultProcessedInformationStorage implements IndexedProcessedInformationStorage
 {
     private Map<String, ProcessedInformationStorageEntry> processedInformationMap =
         new HashMap<String, ProcessedInformationStorageEntry>();
 
+    //index for complex components (e.g. a table) - it gets (re-)built lazily as soon as it's needed
+    private Map<String, EntryIndex> entryIndexMap = new HashMap<String, EntryIndex>();
+
     public void setEntry(String key, ProcessedInformationStorageEntry entry)
     {
         this.processedInformationMap.put(key, entry);
+        this.entryIndexMap.remove(key);
     }
 
     public boolean containsEntry(String key)
@@ -47,4 +53,72 @@ public class DefaultProcessedInformationStorage implements ProcessedInformationS
     {
         return processedInformationMap.get(key);
     }
-}
\ No newline at end of file
+
+    public ProcessedInformationStorageEntry getEntry(String key, Object bean)
+    {
+        ProcessedInformationStorageEntry entry = this.processedInformationMap.get(key);
+
+        if (entry == null)
+        {
+            return null;
+        }
+
+        if (entry.getFurtherEntries() == null)
+        {
+            return entry.getBean() == bean ? entry : null;
+        }
+
+        EntryIndex entryIndex = this.entryIndexMap.get(key);
+
+        //the further entries are also available via the entry itself - so they might have been changed
+        if (entryIndex == null || !entryIndex.isIndexOf(entry))
+        {
+            entryIndex = new EntryIndex(entry);
+            this.entryIndexMap.put(key, entryIndex);
+        }
+
+        return entryIndex.getEntry(bean);
+    }
+
+    private static class EntryIndex
+    {
+        private ProcessedInformationStorageEntry indexedEntry;
+        private List<ProcessedInformationStorageEntry> indexedFurtherEntries;
+        private int indexedFurtherEntryCount;
+        private Map<Object, ProcessedInformationStorageEntry> entriesByBean =
+            new IdentityHashMap<Object, ProcessedInformationStorageEntry>();
+
+        private EntryIndex(ProcessedInformationStorageEntry entry)
+        {
+            this.indexedEntry = entry;
+            this.indexedFurtherEntries = entry.getFurtherEntries();
+            this.indexedFurtherEntryCount = this.indexedFurtherEntries.size();
+
+            this.entriesByBean.put(entry.getBean(), entry);
+
+            //the first entry of a bean wins (like a linear search)
+            Object bean;
+            for (ProcessedInformationStorageEntry furtherEntry : this.indexedFurtherEntries)
+            {
+                bean = furtherEntry.getBean();
+
+                if (!this.entriesByBean.containsKey(bean))
+                {
+                    this.entriesByBean.put(bean, furtherEntry);
+                }
+            }
+        }
+
+        private boolean isIndexOf(ProcessedInformationStorageEntry entry)
+        {
+            return this.indexedEntry == entry &&
+                    this.indexedFurtherEntries == entry.getFurtherEntries() &&
+                    this.indexedFurtherEntryCount == this.indexedFurtherEntries.size();
+        }
+
+        private ProcessedInformationStorageEntry getEntry(Object bean)
+        {
+            return this.entriesByBean.get(bean);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.myfaces.extensions.validator.crossval.storage;
+
+import org.apache.myfaces.extensions.validator.internal.UsageInformation;
+import static org.apache.myfaces.extensions.validator.internal.UsageCategory.INTERNAL;
+
+/**
+ * Allows to resolve the entry of a specific base-object without scanning all entries which were recorded for the
+ * same key (e.g. the inputs of all rows of a data-table which use the expression #{row.property}).
+ *
+ * @since r7
+ */
+@UsageInformation(INTERNAL)
+public interface IndexedProcessedInformationStorage extends ProcessedInformationStorage
+{
+    /**
+     * @param key the key of the entry
+     * @param bean the base-object of the property (compared by identity)
+     * @return the entry which was recorded for the given key and base-object - null otherwise
+     */
+    ProcessedInformationStorageEntry getEntry(String key, Object bean);
+}
@@ -88,6 +88,31 @@ public abstract class AbstractCrossValidationStrategy<A extends Annotation> exte
         //not available for cross validation - use initCrossValidation
     }
 
+    /**
+     * Called by the cross-validation phase-listener before the cross-validation of the given entry.
+     *
+     * @param crossValidationStorageEntry the entry which gets validated
+     * @since r7
+     */
+    public void beforeCrossValidation(CrossValidationStorageEntry crossValidationStorageEntry)
+    {
+        initCrossValidation(crossValidationStorageEntry);
+    }
+
+    /**
+     * Called by the cross-validation phase-listener if the cross-validation of the given entry failed.
+     *
+     * @param crossValidationStorageEntry the entry which was validated
+     * @param validatorException the exception of the failed validation
+     * @return true if the violation message should be added
+     * @since r7
+     */
+    public boolean afterCrossValidatorException(CrossValidationStorageEntry crossValidationStorageEntry,
+                                                ValidatorException validatorException)
+    {
+        return processAfterCrossValidatorException(crossValidationStorageEntry, validatorException);
+    }
+
     protected void initCrossValidation(CrossValidationStorageEntry crossValidationStorageEntry)
     {
         //override if needed
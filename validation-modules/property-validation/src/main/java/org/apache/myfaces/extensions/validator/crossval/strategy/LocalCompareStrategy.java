@@ -29,9 +29,9 @@ import org.apache.myfaces.extensions.validator.core.el.ValueBindingExpression;
 import org.apache.myfaces.extensions.validator.core.property.PropertyInformationKeys;
 import org.apache.myfaces.extensions.validator.util.CrossValidationUtils;
 import org.apache.myfaces.extensions.validator.util.ReflectionUtils;
+import org.apache.myfaces.extensions.validator.core.property.PropertyAccessor;
 import org.apache.myfaces.extensions.validator.util.ProxyUtils;
 
-import java.lang.reflect.Method;
 import java.util.logging.Logger;
 
 /**
@@ -116,21 +116,15 @@ class LocalCompareStrategy implements ReferencingStrategy
 
     protected Object getValueOfProperty(Object base, String property)
     {
-        property = property.substring(0,1).toUpperCase() + property.substring(1, property.length());
         Class targetClass = ProxyUtils.getUnproxiedClass(base.getClass());
-        Method targetMethod = ReflectionUtils.tryToGetMethod(targetClass, "get" + property);
+        PropertyAccessor propertyAccessor = ReflectionUtils.getPropertyAccessor(targetClass, property);
 
-        if(targetMethod == null)
-        {
-            targetMethod = ReflectionUtils.tryToGetMethod(targetClass, "is" + property);
-        }
-
-        if(targetMethod == null)
+        if(!propertyAccessor.isReadable())
         {
             throw new IllegalStateException(
                 "class " + base.getClass() + " has no public get/is " + property.toLowerCase());
         }
-        return ReflectionUtils.tryToInvokeMethod(base, targetMethod);
+        return propertyAccessor.getValue(base);
     }
 
     private boolean isModelAwareCrossValidation(
@@ -133,7 +133,13 @@ class LocalPropertyChainCompareStrategy extends LocalCompareStrategy
             targetKey = targetKey.substring(targetKey.lastIndexOf(".") + 1, targetKey.length());
         }
 
-        Object targetValue = getValueOfProperty(newBase, targetKey);
+        //the chain is walked null-safe - a null in the chain results in a null value
+        Object targetValue = null;
+
+        if(newBase != null)
+        {
+            targetValue = getValueOfProperty(newBase, targetKey);
+        }
 
         ProcessedInformationStorageEntry targetEntry = new ProcessedInformationStorageEntry();
         targetEntry.setBean(newBase);
@@ -22,6 +22,7 @@ import org.apache.myfaces.extensions.validator.crossval.storage.CrossValidationS
 import org.apache.myfaces.extensions.validator.crossval.storage.ProcessedInformationStorageEntry;
 import org.apache.myfaces.extensions.validator.crossval.storage.CrossValidationStorageEntry;
 import org.apache.myfaces.extensions.validator.crossval.storage.ProcessedInformationStorage;
+import org.apache.myfaces.extensions.validator.crossval.storage.IndexedProcessedInformationStorage;
 import org.apache.myfaces.extensions.validator.internal.UsageInformation;
 import org.apache.myfaces.extensions.validator.internal.UsageCategory;
 import org.apache.myfaces.extensions.validator.internal.ToDo;
@@ -41,6 +42,15 @@ public class CrossValidationUtils
         return ExtValUtils.getStorage(CrossValidationStorage.class, CrossValidationStorage.class.getName());
     }
 
+    /**
+     * @return true if cross-validation entries were added during the current request (and not processed yet)
+     * @since r7
+     */
+    public static boolean isCrossValidationStorageAvailable()
+    {
+        return ExtValUtils.isStorageAvailable(CrossValidationStorage.class, CrossValidationStorage.class.getName());
+    }
+
     public static void resetCrossValidationStorage()
     {
         ExtValUtils.resetStorage(CrossValidationStorage.class, CrossValidationStorage.class.getName());
@@ -83,14 +93,22 @@ public class CrossValidationUtils
 
         //process complex component entries (e.g. a table)
         //supported: cross-component but no cross-entity validation (= locale validation)
-        if (processedInformationEntry.getBean().equals(targetBean))
+        //the beans are compared by identity - e.g. the rows of a table might be equal
+        if (processedInformationEntry.getBean() == targetBean)
         {
             return processedInformationEntry;
         }
 
+        //avoids a linear search for every row of a table
+        if (processedInformationStorage instanceof IndexedProcessedInformationStorage)
+        {
+            return ((IndexedProcessedInformationStorage) processedInformationStorage)
+                    .getEntry(targetKey, targetBean);
+        }
+
         for (ProcessedInformationStorageEntry entry : processedInformationEntry.getFurtherEntries())
         {
-            if (entry.getBean().equals(targetBean))
+            if (entry.getBean() == targetBean)
             {
                 return entry;
             }